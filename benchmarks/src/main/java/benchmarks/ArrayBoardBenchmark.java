@@ -0,0 +1,82 @@
+package benchmarks;
+
+import model.ArrayHexBoard;
+import model.BitBoard;
+import model.CellState;
+import model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the flip-rule primitives of the array-backed boards on their own: Kogge-Stone move
+ * generation and flips on the {@link BitBoard}, and ray-table move generation and flip
+ * counting on the {@link ArrayHexBoard}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBoardBenchmark {
+  private BitBoard[] bitBoards;
+  private ArrayHexBoard[] hexBoards;
+  private int[] hexMoves;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Game[] squares = Positions.midGame(Positions.SQUARE_BITS, 1);
+    Game[] hexes = Positions.midGame(Positions.HEX_ARRAY, 1);
+    bitBoards = new BitBoard[Positions.COUNT];
+    hexBoards = new ArrayHexBoard[Positions.COUNT];
+    for (int i = 0; i < Positions.COUNT; i++) {
+      bitBoards[i] = (BitBoard) squares[i].getBoard();
+      hexBoards[i] = (ArrayHexBoard) hexes[i].getBoard();
+    }
+    hexMoves = new int[hexBoards[0].cellCount()];
+  }
+
+  @Benchmark
+  public long bitBoardLegalMoves() {
+    return bitBoards[next++ & (Positions.COUNT - 1)].legalMoves(CellState.X);
+  }
+
+  @Benchmark
+  public long bitBoardFlips() {
+    BitBoard board = bitBoards[next++ & (Positions.COUNT - 1)];
+    long own = board.getBits(CellState.X);
+    long opponent = board.getBits(CellState.O);
+    long flips = 0;
+    for (long moves = BitBoard.legalMoves(own, opponent); moves != 0; moves &= moves - 1) {
+      flips |= BitBoard.flips(Long.numberOfTrailingZeros(moves), own, opponent);
+    }
+    return flips;
+  }
+
+  @Benchmark
+  public int hexLegalMoves() {
+    return hexBoards[next++ & (Positions.COUNT - 1)].legalMoves(CellState.X, hexMoves);
+  }
+
+  @Benchmark
+  public int hexFlipCounts() {
+    ArrayHexBoard board = hexBoards[next++ & (Positions.COUNT - 1)];
+    int count = board.legalMoves(CellState.X, hexMoves);
+    int flips = 0;
+    for (int i = 0; i < count; i++) {
+      flips += board.flipCount(hexMoves[i], CellState.X);
+    }
+    return flips;
+  }
+}
@@ -0,0 +1,55 @@
+package benchmarks;
+
+import model.Board;
+import model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and copying boards and games.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  private Game[] games;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    games = Positions.midGame(board, 1);
+  }
+
+  @Benchmark
+  public Game newGame() {
+    return Positions.newGame(board);
+  }
+
+  @Benchmark
+  public Board copyBoard() {
+    return games[next++ & (Positions.COUNT - 1)].getBoard().copy();
+  }
+
+  @Benchmark
+  public Game copyGame() {
+    return games[next++ & (Positions.COUNT - 1)].copy();
+  }
+}
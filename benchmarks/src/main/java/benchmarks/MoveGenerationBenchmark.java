@@ -0,0 +1,86 @@
+package benchmarks;
+
+import model.Game;
+import player.GamePlayers;
+import strategies.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures legal move generation: the full scan of the board that the valid moves are defined
+ * by, the incremental upkeep of the valid move cache across a move, and the candidate cells of
+ * the boards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  private Game[] games;
+  private Move[] moves;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    games = Positions.midGame(board, 1);
+    moves = Positions.moves(games, 2);
+  }
+
+  @Benchmark
+  public int fullScan() {
+    Game game = games[next++ & (Positions.COUNT - 1)];
+    GamePlayers player = game.getCurrentPlayer();
+    int size = game.getBoardSize();
+    int count = 0;
+    for (int q = 0; q < size; q++) {
+      for (int r = 0; r < size; r++) {
+        if (game.isValidMove(q, r, player)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int cachedAcrossMakeUnmake() {
+    int i = next++ & (Positions.COUNT - 1);
+    Game game = games[i];
+    Move move = moves[i];
+    if (move == null) {
+      return game.getValidMoves().size();
+    }
+    game.makeMove(move.getQ(), move.getR());
+    int count = game.getValidMoves().size();
+    game.unmakeMove();
+    return count + game.getValidMoves().size();
+  }
+
+  @Benchmark
+  public int boardCandidates() {
+    return games[next++ & (Positions.COUNT - 1)].getBoard().getValidMoves().size();
+  }
+
+  @Benchmark
+  public List<Move> cached() {
+    return games[next++ & (Positions.COUNT - 1)].getValidMoves();
+  }
+}
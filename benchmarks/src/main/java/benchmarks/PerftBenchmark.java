@@ -0,0 +1,69 @@
+package benchmarks;
+
+import model.Game;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures move generation and make/unmake throughput with perft from the opening position.
+ * The {@code nodes} counter reports the leaves counted per second, which is the figure to
+ * compare between board implementations and across changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerftBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  @Param({"4"})
+  public int depth;
+
+  @Param({"1", "4"})
+  public int threads;
+
+  private Game game;
+
+  /**
+   * The leaves counted, reported by JMH as a rate next to the operations.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Nodes {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      nodes = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    game = Positions.newGame(board);
+  }
+
+  @Benchmark
+  public long perft(Nodes counter) {
+    long leaves = game.perft(depth, threads);
+    counter.nodes += leaves;
+    return leaves;
+  }
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import model.Game;
+import strategies.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures playing moves and flipping discs: a move and its take-back through the undo
+ * stack, and {@link Game#play(int, int)} on a fresh copy of the position, with the copy alone
+ * as the baseline to subtract.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  private Game[] games;
+  private Move[] moves;
+  private Game[] whiteGames;
+  private Move[] whiteMoves;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    games = Positions.midGame(board, 1);
+    moves = Positions.moves(games, 2);
+    whiteGames = Positions.whiteToMove(games);
+    whiteMoves = Positions.moves(whiteGames, 3);
+  }
+
+  @Benchmark
+  public long makeUnmake() {
+    int i = next++ & (Positions.COUNT - 1);
+    Game game = games[i];
+    Move move = moves[i];
+    if (move == null) {
+      return 0;
+    }
+    game.makeMove(move.getQ(), move.getR());
+    long hash = game.getPositionHash();
+    game.unmakeMove();
+    return hash;
+  }
+
+  @Benchmark
+  public Game copyAndPlay() {
+    int i = next++ & (Positions.COUNT - 1);
+    Game game = whiteGames[i].copy();
+    Move move = whiteMoves[i];
+    if (move != null) {
+      game.play(move.getQ(), move.getR());
+    }
+    return game;
+  }
+
+  @Benchmark
+  public Game copyOnly() {
+    return whiteGames[next++ & (Positions.COUNT - 1)].copy();
+  }
+}
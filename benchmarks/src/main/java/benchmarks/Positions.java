@@ -0,0 +1,124 @@
+package benchmarks;
+
+import model.ArrayHexBoard;
+import model.BitBoard;
+import model.BoardImpl;
+import model.Game;
+import model.ReversiGame;
+import model.SquareBoard;
+import model.SquareReversiGame;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The corpus of positions the benchmarks run on: mid-game positions reached by playing seeded
+ * random moves from the opening, on each of the board implementations.
+ */
+final class Positions {
+  /**
+   * The board implementations, as used in the {@code board} parameter of the benchmarks.
+   */
+  static final String HEX_CELLS = "hex-cells";
+  static final String HEX_ARRAY = "hex-array";
+  static final String SQUARE_CELLS = "square-cells";
+  static final String SQUARE_BITS = "square-bits";
+
+  /**
+   * The number of positions in a corpus, a power of two so that benchmarks can cycle through
+   * them with a mask.
+   */
+  static final int COUNT = 16;
+
+  private static final int MIN_PLIES = 8;
+  private static final int MAX_PLIES = 24;
+
+  private Positions() {
+  }
+
+  /**
+   * Creates a game in the opening position on the named board implementation.
+   *
+   * @param board One of the board names above.
+   * @return A new game.
+   */
+  static Game newGame(String board) {
+    switch (board) {
+      case HEX_CELLS:
+        return new ReversiGame(new BoardImpl(6));
+      case HEX_ARRAY:
+        return new ReversiGame(new ArrayHexBoard(6));
+      case SQUARE_CELLS:
+        return new SquareReversiGame(new SquareBoard(8));
+      case SQUARE_BITS:
+        return new SquareReversiGame(new BitBoard());
+      default:
+        throw new IllegalArgumentException("Unknown board: " + board);
+    }
+  }
+
+  /**
+   * Creates the corpus of mid-game positions for the named board implementation. The same
+   * seed gives the same positions on both implementations of a grid type.
+   *
+   * @param board One of the board names above.
+   * @param seed  The seed of the random moves.
+   * @return {@link #COUNT} games in mid-game positions.
+   */
+  static Game[] midGame(String board, long seed) {
+    Random random = new Random(seed);
+    Game[] games = new Game[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      Game game = newGame(board);
+      int plies = MIN_PLIES + random.nextInt(MAX_PLIES - MIN_PLIES + 1);
+      for (int ply = 0; ply < plies; ply++) {
+        List<Move> moves = game.getValidMoves();
+        if (moves.isEmpty()) {
+          game.makePass();
+        } else {
+          Move move = moves.get(random.nextInt(moves.size()));
+          game.makeMove(move.getQ(), move.getR());
+        }
+      }
+      // Start from a clean copy, without the history of the moves that led here.
+      games[i] = game.copy();
+    }
+    return games;
+  }
+
+  /**
+   * Picks a valid move in each position, or null where the player to move has none.
+   *
+   * @param games The positions.
+   * @param seed  The seed of the choice.
+   * @return The moves, one per position.
+   */
+  static Move[] moves(Game[] games, long seed) {
+    Random random = new Random(seed);
+    Move[] moves = new Move[games.length];
+    for (int i = 0; i < games.length; i++) {
+      List<Move> valid = games[i].getValidMoves();
+      moves[i] = valid.isEmpty() ? null : valid.get(random.nextInt(valid.size()));
+    }
+    return moves;
+  }
+
+  /**
+   * Copies the positions, making sure White is to move in every copy. Playing a move for
+   * White does not let an AI player respond, so {@link Game#play(int, int)} can be measured on
+   * its own.
+   *
+   * @param games The positions.
+   * @return Copies of the positions with White to move.
+   */
+  static Game[] whiteToMove(Game[] games) {
+    Game[] copies = new Game[games.length];
+    for (int i = 0; i < games.length; i++) {
+      copies[i] = games[i].copy();
+      copies[i].setCurrentPlayer(GamePlayers.White);
+    }
+    return copies;
+  }
+}
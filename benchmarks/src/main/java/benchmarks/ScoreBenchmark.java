@@ -0,0 +1,59 @@
+package benchmarks;
+
+import model.CellState;
+import model.Game;
+import player.GamePlayers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scoring a position: the board scan of {@link Game#score(GamePlayers)}, the
+ * incrementally kept disc counts, and the game-over check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  private Game[] games;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    games = Positions.midGame(board, 1);
+  }
+
+  @Benchmark
+  public int score() {
+    Game game = games[next++ & (Positions.COUNT - 1)];
+    return game.score(GamePlayers.Black) - game.score(GamePlayers.White);
+  }
+
+  @Benchmark
+  public int discCount() {
+    Game game = games[next++ & (Positions.COUNT - 1)];
+    return game.getBoard().getDiscCount(CellState.X) - game.getBoard().getDiscCount(CellState.O);
+  }
+
+  @Benchmark
+  public boolean isGameOver() {
+    return games[next++ & (Positions.COUNT - 1)].isGameOver();
+  }
+}
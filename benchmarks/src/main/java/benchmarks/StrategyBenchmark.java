@@ -0,0 +1,81 @@
+package benchmarks;
+
+import model.Game;
+import strategies.AlphaBetaStrategy;
+import strategies.AvoidCornersStrategy;
+import strategies.CaptureStrategy;
+import strategies.GoForCornersStrategy;
+import strategies.MinimaxStrategy;
+import strategies.Move;
+import strategies.ReversiStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the move decisions of the strategies over the mid-game corpus. The strategy is
+ * created anew for every iteration, so transposition tables start empty and only carry over
+ * between the positions of one iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark {
+  @Param({Positions.HEX_CELLS, Positions.HEX_ARRAY, Positions.SQUARE_CELLS,
+      Positions.SQUARE_BITS})
+  public String board;
+
+  @Param({"capture", "corners", "avoid-corners", "minimax", "alphabeta"})
+  public String strategy;
+
+  private Game[] games;
+  private ReversiStrategy reversiStrategy;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    games = Positions.midGame(board, 1);
+  }
+
+  @Setup(Level.Iteration)
+  public void createStrategy() {
+    switch (strategy) {
+      case "capture":
+        reversiStrategy = new CaptureStrategy();
+        break;
+      case "corners":
+        reversiStrategy = new GoForCornersStrategy();
+        break;
+      case "avoid-corners":
+        reversiStrategy = new AvoidCornersStrategy();
+        break;
+      case "minimax":
+        reversiStrategy = new MinimaxStrategy(2, 16);
+        break;
+      case "alphabeta":
+        reversiStrategy = new AlphaBetaStrategy(4, 16);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    }
+  }
+
+  @Benchmark
+  public Move chooseMove() {
+    return reversiStrategy.chooseMove(games[next++ & (Positions.COUNT - 1)]);
+  }
+}
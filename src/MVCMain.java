@@ -5,33 +5,49 @@ import model.ReversiGame;
 import player.AIPlayer;
 import player.HumanPlayer;
 import player.Player;
+import records.GameJournal;
+import strategies.AlphaBetaStrategy;
 import strategies.AvoidCornersStrategy;
 import strategies.CaptureStrategy;
 import strategies.GoForCornersStrategy;
+import strategies.IterativeDeepeningStrategy;
+import strategies.OpeningBook;
+import strategies.ReversiStrategy;
 import view.IView;
 import view.IViewImpl;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Class to run the Reversi game.
  */
 public class MVCMain {
+  private static final String JOURNAL = "hex-game.journal";
+  private static final String BOOK = "hex.book";
+
   /**
-   * Main class to run the Reversi game.
-   * @param args can take in human or AI player with different strategies
+   * Main class to run the Reversi game. The game in progress is kept in a journal file and
+   * taken up again on the next start if the program stopped before it was over.
+   * @param args can take in human or AI player with different strategies, and the journal file
    */
   public static void main(String[] args) {
 
-    if (args.length != 2) {
-      System.out.println("Usage: MVCMain <player1_type> <player2_strategy>" + args[0] + args[1]);
+    if (args.length != 2 && args.length != 3) {
+      System.out.println("Usage: MVCMain <player1_type> <player2_strategy> [journal_file]");
       System.exit(1);
     }
 
-    ReadOnlyReversiModel model = new ReversiGame();
+    Path journalPath = Paths.get(args.length == 3 ? args[2] : JOURNAL);
+    ReversiGame model = GameJournal.resume(journalPath, ReversiGame.class, ReversiGame::new);
     IView view = new IViewImpl(model);
     IView view2 = new IViewImpl(model);
 
-    Player player1 = createPlayer(args[0], model);
-    Player player2 = createPlayer(args[1], model);
+    OpeningBook book = openBook(Paths.get(BOOK));
+    Player player1 = createPlayer(args[0], model, book);
+    Player player2 = createPlayer(args[1], model, book);
 
     IController controller = new IControllerImpl(model, player1, view);
     IController controller2 = new IControllerImpl(model, player2, view2);
@@ -42,7 +58,26 @@ public class MVCMain {
     model.startGame();
   }
 
-  private static Player createPlayer(String arg, ReadOnlyReversiModel model) {
+  /**
+   * Opens the opening book of the searching AI players, if there is one. The players search
+   * from the first move if the book is missing or cannot be read.
+   *
+   * @param bookPath the book file, built with OpeningBookMain.
+   * @return the book, or null if there is none.
+   */
+  private static OpeningBook openBook(Path bookPath) {
+    if (!Files.exists(bookPath)) {
+      return null;
+    }
+    try {
+      return new OpeningBook(bookPath);
+    } catch (IOException e) {
+      System.out.println("Cannot open the opening book " + bookPath + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  private static Player createPlayer(String arg, ReadOnlyReversiModel model, OpeningBook book) {
     switch (arg.toLowerCase()) {
       case "human":
         return new HumanPlayer(model);
@@ -52,8 +87,18 @@ public class MVCMain {
         return new AIPlayer(model, new GoForCornersStrategy());
       case "strategy3":
         return new AIPlayer(model, new AvoidCornersStrategy());
+      case "strategy4":
+        return searchPlayer(model, new AlphaBetaStrategy(), book);
+      case "strategy5":
+        return searchPlayer(model,
+                new IterativeDeepeningStrategy(new AlphaBetaStrategy(), 1000), book);
       default:
         throw new IllegalArgumentException("Invalid player type/strategy: " + arg);
     }
   }
+
+  private static Player searchPlayer(ReadOnlyReversiModel model, ReversiStrategy strategy,
+                                     OpeningBook book) {
+    return book == null ? new AIPlayer(model, strategy) : new AIPlayer(model, strategy, book);
+  }
 }
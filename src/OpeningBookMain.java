@@ -0,0 +1,46 @@
+import model.ReversiGame;
+import model.SquareReversiGame;
+import strategies.AlphaBetaStrategy;
+import strategies.OpeningBookBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Class to build an opening book offline, letting the alpha-beta search choose the move of
+ * every position of the opening.
+ */
+
+public class OpeningBookMain {
+  private static final int SEARCH_DEPTH = 8;
+  private static final int TABLE_MEGABYTES = 64;
+
+  /**
+   * Main method to build the book and write it to a file.
+   * @param args the grid type (square or hex), the number of plies in the book and the file
+   *             to write, hex.book for MVCMain
+   * @throws IOException if the book cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.out.println("Usage: OpeningBookMain <square|hex> <plies> <book_file>");
+      System.exit(1);
+    }
+
+    boolean square = args[0].equalsIgnoreCase("square");
+    if (!square && !args[0].equalsIgnoreCase("hex")) {
+      throw new IllegalArgumentException("Invalid grid type: " + args[0]);
+    }
+    int plies = Integer.parseInt(args[1]);
+    Path path = Paths.get(args[2]);
+
+    OpeningBookBuilder builder = new OpeningBookBuilder(
+            new AlphaBetaStrategy(SEARCH_DEPTH, TABLE_MEGABYTES), plies);
+    long start = System.nanoTime();
+    builder.add(square ? new SquareReversiGame() : new ReversiGame());
+    builder.write(path);
+    System.out.printf("Wrote %d positions to %s in %d ms%n", builder.size(), path,
+            (System.nanoTime() - start) / 1_000_000);
+  }
+}
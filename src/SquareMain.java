@@ -1,24 +1,32 @@
 import controller.IController;
 import controller.IControllerImpl;
-import model.ReadOnlyReversiModel;
 import model.SquareReversiGame;
 import player.AIPlayer;
 import player.HumanPlayer;
 import player.Player;
+import records.GameJournal;
 import view.IView;
 import view.SquareGridView;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Class to represent a demo of Reversi game.
  * Level 3 - MVC Pattern
  */
 public class SquareMain {
+  private static final String JOURNAL = "square-game.journal";
+
   /**
-   * Main class for reversi game.
-   * @param args takes in the view and model implementation.
+   * Main class for reversi game. The game in progress is kept in a journal file and taken up
+   * again on the next start if the program stopped before it was over.
+   * @param args takes in the journal file, if not the default one.
    */
   public static void main(String[] args) {
-    ReadOnlyReversiModel model = new SquareReversiGame();
+    Path journalPath = Paths.get(args.length > 0 ? args[0] : JOURNAL);
+    SquareReversiGame model = GameJournal.resume(journalPath, SquareReversiGame.class,
+            SquareReversiGame::new);
     IView view = new SquareGridView(model);
     IView view2 = new SquareGridView(model);
 
@@ -5,9 +5,11 @@ import model.SquareReversiGame;
 import player.AIPlayer;
 import player.HumanPlayer;
 import player.Player;
+import strategies.AlphaBetaStrategy;
 import strategies.AvoidCornersStrategy;
 import strategies.CaptureStrategy;
 import strategies.GoForCornersStrategy;
+import strategies.IterativeDeepeningStrategy;
 import view.IView;
 import view.SquareGridView;
 
@@ -54,6 +56,11 @@ public class SquareStrategyMain {
         return new AIPlayer(model, new GoForCornersStrategy());
       case "strategy3":
         return new AIPlayer(model, new AvoidCornersStrategy());
+      case "strategy4":
+        return new AIPlayer(model, new AlphaBetaStrategy());
+      case "strategy5":
+        return new AIPlayer(model,
+                new IterativeDeepeningStrategy(new AlphaBetaStrategy(), 1000));
       default:
         throw new IllegalArgumentException("Invalid player type/strategy: " + arg);
     }
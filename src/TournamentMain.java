@@ -0,0 +1,52 @@
+import model.ArrayHexBoard;
+import model.BitBoard;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import strategies.AlphaBetaStrategy;
+import strategies.AvoidCornersStrategy;
+import strategies.CaptureStrategy;
+import strategies.GoForCornersStrategy;
+import strategies.MinimaxStrategy;
+import tournament.Tournament;
+import tournament.TournamentResult;
+
+/**
+ * Class to run a headless round-robin tournament between the strategies, without any view.
+ */
+
+public class TournamentMain {
+  private static final int OPENING_PLIES = 4;
+  private static final long SEED = 1;
+
+  /**
+   * Main method to run the tournament and print the results.
+   * @param args the grid type (square or hex), the number of games per pairing and optionally
+   *             the number of threads
+   */
+  public static void main(String[] args) {
+    if (args.length < 2 || args.length > 3) {
+      System.out.println("Usage: TournamentMain <square|hex> <games_per_pairing> [threads]");
+      System.exit(1);
+    }
+
+    boolean square = args[0].equalsIgnoreCase("square");
+    if (!square && !args[0].equalsIgnoreCase("hex")) {
+      throw new IllegalArgumentException("Invalid grid type: " + args[0]);
+    }
+    int games = Integer.parseInt(args[1]);
+    int threads = args.length == 3 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+
+    Tournament tournament = new Tournament(square
+            ? () -> new SquareReversiGame(new BitBoard())
+            : () -> new ReversiGame(new ArrayHexBoard(6)), OPENING_PLIES, threads);
+    tournament.addEntrant("capture", CaptureStrategy::new);
+    tournament.addEntrant("corners", GoForCornersStrategy::new);
+    tournament.addEntrant("avoid", AvoidCornersStrategy::new);
+    tournament.addEntrant("minimax", () -> new MinimaxStrategy(1, 1));
+    tournament.addEntrant("alphabeta", () -> new AlphaBetaStrategy(3, 1));
+
+    TournamentResult result = tournament.run(games, SEED);
+    System.out.print(result);
+  }
+}
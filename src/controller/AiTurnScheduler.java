@@ -0,0 +1,188 @@
+package controller;
+
+import model.AiTurnHandler;
+import model.Game;
+import player.GamePlayers;
+import strategies.Move;
+import strategies.ReversiStrategy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.swing.SwingUtilities;
+
+/**
+ * Plays the turns of the AI player in the background, so that choosing a move never blocks
+ * the thread that played the move before it (usually the Swing event dispatch thread).
+ *
+ * <p>When the game hands over the AI player's turn, the strategy searches a copy of the game
+ * on a background thread. The chosen move is then sent as an event to the event thread, where
+ * it is played on the game with {@link Game#playAiMove(Move)} and the move listeners are told.
+ * A move is dropped instead of played if the turn was cancelled or a newer turn started. If
+ * the board changed while the strategy was thinking, the move is dropped and the turn is
+ * started again on the new board, as long as the AI player is still to move. If the strategy
+ * fails, the AI player passes so that the game goes on, and the failure is then rethrown on
+ * the event thread.</p>
+ *
+ * <p>{@link #cancel()} drops the turn in progress and {@link #shutdown()} stops the scheduler
+ * for good, for example when the game is quit. The search itself runs to its end in the
+ * background; only its result is thrown away.</p>
+ */
+public class AiTurnScheduler implements AiTurnHandler {
+  private final ReversiStrategy strategy;
+  private final Executor eventThread;
+  private final ExecutorService executor;
+  private final List<Runnable> moveListeners = new CopyOnWriteArrayList<>();
+
+  private Future<?> pending;
+  private long turn; // numbers the turns, so that results of older turns are dropped
+  private boolean shutdown;
+
+  /**
+   * Creates a scheduler that plays the moves of the given strategy on the Swing event
+   * dispatch thread.
+   *
+   * @param strategy The strategy of the AI player.
+   */
+  public AiTurnScheduler(ReversiStrategy strategy) {
+    this(strategy, SwingUtilities::invokeLater);
+  }
+
+  /**
+   * Creates a scheduler that plays the moves of the given strategy on the given event thread.
+   *
+   * @param strategy    The strategy of the AI player.
+   * @param eventThread Runs the events that play the chosen moves.
+   * @throws IllegalArgumentException if the strategy or the event thread is null.
+   */
+  public AiTurnScheduler(ReversiStrategy strategy, Executor eventThread) {
+    if (strategy == null || eventThread == null) {
+      throw new IllegalArgumentException("Strategy and event thread cannot be null.");
+    }
+    this.strategy = strategy;
+    this.eventThread = eventThread;
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ai-turn");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Starts choosing the AI player's move on a copy of the game, dropping any turn still in
+   * progress. Does nothing once the scheduler is shut down.
+   *
+   * @param game The game, with the AI player to move.
+   */
+  @Override
+  public synchronized void aiTurn(Game game) {
+    if (shutdown) {
+      return;
+    }
+    cancel();
+    long ticket = turn;
+    long board = game.getBoard().getHash();
+    Game copy = game.copy();
+    pending = executor.submit(() -> {
+      try {
+        Move move = strategy.chooseMove(copy);
+        eventThread.execute(() -> deliver(game, ticket, board, move));
+      } catch (RuntimeException e) {
+        eventThread.execute(() -> fail(game, ticket, e));
+      }
+    });
+  }
+
+  /**
+   * Adds a listener told on the event thread after every move the scheduler plays, for
+   * example to repaint a view.
+   *
+   * @param listener The listener to add.
+   */
+  public void addMoveListener(Runnable listener) {
+    moveListeners.add(listener);
+  }
+
+  /**
+   * Checks whether the AI player is choosing a move.
+   *
+   * @return True if a turn is in progress, false otherwise.
+   */
+  @Override
+  public synchronized boolean isThinking() {
+    return pending != null;
+  }
+
+  /**
+   * Drops the turn in progress, if any: its move will not be played.
+   */
+  public synchronized void cancel() {
+    turn++;
+    if (pending != null) {
+      pending.cancel(true);
+      pending = null;
+    }
+  }
+
+  /**
+   * Drops the turn in progress and stops the background thread. Later turns are ignored.
+   */
+  public synchronized void shutdown() {
+    shutdown = true;
+    cancel();
+    executor.shutdownNow();
+  }
+
+  /*
+   * Ends the turn on the event thread after the strategy threw: the AI player passes, so that
+   * the game is not left waiting for it, and the failure is rethrown there.
+   */
+  private void fail(Game game, long ticket, RuntimeException e) {
+    synchronized (this) {
+      if (shutdown || ticket != turn) {
+        return;
+      }
+      pending = null;
+    }
+    if (isAiToMove(game)) {
+      game.playAiMove(null);
+      for (Runnable listener : moveListeners) {
+        listener.run();
+      }
+    }
+    throw new IllegalStateException("AI player failed to choose a move.", e);
+  }
+
+  /*
+   * Plays the chosen move on the event thread, unless the turn is no longer current.
+   */
+  private void deliver(Game game, long ticket, long board, Move move) {
+    synchronized (this) {
+      if (shutdown || ticket != turn) {
+        return;
+      }
+      pending = null;
+    }
+    if (game.getBoard().getHash() != board) {
+      if (isAiToMove(game)) {
+        aiTurn(game); // the move was chosen for another board
+      }
+      return;
+    }
+    game.playAiMove(move);
+    for (Runnable listener : moveListeners) {
+      listener.run();
+    }
+  }
+
+  /*
+   * Checks whether the game still waits for the AI player, which plays White as in the
+   * games' play and pass.
+   */
+  private static boolean isAiToMove(Game game) {
+    return game.getCurrentPlayer() == GamePlayers.White;
+  }
+}
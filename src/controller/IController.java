@@ -19,4 +19,9 @@ public interface IController {
    * Ends the Reversi game.
    */
   void endGame();
+
+  /**
+   * Quits the Reversi game, stopping any AI turn in progress.
+   */
+  void quitGame();
 }
\ No newline at end of file
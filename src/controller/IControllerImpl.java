@@ -1,19 +1,25 @@
 package controller;
 
+import model.ModelListener;
 import model.ReadOnlyReversiModel;
+import player.AIPlayer;
+import player.GamePlayers;
 import player.Player;
 import view.IView;
 
 /**
  * Represents implementation for the controller.
  */
-public class IControllerImpl implements IController {
+public class IControllerImpl implements IController, ModelListener {
   private final ReadOnlyReversiModel model;
   private final Player player;
   private final IView view;
+  private final AiTurnScheduler scheduler; // null unless the player is an AI with a strategy
 
   /**
-   * Represents implementation for the controller.
+   * Represents implementation for the controller. The controller listens to the model to stop
+   * the AI player once the game is over. The turns of an AI player with a strategy are played in
+   * the background by an {@link AiTurnScheduler}.
    *
    * @param model  the Reversi model.
    * @param player a Reversi Player.
@@ -26,6 +32,13 @@ public class IControllerImpl implements IController {
 
     view.addPlayerActionListener(this);
     model.addModelStatusListener(this);
+
+    if (player instanceof AIPlayer && ((AIPlayer) player).getStrategy() != null) {
+      scheduler = new AiTurnScheduler(((AIPlayer) player).getStrategy());
+      model.setAiTurnHandler(scheduler);
+    } else {
+      scheduler = null;
+    }
   }
 
   /**
@@ -62,9 +75,33 @@ public class IControllerImpl implements IController {
 
   @Override
   public void endGame() {
+    if (scheduler != null) {
+      scheduler.cancel();
+    }
     view.showMessageDialog("Game over! Winner: " );
 
   }
 
+  /**
+   * Quits the game, shutting down the background AI turns.
+   */
+  @Override
+  public void quitGame() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
+  }
 
+  /**
+   * Drops the AI turn in progress once the game is over. The views listen to the model
+   * themselves to repaint what changed.
+   *
+   * @param winner The winner, or null for a tie.
+   */
+  @Override
+  public void gameOver(GamePlayers winner) {
+    if (scheduler != null) {
+      scheduler.cancel();
+    }
+  }
 }
@@ -0,0 +1,29 @@
+package model;
+
+/**
+ * Takes the turns of a game's built-in AI player off the game. When it becomes the AI
+ * player's turn, a game with a handler hands itself to the handler instead of choosing and
+ * playing the move itself, and the handler later plays the chosen move with
+ * {@link ReadOnlyReversiModel#playAiMove(strategies.Move)}.
+ */
+public interface AiTurnHandler {
+
+  /**
+   * Starts the AI player's turn. Called on the thread that played the move before it, which
+   * must not be kept waiting.
+   *
+   * @param game The game, with the AI player to move.
+   */
+  void aiTurn(Game game);
+
+  /**
+   * Checks whether the handler is still choosing the AI player's move, during which the other
+   * player must wait. Handlers that play the move before returning from
+   * {@link #aiTurn(Game)} are never thinking.
+   *
+   * @return True if an AI turn is in progress, false otherwise.
+   */
+  default boolean isThinking() {
+    return false;
+  }
+}
@@ -0,0 +1,678 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link Board} interface for a hexagonal grid backed by a flat
+ * {@code byte[]}.
+ *
+ * <p>The board uses the same (q, r) layout as {@link BoardImpl}: rows r from 0 to
+ * {@code 2 * size - 2}, with the hexagon bounded along the q, r and q - r axes. Every cell is
+ * given a dense index through a precomputed axial-to-index table, and for each index the cells
+ * along the six hex directions are precomputed into ray tables. The tables depend only on the
+ * board size and are shared by every board of that size, so lookups, flips and move
+ * generation are plain array walks.</p>
+ *
+ * <p>{@link ReversiGame} plays by other rules than the six hex directions. A move goes to any
+ * cell with a {@link Cell} neighbor of the player's colour. Flips run along the eight
+ * row, column and diagonal directions of the (q, r) grid, within the first {@code size} rows
+ * and columns. The layout precomputes those neighbors and rays too, and the game uses
+ * {@link #isAdjacentTo(int, int, CellState)} and
+ * {@link #gridFlips(int, int, CellState, int[])} when it plays on this board.
+ * {@link #flipCount(int, CellState)}, {@link #legalMoves(CellState, int[])} and
+ * {@link #place(int, int, CellState)} follow the hex directions and are not used by the
+ * game.</p>
+ *
+ * <p>As with {@link BitBoard}, the {@link Cell} objects handed out by this board are live views
+ * onto the array.</p>
+ */
+public class ArrayHexBoard implements Board {
+  private static final byte EMPTY = 0;
+  private static final byte X = 1;
+  private static final byte O = 2;
+
+  /**
+   * The q-steps of the six hex directions, paired with {@link #DIRECTION_R}.
+   */
+  public static final int[] DIRECTION_Q = {1, -1, 0, 0, 1, -1};
+
+  /**
+   * The r-steps of the six hex directions, paired with {@link #DIRECTION_Q}.
+   */
+  public static final int[] DIRECTION_R = {0, 0, 1, -1, 1, -1};
+
+  // The eight directions ReversiGame flips along, in the order it walks them.
+  private static final int[] GRID_DIRECTION_Q = {-1, 1, 0, 0, -1, -1, 1, 1};
+  private static final int[] GRID_DIRECTION_R = {0, 0, -1, 1, -1, 1, -1, 1};
+
+  private static final Map<Integer, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+  private final int size;
+  private final Layout layout;
+  private final byte[] cells;
+  private long modifications;
+  private long hash;
+  private final int[] counts = new int[3]; // indexed by the stored byte value
+  private final Cell[] views;
+  private final Map<HexCoordinate, Cell> boardMap = new LinkedHashMap<>();
+
+  /**
+   * Constructs a new hexagonal game board with the specified size and the opening discs
+   * around its center.
+   *
+   * @param size The size of the hexagonal game board.
+   * @throws IllegalArgumentException if the size is less than 2.
+   */
+  public ArrayHexBoard(int size) {
+    this(size, true);
+  }
+
+  private ArrayHexBoard(int size, boolean opening) {
+    if (size < 2) {
+      throw new IllegalArgumentException("Board size must be at least 2.");
+    }
+    this.size = size;
+    this.layout = LAYOUTS.computeIfAbsent(size, Layout::new);
+    this.cells = new byte[layout.cellCount];
+    this.counts[EMPTY] = layout.cellCount;
+    this.views = new Cell[layout.cellCount];
+    for (int i = 0; i < layout.cellCount; i++) {
+      views[i] = new ArrayCell(layout.qOf[i], layout.rOf[i], i);
+      boardMap.put(new HexCoordinate(layout.qOf[i], layout.rOf[i]), views[i]);
+    }
+
+    if (opening) {
+      int c = size - 1;
+      setState(c - 1, c - 1, CellState.X);
+      setState(c + 1, c, CellState.X);
+      setState(c, c + 1, CellState.X);
+
+      setState(c, c - 1, CellState.O);
+      setState(c - 1, c, CellState.O);
+      setState(c + 1, c + 1, CellState.O);
+    }
+  }
+
+  /**
+   * Gets the dense index of the cell at the given coordinates.
+   *
+   * @param q The q-coordinate of the cell.
+   * @param r The r-coordinate of the cell.
+   * @return The index of the cell, or -1 if the coordinates are off the board.
+   */
+  public int indexOf(int q, int r) {
+    int span = layout.span;
+    if (q < 0 || q >= span || r < 0 || r >= span) {
+      return -1;
+    }
+    return layout.indexOf[r * span + q];
+  }
+
+  /**
+   * Gets the number of cells on the board.
+   *
+   * @return The number of cells.
+   */
+  public int cellCount() {
+    return layout.cellCount;
+  }
+
+  /**
+   * Gets the q-coordinate of the cell with the given index.
+   *
+   * @param index The index of the cell.
+   * @return The q-coordinate of the cell.
+   */
+  public int getQ(int index) {
+    return layout.qOf[index];
+  }
+
+  /**
+   * Gets the r-coordinate of the cell with the given index.
+   *
+   * @param index The index of the cell.
+   * @return The r-coordinate of the cell.
+   */
+  public int getR(int index) {
+    return layout.rOf[index];
+  }
+
+  /**
+   * Checks whether the given cell has a neighbor of the given colour, by the neighbors of
+   * {@link Cell}: the rule {@link ReversiGame} checks moves with.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The colour to look for.
+   * @return True if a neighbor has a disc of that colour, false otherwise or if the cell is
+   *         off the board.
+   */
+  public boolean isAdjacentTo(int q, int r, CellState state) {
+    int index = indexOf(q, r);
+    if (index < 0) {
+      return false;
+    }
+    byte own = encode(state);
+    for (int neighbor : layout.neighbors[index]) {
+      if (cells[neighbor] == own) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Collects the opponent discs that a disc of the given colour on the given cell flips under
+   * the rule of {@link ReversiGame}: runs along the eight grid directions, within the first
+   * {@code size} rows and columns, closed off by a disc of that colour.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The colour of the disc.
+   * @param out   A buffer of at least {@link #cellCount()} entries receiving the indices of
+   *              the discs to flip, in the order the game walks them.
+   * @return The number of discs written to the buffer.
+   */
+  public int gridFlips(int q, int r, CellState state, int[] out) {
+    int index = indexOf(q, r);
+    if (index < 0) {
+      return 0;
+    }
+    byte own = encode(state);
+    int count = 0;
+    for (int[] ray : layout.gridRays[index]) {
+      int run = runLength(ray, own);
+      System.arraycopy(ray, 0, out, count, run);
+      count += run;
+    }
+    return count;
+  }
+
+  /**
+   * Counts the opponent discs that a disc placed on the given cell would flip along the six
+   * hex directions. This is not the rule of {@link ReversiGame}; see
+   * {@link #gridFlips(int, int, CellState, int[])}.
+   *
+   * @param index The index of the placement.
+   * @param state The disc colour being placed.
+   * @return The number of discs that would be flipped.
+   */
+  public int flipCount(int index, CellState state) {
+    byte own = encode(state);
+    int count = 0;
+    for (int[] ray : layout.rays[index]) {
+      count += runLength(ray, own);
+    }
+    return count;
+  }
+
+  /**
+   * Collects every empty cell where the given player would flip at least one disc along the
+   * six hex directions. These are not the valid moves of {@link ReversiGame}, which come from
+   * {@link #isAdjacentTo(int, int, CellState)}.
+   *
+   * @param state The disc colour of the player to move.
+   * @param out   A buffer of at least {@link #cellCount()} entries receiving the indices.
+   * @return The number of legal placements written to the buffer.
+   */
+  public int legalMoves(CellState state, int[] out) {
+    byte own = encode(state);
+    int count = 0;
+    for (int i = 0; i < cells.length; i++) {
+      if (cells[i] == EMPTY && isLegal(i, own)) {
+        out[count++] = i;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Places a disc on the given cell and flips every opponent disc outflanked along the six hex
+   * directions. {@link ReversiGame} places its discs through the cells and flips with
+   * {@link #gridFlips(int, int, CellState, int[])} instead.
+   *
+   * @param q     The q-coordinate of the placement.
+   * @param r     The r-coordinate of the placement.
+   * @param state The disc colour being placed.
+   * @return The number of discs flipped.
+   * @throws IllegalArgumentException if the cell is not on the board or not empty.
+   */
+  public int place(int q, int r, CellState state) {
+    int index = indexOf(q, r);
+    if (index < 0 || cells[index] != EMPTY) {
+      throw new IllegalArgumentException("Cell is not empty.");
+    }
+    byte own = encode(state);
+    cells[index] = own;
+    hash ^= layout.keys[own][index];
+    counts[EMPTY]--;
+    counts[own]++;
+    int flipped = 0;
+    for (int[] ray : layout.rays[index]) {
+      int run = runLength(ray, own);
+      for (int k = 0; k < run; k++) {
+        cells[ray[k]] = own;
+        hash ^= layout.flipKeys[ray[k]];
+      }
+      flipped += run;
+    }
+    counts[own] += flipped;
+    counts[own == X ? O : X] -= flipped;
+    modifications += 1 + flipped;
+    return flipped;
+  }
+
+  /*
+   * Returns true if a disc of the given colour on the given cell outflanks at least one
+   * opponent disc.
+   */
+  private boolean isLegal(int index, byte own) {
+    for (int[] ray : layout.rays[index]) {
+      if (runLength(ray, own) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /*
+   * Returns the number of opponent discs at the start of the ray that are closed off by a disc
+   * of the given colour, or 0 if the run is not closed off.
+   */
+  private int runLength(int[] ray, byte own) {
+    for (int k = 0; k < ray.length; k++) {
+      byte value = cells[ray[k]];
+      if (value == EMPTY) {
+        return 0;
+      }
+      if (value == own) {
+        return k;
+      }
+    }
+    return 0;
+  }
+
+  private static byte encode(CellState state) {
+    switch (state) {
+      case X:
+        return X;
+      case O:
+        return O;
+      default:
+        return EMPTY;
+    }
+  }
+
+  private static CellState decode(byte value) {
+    switch (value) {
+      case X:
+        return CellState.X;
+      case O:
+        return CellState.O;
+      default:
+        return CellState.EMPTY;
+    }
+  }
+
+  /**
+   * Checks whether (q, r) lies inside the hexagon by the cube-coordinate bounds that
+   * {@link BoardImpl#isValidCell(int, int)} uses, which differ from the cells the board holds.
+   *
+   * @param q The q-coordinate.
+   * @param r The r-coordinate.
+   * @return True if the coordinates pass the bounds, false otherwise.
+   */
+  @Override
+  public boolean isValidCell(int q, int r) {
+    return q >= -size + 1 && q <= size - 1 && r >= -size + 1 && r <= size - 1
+            && -q - r >= -size + 1 && -q - r <= size - 1;
+  }
+
+  /**
+   * Makes a move on the board by setting the cell at the given coordinates to the specified state.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state to set the cell to.
+   */
+  @Override
+  public void move(int q, int r, CellState state) {
+    write(requireIndex(q, r), encode(state));
+  }
+
+  /**
+   * Retrieves the cell at the given coordinates.
+   *
+   * @param q The q-coordinate of the cell.
+   * @param r The r-coordinate of the cell.
+   * @return A live view of the cell, or null if the coordinates are off the board.
+   */
+  @Override
+  public Cell getCell(int q, int r) {
+    int index = indexOf(q, r);
+    return index < 0 ? null : views[index];
+  }
+
+  /**
+   * Sets the state of the cell at the given coordinates to the specified state.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state to set the cell to.
+   */
+  @Override
+  public void setState(int q, int r, CellState state) {
+    int index = requireIndex(q, r);
+    if (cells[index] != EMPTY) {
+      throw new IllegalArgumentException("Cell is not empty.");
+    }
+    write(index, encode(state));
+  }
+
+  /*
+   * Writes a cell, keeping the modification count and the hash up to date.
+   */
+  private void write(int index, byte value) {
+    hash ^= layout.keys[cells[index]][index] ^ layout.keys[value][index];
+    counts[cells[index]]--;
+    counts[value]++;
+    cells[index] = value;
+    modifications++;
+  }
+
+  private int requireIndex(int q, int r) {
+    int index = indexOf(q, r);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell is not on the board.");
+    }
+    return index;
+  }
+
+  /**
+   * Retrieves a list of valid moves on the board, represented as the empty cells with an
+   * occupied neighbor.
+   *
+   * @return A list of valid moves on the board.
+   */
+  @Override
+  public List<Cell> getValidMoves() {
+    List<Cell> validMoves = new ArrayList<>();
+    for (int i = 0; i < cells.length; i++) {
+      if (cells[i] == EMPTY && hasAdjacentOccupiedCell(i)) {
+        validMoves.add(views[i]);
+      }
+    }
+    return validMoves;
+  }
+
+  /*
+   * Checks the four orthogonal neighbors that pass isValidCell, as BoardImpl does.
+   */
+  private boolean hasAdjacentOccupiedCell(int index) {
+    int q = layout.qOf[index];
+    int r = layout.rOf[index];
+    return isOccupied(q - 1, r) || isOccupied(q + 1, r)
+            || isOccupied(q, r - 1) || isOccupied(q, r + 1);
+  }
+
+  private boolean isOccupied(int q, int r) {
+    if (!isValidCell(q, r)) {
+      return false;
+    }
+    int index = indexOf(q, r);
+    return index >= 0 && cells[index] != EMPTY;
+  }
+
+  /**
+   * Gets the size of the board.
+   *
+   * @return The size of the board.
+   */
+  @Override
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Retrieves the state of the cell at the given hexagonal coordinates.
+   *
+   * @param hex The hexagonal coordinates of the cell.
+   * @return The state of the cell, or null if the coordinates are off the board.
+   */
+  @Override
+  public CellState getCellStateAt(HexCoordinate hex) {
+    int index = indexOf(hex.getQ(), hex.getR());
+    return index < 0 ? null : decode(cells[index]);
+  }
+
+  /**
+   * Retrieves the mapping of hexagonal coordinates to the live cell views of the board.
+   *
+   * @return The map of hexagonal coordinates to cells.
+   */
+  @Override
+  public Map<HexCoordinate, Cell> getBoardMap() {
+    return Collections.unmodifiableMap(boardMap);
+  }
+
+  /**
+   * Creates a copy of the board by copying the cell array.
+   *
+   * @return A new instance of the board with the same state.
+   */
+  @Override
+  public Board copy() {
+    ArrayHexBoard copy = new ArrayHexBoard(size, false);
+    System.arraycopy(cells, 0, copy.cells, 0, cells.length);
+    copy.hash = hash;
+    System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+    return copy;
+  }
+
+  /**
+   * Packs the cell array into a snapshot; the stored bytes are already the codes of the cells.
+   *
+   * @return The snapshot of the board.
+   */
+  @Override
+  public long[] snapshot() {
+    long[] snapshot = PackedCells.allocate(cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      PackedCells.set(snapshot, i, cells[i]);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Sets the cell array from a snapshot, writing only the cells that differ.
+   *
+   * @param snapshot The snapshot of a board of the same size.
+   */
+  @Override
+  public void restore(long[] snapshot) {
+    PackedCells.check(snapshot, cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      byte value = (byte) PackedCells.get(snapshot, i);
+      if (cells[i] != value) {
+        write(i, value);
+      }
+    }
+  }
+
+  /**
+   * Checks if the board has been modified.
+   *
+   * @return `true` if the board has been modified; otherwise, `false`.
+   */
+  @Override
+  public boolean isModified() {
+    return false;
+  }
+
+  @Override
+  public boolean isFull() {
+    for (byte value : cells) {
+      if (value == EMPTY) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public long getModificationCount() {
+    return modifications;
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public int getDiscCount(CellState state) {
+    return counts[encode(state)];
+  }
+
+  /**
+   * The size-dependent tables of a hexagonal board: the axial-to-index table, the coordinates
+   * of every index, the ray of cell indices in each of the six directions from every cell, and
+   * the Zobrist keys of every cell indexed by the stored byte value.
+   */
+  private static final class Layout {
+    private final int span;
+    private final int cellCount;
+    private final int[] indexOf;
+    private final int[] qOf;
+    private final int[] rOf;
+    private final int[][][] rays;
+    private final int[][][] gridRays; // ReversiGame's eight directions, within size x size
+    private final int[][] neighbors; // the Cell neighbors on the board
+    private final long[][] keys;
+    private final long[] flipKeys;
+
+    Layout(int size) {
+      this.span = 2 * size - 1;
+      this.indexOf = new int[span * span];
+
+      int count = 0;
+      for (int r = 0; r < span; r++) {
+        for (int q = 0; q < span; q++) {
+          if (contains(size, q, r)) {
+            indexOf[r * span + q] = count++;
+          } else {
+            indexOf[r * span + q] = -1;
+          }
+        }
+      }
+
+      this.cellCount = count;
+      this.qOf = new int[count];
+      this.rOf = new int[count];
+      for (int r = 0; r < span; r++) {
+        for (int q = 0; q < span; q++) {
+          int index = indexOf[r * span + q];
+          if (index >= 0) {
+            qOf[index] = q;
+            rOf[index] = r;
+          }
+        }
+      }
+
+      this.keys = new long[3][count];
+      this.flipKeys = new long[count];
+      for (int i = 0; i < count; i++) {
+        keys[X][i] = Zobrist.key(qOf[i], rOf[i], CellState.X);
+        keys[O][i] = Zobrist.key(qOf[i], rOf[i], CellState.O);
+        flipKeys[i] = keys[X][i] ^ keys[O][i];
+      }
+
+      this.rays = new int[count][DIRECTION_Q.length][];
+      int[] buffer = new int[span];
+      for (int i = 0; i < count; i++) {
+        for (int dir = 0; dir < DIRECTION_Q.length; dir++) {
+          int length = 0;
+          int q = qOf[i] + DIRECTION_Q[dir];
+          int r = rOf[i] + DIRECTION_R[dir];
+          while (contains(size, q, r)) {
+            buffer[length++] = indexOf[r * span + q];
+            q += DIRECTION_Q[dir];
+            r += DIRECTION_R[dir];
+          }
+          int[] ray = new int[length];
+          System.arraycopy(buffer, 0, ray, 0, length);
+          rays[i][dir] = ray;
+        }
+      }
+
+      this.gridRays = new int[count][GRID_DIRECTION_Q.length][];
+      for (int i = 0; i < count; i++) {
+        for (int dir = 0; dir < GRID_DIRECTION_Q.length; dir++) {
+          int length = 0;
+          int q = qOf[i] + GRID_DIRECTION_Q[dir];
+          int r = rOf[i] + GRID_DIRECTION_R[dir];
+          while (q >= 0 && q < size && r >= 0 && r < size && contains(size, q, r)) {
+            buffer[length++] = indexOf[r * span + q];
+            q += GRID_DIRECTION_Q[dir];
+            r += GRID_DIRECTION_R[dir];
+          }
+          int[] ray = new int[length];
+          System.arraycopy(buffer, 0, ray, 0, length);
+          gridRays[i][dir] = ray;
+        }
+      }
+
+      int[][] offsets = Cell.neighborOffsets(GridType.HEXAGONAL);
+      this.neighbors = new int[count][];
+      for (int i = 0; i < count; i++) {
+        int length = 0;
+        for (int[] offset : offsets) {
+          int q = qOf[i] + offset[0];
+          int r = rOf[i] + offset[1];
+          if (contains(size, q, r)) {
+            buffer[length++] = indexOf[r * span + q];
+          }
+        }
+        int[] adjacent = new int[length];
+        System.arraycopy(buffer, 0, adjacent, 0, length);
+        neighbors[i] = adjacent;
+      }
+    }
+
+    /*
+     * Returns true if (q, r) lies inside the hexagon, using the same bounds as BoardImpl.
+     */
+    private static boolean contains(int size, int q, int r) {
+      int span = 2 * size - 1;
+      return r >= 0 && r < span && q >= 0 && q < span
+              && q - r <= size - 1 && r - q <= size - 1;
+    }
+  }
+
+  /**
+   * A cell whose state lives in the array of the enclosing board.
+   */
+  private class ArrayCell extends Cell {
+    private final int index;
+
+    ArrayCell(int q, int r, int index) {
+      super(q, r, CellState.EMPTY, GridType.HEXAGONAL);
+      this.index = index;
+    }
+
+    @Override
+    public CellState getState() {
+      return decode(cells[index]);
+    }
+
+    @Override
+    public void setState(CellState newState) {
+      write(index, encode(newState));
+    }
+  }
+}
@@ -0,0 +1,505 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link Board} interface for an 8x8 square grid backed by two
+ * 64-bit bitboards.
+ *
+ * <p>Square (q, r) is stored at bit {@code r * 8 + q}, one {@code long} holding the X discs
+ * and one holding the O discs. Flips are computed for all eight directions at once with
+ * Kogge-Stone occluded fills, so no {@link HexCoordinate} or list is allocated while playing.</p>
+ *
+ * <p>{@link SquareReversiGame} lets a player move to any square next to one of their discs
+ * along a row or column, and flips the runs of opponent discs that the new disc outflanks.
+ * On a bitboard it checks moves with {@link #adjacentSquares(CellState)} and finds the discs
+ * to flip with {@link #flips(int, int, CellState)}. {@link #legalMoves(long, long)} and
+ * {@link #place(int, int, CellState)} follow the standard Reversi rule instead, where a move
+ * must go to an empty square and flip at least one disc; the game does not use them.</p>
+ *
+ * <p>The {@link Cell} objects handed out by {@link #getCell(int, int)} and
+ * {@link #getBoardMap()} are live views onto the bitboards: reading their state reads the bits,
+ * and setting their state writes the bits. This keeps views, tests and the flip code in
+ * {@link SquareReversiGame} working unchanged on top of this board.</p>
+ */
+public class BitBoard implements Board {
+  private static final int SIZE = 8;
+
+  private static final long NOT_FIRST_COLUMN = 0xfefefefefefefefeL;
+  private static final long NOT_LAST_COLUMN = 0x7f7f7f7f7f7f7f7fL;
+
+  // East, west, south, north, south-east, south-west, north-east, north-west.
+  private static final int[] SHIFTS = {1, -1, 8, -8, 9, 7, -7, -9};
+  private static final long[] MASKS = {
+    NOT_FIRST_COLUMN, NOT_LAST_COLUMN, -1L, -1L,
+    NOT_FIRST_COLUMN, NOT_LAST_COLUMN, NOT_FIRST_COLUMN, NOT_LAST_COLUMN
+  };
+
+  // Zobrist keys of an X and an O disc on every square, and their XOR for a flip.
+  private static final long[] X_KEYS = new long[SIZE * SIZE];
+  private static final long[] O_KEYS = new long[SIZE * SIZE];
+  private static final long[] FLIP_KEYS = new long[SIZE * SIZE];
+
+  static {
+    for (int i = 0; i < SIZE * SIZE; i++) {
+      X_KEYS[i] = Zobrist.key(i % SIZE, i / SIZE, CellState.X);
+      O_KEYS[i] = Zobrist.key(i % SIZE, i / SIZE, CellState.O);
+      FLIP_KEYS[i] = X_KEYS[i] ^ O_KEYS[i];
+    }
+  }
+
+  private long xBits; // discs of player X
+  private long oBits; // discs of player O
+  private long modifications;
+  private long hash;
+
+  private final Cell[] cells = new Cell[SIZE * SIZE];
+  private final Map<HexCoordinate, Cell> boardMap = new LinkedHashMap<>();
+
+  /**
+   * Constructs a new 8x8 bitboard with the standard opening position.
+   */
+  public BitBoard() {
+    createBoard();
+
+    setState(3, 4, CellState.O);
+    setState(4, 4, CellState.X);
+    setState(4, 3, CellState.O);
+    setState(3, 3, CellState.X);
+  }
+
+  /*
+   * Creates the live cell views, in row-major order.
+   */
+  private void createBoard() {
+    for (int r = 0; r < SIZE; r++) {
+      for (int q = 0; q < SIZE; q++) {
+        Cell cell = new BitCell(q, r);
+        cells[index(q, r)] = cell;
+        boardMap.put(new HexCoordinate(q, r), cell);
+      }
+    }
+  }
+
+  /**
+   * Returns the bit index of the square at the given coordinates.
+   *
+   * @param q The q-coordinate (column) of the square.
+   * @param r The r-coordinate (row) of the square.
+   * @return The bit index, in the range 0 to 63.
+   */
+  public static int index(int q, int r) {
+    return r * SIZE + q;
+  }
+
+  /*
+   * Shifts every bit of the given board one step in the given direction, dropping bits that
+   * would wrap around to the opposite edge.
+   */
+  private static long shift(long bits, int dir) {
+    int s = SHIFTS[dir];
+    return (s > 0 ? bits << s : bits >>> -s) & MASKS[dir];
+  }
+
+  /*
+   * Kogge-Stone occluded fill: extends every generator bit through contiguous propagator bits
+   * in the given direction. The result contains the generators plus the filled squares.
+   */
+  private static long fill(long gen, long pro, int dir) {
+    int s = SHIFTS[dir];
+    pro &= MASKS[dir];
+    if (s > 0) {
+      gen |= pro & (gen << s);
+      pro &= pro << s;
+      gen |= pro & (gen << 2 * s);
+      pro &= pro << 2 * s;
+      gen |= pro & (gen << 4 * s);
+    } else {
+      s = -s;
+      gen |= pro & (gen >>> s);
+      pro &= pro >>> s;
+      gen |= pro & (gen >>> 2 * s);
+      pro &= pro >>> 2 * s;
+      gen |= pro & (gen >>> 4 * s);
+    }
+    return gen;
+  }
+
+  /**
+   * Computes every empty square where a disc of the owner would outflank at least one
+   * opponent disc. This is the standard Reversi rule, not the rule of
+   * {@link SquareReversiGame}, whose moves are the {@link #adjacentSquares(CellState)}.
+   *
+   * @param own The discs of the player to move.
+   * @param opp The discs of the opponent.
+   * @return A bitboard of the legal placements.
+   */
+  public static long legalMoves(long own, long opp) {
+    long empty = ~(own | opp);
+    long moves = 0L;
+    for (int dir = 0; dir < SHIFTS.length; dir++) {
+      moves |= shift(fill(own, opp, dir) & opp, dir) & empty;
+    }
+    return moves;
+  }
+
+  /**
+   * Computes the opponent discs that a disc placed on the given square would flip.
+   *
+   * @param index The bit index of the placement.
+   * @param own   The discs of the player placing the disc.
+   * @param opp   The discs of the opponent.
+   * @return A bitboard of the discs to flip, empty if the placement flips nothing.
+   */
+  public static long flips(int index, long own, long opp) {
+    long move = 1L << index;
+    long flipped = 0L;
+    for (int dir = 0; dir < SHIFTS.length; dir++) {
+      long run = fill(move, opp, dir);
+      if ((shift(run, dir) & own) != 0) {
+        flipped |= run & ~move;
+      }
+    }
+    return flipped;
+  }
+
+  /**
+   * Computes the squares next to a disc of the given colour along a row or column, occupied or
+   * not: the squares {@link SquareReversiGame} lets that player move to.
+   *
+   * @param state X or O.
+   * @return A bitboard of the squares next to the player's discs.
+   */
+  public long adjacentSquares(CellState state) {
+    long own = getBits(state);
+    return shift(own, 0) | shift(own, 1) | shift(own, 2) | shift(own, 3);
+  }
+
+  /**
+   * Computes the opponent discs that a disc of the given colour on the given square flips,
+   * whether or not the disc is placed yet.
+   *
+   * @param q     The q-coordinate of the square.
+   * @param r     The r-coordinate of the square.
+   * @param state The colour of the disc, X or O.
+   * @return A bitboard of the discs to flip.
+   */
+  public long flips(int q, int r, CellState state) {
+    int index = index(q, r);
+    return flips(index, getBits(state), getBits(opponent(state)) & ~(1L << index));
+  }
+
+  /**
+   * Gets the bitboard of the discs in the given state.
+   *
+   * @param state X or O.
+   * @return The discs of that player, or the empty squares for {@link CellState#EMPTY}.
+   */
+  public long getBits(CellState state) {
+    switch (state) {
+      case X:
+        return xBits;
+      case O:
+        return oBits;
+      default:
+        return ~(xBits | oBits);
+    }
+  }
+
+  /**
+   * Computes the legal placements for the given player.
+   *
+   * @param state The disc colour of the player to move.
+   * @return A bitboard of the legal placements.
+   */
+  public long legalMoves(CellState state) {
+    return legalMoves(getBits(state), getBits(opponent(state)));
+  }
+
+  /**
+   * Places a disc on the given square and flips every outflanked opponent disc, under the
+   * standard Reversi rule that the square must be empty. {@link SquareReversiGame} places its
+   * discs through the cells and flips with {@link #flips(int, int, CellState)} instead.
+   *
+   * @param q     The q-coordinate of the placement.
+   * @param r     The r-coordinate of the placement.
+   * @param state The disc colour being placed.
+   * @return A bitboard of the flipped discs.
+   * @throws IllegalArgumentException if the square is not on the board or not empty.
+   */
+  public long place(int q, int r, CellState state) {
+    if (!isValidCell(q, r) || stateAt(index(q, r)) != CellState.EMPTY) {
+      throw new IllegalArgumentException("Cell is not empty.");
+    }
+    int index = index(q, r);
+    long flipped = flips(index, getBits(state), getBits(opponent(state)));
+    long changed = flipped | (1L << index);
+    if (state == CellState.X) {
+      xBits |= changed;
+      oBits &= ~flipped;
+      hash ^= X_KEYS[index];
+    } else {
+      oBits |= changed;
+      xBits &= ~flipped;
+      hash ^= O_KEYS[index];
+    }
+    for (long bits = flipped; bits != 0; bits &= bits - 1) {
+      hash ^= FLIP_KEYS[Long.numberOfTrailingZeros(bits)];
+    }
+    modifications += 1 + Long.bitCount(flipped);
+    return flipped;
+  }
+
+  private static CellState opponent(CellState state) {
+    return state == CellState.X ? CellState.O : CellState.X;
+  }
+
+  /*
+   * Reads the state of the square with the given bit index.
+   */
+  private CellState stateAt(int index) {
+    long bit = 1L << index;
+    if ((xBits & bit) != 0) {
+      return CellState.X;
+    }
+    return (oBits & bit) != 0 ? CellState.O : CellState.EMPTY;
+  }
+
+  /*
+   * Writes the state of the square with the given bit index.
+   */
+  private void write(int index, CellState state) {
+    long bit = 1L << index;
+    hash ^= keyAt(index, stateAt(index)) ^ keyAt(index, state);
+    xBits &= ~bit;
+    oBits &= ~bit;
+    if (state == CellState.X) {
+      xBits |= bit;
+    } else if (state == CellState.O) {
+      oBits |= bit;
+    }
+    modifications++;
+  }
+
+  private static long keyAt(int index, CellState state) {
+    if (state == CellState.X) {
+      return X_KEYS[index];
+    }
+    return state == CellState.O ? O_KEYS[index] : 0L;
+  }
+
+  @Override
+  public boolean isValidCell(int q, int r) {
+    return q >= 0 && q < SIZE && r >= 0 && r < SIZE;
+  }
+
+  /**
+   * Makes a move on the board by setting the cell at the given coordinates to the specified state.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state to set the cell to.
+   */
+  @Override
+  public void move(int q, int r, CellState state) {
+    write(index(q, r), state);
+  }
+
+  /**
+   * Retrieves the cell at the given coordinates.
+   *
+   * @param q The q-coordinate of the cell.
+   * @param r The r-coordinate of the cell.
+   * @return A live view of the cell, or null if the coordinates are off the board.
+   */
+  @Override
+  public Cell getCell(int q, int r) {
+    return isValidCell(q, r) ? cells[index(q, r)] : null;
+  }
+
+  /**
+   * Sets the state of the cell at the given coordinates to the specified state.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state to set the cell to.
+   */
+  @Override
+  public void setState(int q, int r, CellState state) {
+    int index = index(q, r);
+    if (stateAt(index) != CellState.EMPTY) {
+      throw new IllegalArgumentException("Cell is not empty.");
+    }
+    write(index, state);
+  }
+
+  /**
+   * Retrieves a list of valid moves on the board, represented as the empty cells next to an
+   * occupied cell in one of the four orthogonal directions.
+   *
+   * @return A list of valid moves on the board.
+   */
+  @Override
+  public List<Cell> getValidMoves() {
+    long occupied = xBits | oBits;
+    long adjacent = shift(occupied, 0) | shift(occupied, 1)
+            | shift(occupied, 2) | shift(occupied, 3);
+    long candidates = adjacent & ~occupied;
+
+    List<Cell> validMoves = new ArrayList<>(Long.bitCount(candidates));
+    while (candidates != 0) {
+      validMoves.add(cells[Long.numberOfTrailingZeros(candidates)]);
+      candidates &= candidates - 1;
+    }
+    return validMoves;
+  }
+
+  /**
+   * Gets the size of the board.
+   *
+   * @return The size of the board.
+   */
+  @Override
+  public int getSize() {
+    return SIZE;
+  }
+
+  /**
+   * Retrieves the state of the cell at the given hexagonal coordinates.
+   *
+   * @param hex The hexagonal coordinates of the cell.
+   * @return The state of the cell, or null if the coordinates are off the board.
+   */
+  @Override
+  public CellState getCellStateAt(HexCoordinate hex) {
+    if (!isValidCell(hex.getQ(), hex.getR())) {
+      return null;
+    }
+    return stateAt(index(hex.getQ(), hex.getR()));
+  }
+
+  /**
+   * Retrieves the mapping of hexagonal coordinates to the live cell views of the board.
+   *
+   * @return The map of hexagonal coordinates to cells.
+   */
+  @Override
+  public Map<HexCoordinate, Cell> getBoardMap() {
+    return Collections.unmodifiableMap(boardMap);
+  }
+
+  /**
+   * Creates a copy of the board by copying the two bitboards.
+   *
+   * @return A new instance of the board with the same state.
+   */
+  @Override
+  public Board copy() {
+    BitBoard copy = new BitBoard();
+    copy.xBits = xBits;
+    copy.oBits = oBits;
+    copy.hash = hash;
+    return copy;
+  }
+
+  /**
+   * Packs the board into a snapshot by spreading each half of the two bitboards over one word,
+   * without going through the squares one by one.
+   *
+   * @return The snapshot of the board, in two words.
+   */
+  @Override
+  public long[] snapshot() {
+    return new long[] {
+        PackedCells.spread(xBits) | PackedCells.spread(oBits) << 1,
+        PackedCells.spread(xBits >>> 32) | PackedCells.spread(oBits >>> 32) << 1
+    };
+  }
+
+  /**
+   * Sets the board from a snapshot by gathering the bitboards back out of its two words. The
+   * hash is updated for the squares that changed.
+   *
+   * @param snapshot The snapshot of an 8x8 board.
+   */
+  @Override
+  public void restore(long[] snapshot) {
+    PackedCells.check(snapshot, SIZE * SIZE);
+    long x = PackedCells.gather(snapshot[0]) | PackedCells.gather(snapshot[1]) << 32;
+    long o = PackedCells.gather(snapshot[0] >>> 1) | PackedCells.gather(snapshot[1] >>> 1) << 32;
+    long changedX = x ^ xBits;
+    long changedO = o ^ oBits;
+    for (long bits = changedX; bits != 0; bits &= bits - 1) {
+      hash ^= X_KEYS[Long.numberOfTrailingZeros(bits)];
+    }
+    for (long bits = changedO; bits != 0; bits &= bits - 1) {
+      hash ^= O_KEYS[Long.numberOfTrailingZeros(bits)];
+    }
+    modifications += Long.bitCount(changedX | changedO);
+    xBits = x;
+    oBits = o;
+  }
+
+  /**
+   * Checks if the board has been modified.
+   *
+   * @return `true` if the board has been modified; otherwise, `false`.
+   */
+  @Override
+  public boolean isModified() {
+    return false;
+  }
+
+  @Override
+  public boolean isFull() {
+    return (xBits | oBits) == -1L;
+  }
+
+  @Override
+  public long getModificationCount() {
+    return modifications;
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public int getDiscCount(CellState state) {
+    switch (state) {
+      case X:
+        return Long.bitCount(xBits);
+      case O:
+        return Long.bitCount(oBits);
+      default:
+        return Long.bitCount(~(xBits | oBits));
+    }
+  }
+
+  /**
+   * A cell whose state lives in the bitboards of the enclosing board.
+   */
+  private class BitCell extends Cell {
+    private final int index;
+
+    BitCell(int q, int r) {
+      super(q, r, CellState.EMPTY, GridType.SQUARE);
+      this.index = index(q, r);
+    }
+
+    @Override
+    public CellState getState() {
+      return stateAt(index);
+    }
+
+    @Override
+    public void setState(CellState newState) {
+      write(index, newState);
+    }
+  }
+}
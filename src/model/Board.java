@@ -90,6 +90,27 @@ public interface Board {
    */
   Board copy();
 
+  /**
+   * Packs the state of every cell into a snapshot of 2 bits per cell and 32 cells per long,
+   * cell {@code i} in bits {@code 2 * (i % 32)} and up of word {@code i / 32}: 0 for an empty
+   * cell, 1 for X and 2 for O. Cells are numbered row by row ({@code r}, then {@code q}), the
+   * same on every board of the same shape and size, so a snapshot taken on one implementation
+   * can be restored on another.
+   *
+   * @return The snapshot, a new array the caller may keep or persist.
+   */
+  long[] snapshot();
+
+  /**
+   * Sets every cell to its state in a snapshot taken by {@link #snapshot()}, keeping the hash,
+   * the disc counts and the modification count up to date.
+   *
+   * @param snapshot The snapshot of a board of the same shape and size.
+   * @throws IllegalArgumentException if the snapshot does not fit the board. The board is left
+   *                                  unchanged.
+   */
+  void restore(long[] snapshot);
+
 
   /**
    * Checks if the board has been modified.
@@ -104,4 +125,30 @@ public interface Board {
    * @return
    */
   boolean isFull();
+
+  /**
+   * Gets the number of cell state changes made on the board so far, including changes made
+   * through the cells it hands out. Comparing two readings tells whether the board changed
+   * in between.
+   *
+   * @return The modification count of the board.
+   */
+  long getModificationCount();
+
+  /**
+   * Gets the Zobrist hash of the discs on the board, kept up to date on every cell change.
+   * The side to move is not part of the board; games add {@link Zobrist#WHITE_TO_MOVE} on top.
+   *
+   * @return The hash of the board position.
+   */
+  long getHash();
+
+  /**
+   * Gets the number of discs of the given colour on the board. Boards keep the counts up to
+   * date on every cell change, so this does not scan the board.
+   *
+   * @param state The colour to count.
+   * @return The number of cells in the given state.
+   */
+  int getDiscCount(CellState state);
 }
@@ -20,6 +20,10 @@ import java.util.Map;
 public class BoardImpl implements Board {
   private final Map<HexCoordinate, Cell> boardMap = new HashMap<>();
   private final int size;
+  private long modifications;
+  private long hash;
+  private final int[] discCounts = new int[CellState.values().length];
+  private final Cell[] cells; // the cells row by row, as numbered in snapshots
 
   /**
    * Constructs a new hexagonal game board with the specified size.
@@ -28,8 +32,15 @@ public class BoardImpl implements Board {
    */
 
   public BoardImpl(int size) {
+    this(size, true);
+  }
+
+  private BoardImpl(int size, boolean opening) {
     this.size = size;
-    createBoard();
+    this.cells = createBoard();
+    if (!opening) {
+      return;
+    }
 
     setState(4, 4, CellState.X);
     setState(6, 5, CellState.X);
@@ -42,8 +53,11 @@ public class BoardImpl implements Board {
 
   /**
    * Creates the initial configuration of the hexagonal game board.
+   *
+   * @return The cells in the order they were created.
    */
-  private void createBoard() {
+  private Cell[] createBoard() {
+    List<Cell> created = new ArrayList<>();
     int totalRows = 2 * size - 1; // The total number of rows in the board
     int halfSize = size - 1;  // The number of cells in the middle row
 
@@ -56,9 +70,13 @@ public class BoardImpl implements Board {
       for (int q = minQ; q < maxQ; q++) {
         // Skip cells that are outside the hexagon
         HexCoordinate c = new HexCoordinate(q, r);
-        boardMap.put(c, new Cell(q, r, CellState.EMPTY, GridType.HEXAGONAL));
+        Cell cell = new BoardCell(q, r);
+        boardMap.put(c, cell);
+        created.add(cell);
+        discCounts[CellState.EMPTY.ordinal()]++;
       }
     }
+    return created.toArray(new Cell[0]);
   }
 
 
@@ -200,19 +218,48 @@ public class BoardImpl implements Board {
     return boardMap;
   }
 
-  /*
-   * Retrieves the mapping of hexagonal coordinates to cells on the board.
-   * @return The map of hexagonal coordinates to cells.
+  /**
+   * Creates a copy of the board by restoring a snapshot of it on an empty board.
+   *
+   * @return A new instance of the board with the same state.
    */
-
   @Override
   public Board copy() {
-    BoardImpl copy = new BoardImpl(size);
-    boardMap.forEach((hexCoordinate, cell) -> copy.setState(hexCoordinate.getQ()
-            , hexCoordinate.getR(), cell.getState()));
+    BoardImpl copy = new BoardImpl(size, false);
+    copy.restore(snapshot());
     return copy;
   }
 
+  /**
+   * Packs the state of every cell into a snapshot, in the order the cells were created.
+   *
+   * @return The snapshot of the board.
+   */
+  @Override
+  public long[] snapshot() {
+    long[] snapshot = PackedCells.allocate(cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      PackedCells.set(snapshot, i, PackedCells.encode(cells[i].getState()));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Sets every cell to its state in a snapshot, changing only the cells that differ.
+   *
+   * @param snapshot The snapshot of a board of the same size.
+   */
+  @Override
+  public void restore(long[] snapshot) {
+    PackedCells.check(snapshot, cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      CellState state = PackedCells.decode(PackedCells.get(snapshot, i));
+      if (cells[i].getState() != state) {
+        cells[i].setState(state);
+      }
+    }
+  }
+
   /**
    * Checks if the board has been modified.
    *
@@ -233,5 +280,41 @@ public class BoardImpl implements Board {
     return true;
   }
 
+  @Override
+  public long getModificationCount() {
+    return modifications;
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public int getDiscCount(CellState state) {
+    return discCounts[state.ordinal()];
+  }
+
+  /**
+   * A cell that counts its state changes towards the modifications of the enclosing board
+   * and keeps the board's hash and disc counts up to date.
+   */
+  private class BoardCell extends Cell {
+    BoardCell(int q, int r) {
+      super(q, r, CellState.EMPTY, GridType.HEXAGONAL);
+    }
 
-}
\ No newline at end of file
+    @Override
+    public void setState(CellState newState) {
+      hash ^= Zobrist.delta(getQ(), getR(), getState(), newState);
+      if (getState() != null) {
+        discCounts[getState().ordinal()]--;
+      }
+      if (newState != null) {
+        discCounts[newState.ordinal()]++;
+      }
+      super.setState(newState);
+      modifications++;
+    }
+  }
+}
@@ -13,6 +13,11 @@ import java.util.stream.Collectors;
  * and a state that can be modified during the game.</p>
  */
 public class Cell {
+  // Neighbor offsets in the same order as getCoordinateNeighboring and getSquareCoordinates.
+  private static final int[][] HEXAGONAL_OFFSETS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1},
+      {1, -1}, {-1, 1}};
+  private static final int[][] SQUARE_OFFSETS = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+
   private final int q;
   private final int r;
   private final GridType gridType;
@@ -102,12 +107,49 @@ public class Cell {
     }
   }
 
+  /**
+   * Checks whether any neighbor of this cell on the given board is in the given state,
+   * without building the neighbor list.
+   *
+   * @param board The board the cell belongs to.
+   * @param state The state to look for.
+   * @return True if at least one neighboring cell is in the state, false otherwise.
+   */
+  boolean hasNeighborInState(Board board, CellState state) {
+    for (int[] offset : neighborOffsets(gridType)) {
+      Cell neighbor = board.getCell(q + offset[0], r + offset[1]);
+      if (neighbor != null && neighbor.getState() == state) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the (q, r) offsets of the neighbors of a cell on the given type of grid.
+   *
+   * @param gridType The type of grid.
+   * @return The neighbor offsets, one {q, r} pair per neighbor.
+   */
+  static int[][] neighborOffsets(GridType gridType) {
+    return gridType == GridType.HEXAGONAL ? HEXAGONAL_OFFSETS : SQUARE_OFFSETS;
+  }
+
+  /**
+   * Gets the type of grid the cell belongs to.
+   *
+   * @return The grid type of the cell.
+   */
+  GridType getGridType() {
+    return gridType;
+  }
+
   /*
    * Gets the r-coordinate of the cell.
    * @return The r-coordinate of the cell.
    */
   public String getValue() {
-    return state.toString();
+    return getState().toString();
   }
 
   /*
@@ -131,7 +173,7 @@ public class Cell {
    * @return True if the cell is empty, false otherwise.
    */
   public boolean isEmpty() {
-    return state == CellState.EMPTY;
+    return getState() == CellState.EMPTY;
   }
 
   /*
@@ -31,4 +31,65 @@ public interface Game extends ReadOnlyReversiModel {
    */
   GamePlayers getOpponent();
 
+  /**
+   * Plays a move for the current player and passes the turn, without letting an AI player
+   * respond. The placed disc and every flipped disc are recorded so that the move can be
+   * taken back with {@link #unmakeMove()}.
+   *
+   * @param q The q-coordinate of the move.
+   * @param r The r-coordinate of the move.
+   * @throws IllegalArgumentException if the move is not valid for the current player.
+   */
+  void makeMove(int q, int r);
+
+  /**
+   * Passes the turn to the other player, recording the pass so that it can be taken back with
+   * {@link #unmakeMove()}.
+   */
+  void makePass();
+
+  /**
+   * Takes back the last move or pass made with {@link #makeMove(int, int)} or
+   * {@link #makePass()}, restoring the board and the current player.
+   *
+   * @throws IllegalStateException if there is no move to take back.
+   */
+  void unmakeMove();
+
+  /**
+   * Gets the Zobrist hash of the current position: the hash of the board combined with the
+   * side to move. Equal positions reached through different move orders have equal hashes.
+   *
+   * @return The hash of the current position.
+   */
+  long getPositionHash();
+
+  /**
+   * Creates an independent copy of the game: a copy of the board with the same player to move.
+   * Moves made on the copy do not affect this game, and the copy has no moves to take back.
+   *
+   * @return A copy of the game.
+   */
+  Game copy();
+
+  /**
+   * Counts the leaves of the game tree of the given depth below the current position. Moves
+   * and passes each take one ply, and a position where neither player can move is a leaf
+   * whatever depth is left. The game is left as it was found.
+   *
+   * @param depth The number of plies.
+   * @return The number of leaves.
+   */
+  long perft(int depth);
+
+  /**
+   * Counts the leaves of the game tree like {@link #perft(int)}, searching the subtrees of the
+   * root moves in parallel on copies of the game.
+   *
+   * @param depth       The number of plies.
+   * @param parallelism The number of threads.
+   * @return The number of leaves.
+   */
+  long perft(int depth, int parallelism);
+
 }
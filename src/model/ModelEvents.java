@@ -0,0 +1,130 @@
+package model;
+
+import player.GamePlayers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The listeners of a game and the events sent to them, shared by the game classes.
+ *
+ * <p>The flips of a move are collected while the move is applied and sent together once it is
+ * done. While there are no listeners nothing is collected, so a game nobody listens to pays
+ * no more than a check per move.</p>
+ */
+class ModelEvents {
+  private final List<ModelListener> listeners = new CopyOnWriteArrayList<>();
+  private final List<HexCoordinate> flipped = new ArrayList<>();
+  private boolean gameOverSent;
+
+  /**
+   * Adds a listener.
+   *
+   * @param listener The listener to add.
+   * @throws IllegalArgumentException if the listener is null.
+   */
+  void add(ModelListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null.");
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener, if it was added.
+   *
+   * @param listener The listener to remove.
+   */
+  void remove(ModelListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Checks whether anyone listens, so that the game can skip collecting events.
+   *
+   * @return True if there is at least one listener, false otherwise.
+   */
+  boolean hasListeners() {
+    return !listeners.isEmpty();
+  }
+
+  /**
+   * Records a disc flipped by the move being applied.
+   *
+   * @param q The q-coordinate of the cell.
+   * @param r The r-coordinate of the cell.
+   */
+  void flipped(int q, int r) {
+    flipped.add(new HexCoordinate(q, r));
+  }
+
+  /**
+   * Sends the placed disc of the move just applied, then the discs it flipped.
+   *
+   * @param q     The q-coordinate of the placed disc.
+   * @param r     The r-coordinate of the placed disc.
+   * @param state The state of the player who moved.
+   */
+  void moved(int q, int r, CellState state) {
+    List<HexCoordinate> cells = Collections.unmodifiableList(new ArrayList<>(flipped));
+    flipped.clear();
+    for (ModelListener listener : listeners) {
+      listener.discPlaced(q, r, state);
+    }
+    if (!cells.isEmpty()) {
+      for (ModelListener listener : listeners) {
+        listener.discsFlipped(cells, state);
+      }
+    }
+  }
+
+  /**
+   * Sends a pass.
+   *
+   * @param player The player who passed.
+   */
+  void passed(GamePlayers player) {
+    for (ModelListener listener : listeners) {
+      listener.passed(player);
+    }
+  }
+
+  /**
+   * Sends the turn change a change of player led to, if any.
+   *
+   * @param game   The game whose player changed.
+   * @param before The player to move before the change.
+   */
+  void turn(Game game, GamePlayers before) {
+    GamePlayers player = game.getCurrentPlayer();
+    if (player == before) {
+      return;
+    }
+    for (ModelListener listener : listeners) {
+      listener.turnChanged(player);
+    }
+  }
+
+  /**
+   * Sends the turn change and the end of the game that a move or pass led to, if any. The end
+   * of the game is sent once, the first time {@link Game#isGameOver()} holds after a move.
+   *
+   * @param game   The game the move was played on.
+   * @param before The player to move before the move.
+   */
+  void acted(Game game, GamePlayers before) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    turn(game, before);
+    if (!gameOverSent && game.isGameOver()) {
+      gameOverSent = true;
+      GamePlayers winner = game.getWinner();
+      for (ModelListener listener : listeners) {
+        listener.gameOver(winner);
+      }
+    }
+  }
+}
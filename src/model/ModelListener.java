@@ -0,0 +1,65 @@
+package model;
+
+import player.GamePlayers;
+
+import java.util.List;
+
+/**
+ * Listens to the changes of a game, as published by
+ * {@link ReadOnlyReversiModel#addModelListener(ModelListener)}.
+ *
+ * <p>Events are sent on the thread that changed the game, for the moves played through the
+ * game's actions ({@code play}, {@code pass}, {@code playAiMove} and the player changes). The
+ * moves a strategy makes and takes back while searching are not published. Every method does
+ * nothing by default, so listeners only override the events they need.</p>
+ */
+public interface ModelListener {
+
+  /**
+   * Called when a disc is placed.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state of the placed disc.
+   */
+  default void discPlaced(int q, int r, CellState state) {
+    // Not needed by every listener.
+  }
+
+  /**
+   * Called after a disc is placed with the discs it flipped.
+   *
+   * @param cells The flipped cells, in the order they were flipped.
+   * @param state The state the discs were flipped to.
+   */
+  default void discsFlipped(List<HexCoordinate> cells, CellState state) {
+    // Not needed by every listener.
+  }
+
+  /**
+   * Called when a player passes.
+   *
+   * @param player The player who passed.
+   */
+  default void passed(GamePlayers player) {
+    // Not needed by every listener.
+  }
+
+  /**
+   * Called when the player to move changes.
+   *
+   * @param player The player now to move.
+   */
+  default void turnChanged(GamePlayers player) {
+    // Not needed by every listener.
+  }
+
+  /**
+   * Called the first time the game is over after an action.
+   *
+   * @param winner The winner, or null for a draw.
+   */
+  default void gameOver(GamePlayers winner) {
+    // Not needed by every listener.
+  }
+}
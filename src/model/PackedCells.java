@@ -0,0 +1,112 @@
+package model;
+
+/**
+ * The packing of board snapshots, shared by the boards: 2 bits per cell and 32 cells per long,
+ * cell {@code i} in bits {@code 2 * (i % 32)} and up of word {@code i / 32}, with 0 for an
+ * empty cell, 1 for X and 2 for O.
+ */
+final class PackedCells {
+  static final int EMPTY = 0;
+  static final int X = 1;
+  static final int O = 2;
+  private static final long LOW_BITS = 0x5555555555555555L;
+
+  private PackedCells() {
+    // Static helpers only.
+  }
+
+  /**
+   * Creates an empty snapshot, all of whose cells are empty.
+   *
+   * @param cellCount The number of cells of the board.
+   * @return The words of the snapshot.
+   */
+  static long[] allocate(int cellCount) {
+    return new long[(cellCount + 31) >>> 5];
+  }
+
+  /**
+   * Reads the code of a cell.
+   *
+   * @param packed The snapshot.
+   * @param index  The number of the cell.
+   * @return The code of the cell.
+   */
+  static int get(long[] packed, int index) {
+    return (int) (packed[index >>> 5] >>> ((index & 31) << 1)) & 3;
+  }
+
+  /**
+   * Writes the code of a cell that is still empty in the snapshot.
+   *
+   * @param packed The snapshot.
+   * @param index  The number of the cell.
+   * @param code   The code of the cell.
+   */
+  static void set(long[] packed, int index, int code) {
+    packed[index >>> 5] |= (long) code << ((index & 31) << 1);
+  }
+
+  static int encode(CellState state) {
+    return state == CellState.X ? X : state == CellState.O ? O : EMPTY;
+  }
+
+  static CellState decode(int code) {
+    return code == X ? CellState.X : code == O ? CellState.O : CellState.EMPTY;
+  }
+
+  /**
+   * Checks that a snapshot fits a board before it is restored, a word at a time: it must have
+   * a word for every 32 cells, no code 3 and nothing past the last cell.
+   *
+   * @param packed    The snapshot.
+   * @param cellCount The number of cells of the board.
+   * @throws IllegalArgumentException if the snapshot does not fit the board.
+   */
+  static void check(long[] packed, int cellCount) {
+    if (packed == null || packed.length != (cellCount + 31) >>> 5) {
+      throw new IllegalArgumentException("Snapshot is not of a board of " + cellCount
+              + " cells.");
+    }
+    for (long word : packed) {
+      if ((word & (word >>> 1) & LOW_BITS) != 0) {
+        throw new IllegalArgumentException("Snapshot holds an invalid cell.");
+      }
+    }
+    int used = cellCount & 31;
+    if (used != 0 && packed[packed.length - 1] >>> (used << 1) != 0) {
+      throw new IllegalArgumentException("Snapshot holds cells past the end of the board.");
+    }
+  }
+
+  /**
+   * Spreads the 32 bits of a mask to the low bits of the 32 cells of a word, so that
+   * {@code spread(x) | spread(o) << 1} packs the discs of 32 squares.
+   *
+   * @param bits The mask, in the low 32 bits.
+   * @return The word with bit {@code i} of the mask in bit {@code 2 * i}.
+   */
+  static long spread(long bits) {
+    bits &= 0xffffffffL;
+    bits = (bits | bits << 16) & 0x0000ffff0000ffffL;
+    bits = (bits | bits << 8) & 0x00ff00ff00ff00ffL;
+    bits = (bits | bits << 4) & 0x0f0f0f0f0f0f0f0fL;
+    bits = (bits | bits << 2) & 0x3333333333333333L;
+    return (bits | bits << 1) & LOW_BITS;
+  }
+
+  /**
+   * Gathers the low bits of the 32 cells of a word into a mask, undoing {@link #spread(long)}.
+   *
+   * @param word The word.
+   * @return The mask, with bit {@code 2 * i} of the word in bit {@code i}.
+   */
+  static long gather(long word) {
+    long bits = word & LOW_BITS;
+    bits = (bits | bits >>> 1) & 0x3333333333333333L;
+    bits = (bits | bits >>> 2) & 0x0f0f0f0f0f0f0f0fL;
+    bits = (bits | bits >>> 4) & 0x00ff00ff00ff00ffL;
+    bits = (bits | bits >>> 8) & 0x0000ffff0000ffffL;
+    return (bits | bits >>> 16) & 0xffffffffL;
+  }
+}
@@ -0,0 +1,109 @@
+package model;
+
+import strategies.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the leaves of the game tree below a position, for {@link Game#perft(int)}.
+ *
+ * <p>Every move and every pass takes one ply. A position where neither player has a valid
+ * move ends the game and is a leaf whatever depth is left. At the last ply the valid moves are
+ * counted without being played.</p>
+ */
+final class Perft {
+  private Perft() {
+  }
+
+  /**
+   * Counts the leaves of the game tree of the given depth on the game itself, using
+   * {@link Game#makeMove(int, int)} and {@link Game#unmakeMove()}.
+   *
+   * @param game  The game, left as it was found.
+   * @param depth The number of plies.
+   * @return The number of leaves.
+   */
+  static long count(Game game, int depth) {
+    return count(game, depth, false);
+  }
+
+  /**
+   * Counts the leaves of the game tree of the given depth, searching the subtrees of the
+   * root moves in parallel, each on its own {@link Game#copy()}.
+   *
+   * @param game        The game, which is only read.
+   * @param depth       The number of plies.
+   * @param parallelism The number of threads.
+   * @return The number of leaves.
+   */
+  static long count(Game game, int depth, int parallelism) {
+    if (depth <= 1 || parallelism <= 1) {
+      return count(game, depth);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.invoke(new RecursiveTask<Long>() {
+        @Override
+        protected Long compute() {
+          List<Move> moves = game.getValidMoves();
+          if (moves.isEmpty()) {
+            // Nothing to split: the pass leads to a single subtree.
+            return count(game, depth);
+          }
+          List<RecursiveTask<Long>> subtrees = new ArrayList<>();
+          for (Move move : moves) {
+            subtrees.add(new RecursiveTask<Long>() {
+              @Override
+              protected Long compute() {
+                Game copy = game.copy();
+                copy.makeMove(move.getQ(), move.getR());
+                return count(copy, depth - 1, false);
+              }
+            });
+          }
+          long leaves = 0;
+          for (RecursiveTask<Long> subtree : ForkJoinTask.invokeAll(subtrees)) {
+            leaves += subtree.join();
+          }
+          return leaves;
+        }
+      });
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /*
+   * Counts the leaves below the position; passed tells that the previous ply was a pass.
+   */
+  private static long count(Game game, int depth, boolean passed) {
+    if (depth <= 0) {
+      return 1;
+    }
+    List<Move> moves = game.getValidMoves();
+    if (moves.isEmpty()) {
+      if (passed) {
+        return 1;
+      }
+      game.makePass();
+      long leaves = count(game, depth - 1, true);
+      game.unmakeMove();
+      return leaves;
+    }
+    if (depth == 1) {
+      return moves.size();
+    }
+
+    long leaves = 0;
+    for (Move move : moves) {
+      game.makeMove(move.getQ(), move.getR());
+      leaves += count(game, depth - 1, false);
+      game.unmakeMove();
+    }
+    return leaves;
+  }
+}
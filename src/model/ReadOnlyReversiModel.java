@@ -117,12 +117,52 @@ public interface ReadOnlyReversiModel {
    */
   void play(int q, int r);
 
+  /**
+   * Hands the turns of the AI player to the given handler instead of playing them as soon as
+   * they come up, or plays them right away again when the handler is null.
+   *
+   * @param handler The handler of the AI turns, or null.
+   */
+  void setAiTurnHandler(AiTurnHandler handler);
+
+  /**
+   * Gets the handler the turns of the AI player are handed to, so that views can wait for it
+   * instead of acting for the AI player themselves.
+   *
+   * @return The handler of the AI turns, or null if they are played as soon as they come up.
+   */
+  AiTurnHandler getAiTurnHandler();
+
+  /**
+   * Plays the move an {@link AiTurnHandler} chose for the AI player (White), or passes for it
+   * when the move is null, and hands the turn back to Black.
+   *
+   * @param move The move of the AI player, or null to pass.
+   * @throws IllegalArgumentException if the move is not valid for the AI player.
+   */
+  void playAiMove(Move move);
+
   /*
    * Adds a model status listener to the game.
    * @param iController The model status listener to add.
    */
   void addModelStatusListener(IControllerImpl iController);
 
+  /**
+   * Adds a listener to the changes of the game: discs placed and flipped, turn changes and the
+   * end of the game.
+   *
+   * @param listener The listener to add.
+   */
+  void addModelListener(ModelListener listener);
+
+  /**
+   * Removes a listener added with {@link #addModelListener(ModelListener)}.
+   *
+   * @param listener The listener to remove.
+   */
+  void removeModelListener(ModelListener listener);
+
   /*
    * Removes a model status listener from the game.
    */
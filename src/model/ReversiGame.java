@@ -7,8 +7,6 @@ import player.Player;
 import strategies.Move;
 import player.GamePlayers;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -26,57 +24,71 @@ import java.util.Map;
  */
 
 public class ReversiGame implements Game {
+  private static final int[] DIRECTION_Q = {-1, 1, 0, 0, -1, -1, 1, 1}; //directions to check
+  private static final int[] DIRECTION_R = {0, 0, -1, 1, -1, 1, -1, 1};
+
   private final Board board; // The game board.
+  private final ArrayHexBoard array; // the board if it is an ArrayHexBoard, to use its tables
+  private final int[] flips; // the discs to flip on an ArrayHexBoard, or null
   private GamePlayers currentPlayer; // The current player.
 
   private final Player aiPlayer;
+  private AiTurnHandler aiTurnHandler; // plays the AI turns instead of aiPlayer when set
+  private final ModelEvents events = new ModelEvents();
+  private final ValidMoveCache validMoves;
+  private final UndoStack history;
+  private boolean recording; // whether flips are recorded for unmakeMove
+  private boolean publishing; // whether flips are collected for the listeners
 
 
   /**
-   * Constructs a new Reversi game with the given game board.
+   * Constructs a new Reversi game on a default size 6 {@link BoardImpl}.
    */
   public ReversiGame() { //add player for Demo purposes
-    this.board = new BoardImpl(6);
+    this(new BoardImpl(6));
+  }
+
+  /**
+   * Constructs a new Reversi game with the given game board, for example an
+   * {@link ArrayHexBoard}.
+   *
+   * @param board The hexagonal game board to play on.
+   */
+  public ReversiGame(Board board) {
+    this.board = board;
+    this.array = board instanceof ArrayHexBoard ? (ArrayHexBoard) board : null;
+    this.flips = array != null ? new int[array.cellCount()] : null;
     this.currentPlayer = GamePlayers.Black;
     this.aiPlayer = new AIPlayer(this);
-
-
+    this.validMoves = new ValidMoveCache(this, board);
+    this.history = new UndoStack(board.getBoardMap().size());
   }
 
   @Override
   public boolean isValidMove(int q, int r, GamePlayers player) {
-    if (!board.isValidCell(q, r) && !board.getCell(q, r).isEmpty()) {
+    Cell currentCell = board.getCell(q, r);
+    if (currentCell == null || !board.isValidCell(q, r) && !currentCell.isEmpty()) {
       return false;
     }
 
     // Check if at least one neighboring cell has a piece belonging to the current player
-    Cell currentCell = board.getCell(q, r);
-    if (currentCell.getNeighbors(board) == null) {
-      return false;
+    if (array != null) {
+      return array.isAdjacentTo(q, r, player.getCellState());
     }
-    for (Cell neighbor : currentCell.getNeighbors(board)) {
-      if (neighbor.getState() == player.getCellState()) {
-        return true;
-      }
-    }
-
-    // If no neighboring cell has the player's piece, the move is invalid
-    return false;
+    return currentCell.hasNeighborInState(board, player.getCellState());
   }
 
 
+  /**
+   * Retrieves the valid moves of the current player. The moves are kept up to date
+   * incrementally across plays, and the returned list is an immutable snapshot that is shared
+   * until the set of valid moves changes.
+   *
+   * @return A list of valid moves.
+   */
   @Override
   public List<Move> getValidMoves() {
-
-    List<Move> validMoves = new ArrayList<>();
-    for (int q = 0; q < board.getSize(); q++) {
-      for (int r = 0; r < board.getSize(); r++) {
-        if (isValidMove(q, r, currentPlayer)) {
-          validMoves.add(new Move(q, r));
-        }
-      }
-    }
-    return validMoves;
+    return validMoves.get(currentPlayer);
   }
 
   @Override
@@ -86,7 +98,10 @@ public class ReversiGame implements Game {
 
   @Override
   public GamePlayers setCurrentPlayer(GamePlayers player) {
-    return currentPlayer = player;
+    GamePlayers before = currentPlayer;
+    currentPlayer = player;
+    events.turn(this, before);
+    return currentPlayer;
   }
 
   @Override
@@ -117,30 +132,74 @@ public class ReversiGame implements Game {
       throw new IllegalArgumentException("Invalid move");
     }
 
-    board.move(q, r, currentPlayer.getCellState());
-    flipOppenentsPieces(q, r);
+    GamePlayers before = currentPlayer;
+    applyMove(q, r);
     changePlayer();
 
     if (currentPlayer == GamePlayers.White) {
-      aiPlayer.makeMove(this);
-      changePlayer();
+      if (aiTurnHandler != null) {
+        aiTurnHandler.aiTurn(this);
+      } else {
+        aiPlayer.makeMove(this);
+        changePlayer();
+      }
     }
+    events.acted(this, before);
   }
 
   /**
-   * Empty method implemented so no error is thrown in ReadOnly.
+   * Adds the controller as a listener to the changes of the game.
    *
    * @param iController iController implementation.
    */
   @Override
   public void addModelStatusListener(IControllerImpl iController) {
-    //empty method implemented so no error is thrown.
+    events.add(iController);
+  }
+
+  @Override
+  public void addModelListener(ModelListener listener) {
+    events.add(listener);
+  }
+
+  @Override
+  public void removeModelListener(ModelListener listener) {
+    events.remove(listener);
+  }
+
+  @Override
+  public void setAiTurnHandler(AiTurnHandler handler) {
+    this.aiTurnHandler = handler;
+  }
+
+  @Override
+  public AiTurnHandler getAiTurnHandler() {
+    return aiTurnHandler;
+  }
+
+  @Override
+  public void playAiMove(Move move) {
+    GamePlayers before = currentPlayer;
+    currentPlayer = GamePlayers.White;
+    if (move != null) {
+      if (!isValidMove(move.getQ(), move.getR(), currentPlayer)) {
+        currentPlayer = before;
+        throw new IllegalArgumentException("Invalid move");
+      }
+      applyMove(move.getQ(), move.getR());
+    } else {
+      events.passed(GamePlayers.White);
+    }
+    currentPlayer = GamePlayers.Black;
+    events.acted(this, before);
   }
 
 
   @Override
   public void switchPlayer() {
+    GamePlayers before = currentPlayer;
     changePlayer();
+    events.turn(this, before);
   }
 
 
@@ -151,6 +210,67 @@ public class ReversiGame implements Game {
     currentPlayer = currentPlayer == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
   }
 
+  @Override
+  public void makeMove(int q, int r) {
+    if (!isValidMove(q, r, currentPlayer)) {
+      throw new IllegalArgumentException("Invalid move");
+    }
+    history.pushMove(q, r, board.getCell(q, r).getState(), currentPlayer);
+    recording = true;
+    applyMove(q, r);
+    recording = false;
+    changePlayer();
+  }
+
+  @Override
+  public void makePass() {
+    history.pushPass(currentPlayer);
+    changePlayer();
+  }
+
+  @Override
+  public void unmakeMove() {
+    currentPlayer = history.pop(board, validMoves);
+  }
+
+  @Override
+  public Game copy() {
+    ReversiGame copy = new ReversiGame(board.copy());
+    copy.currentPlayer = currentPlayer;
+    return copy;
+  }
+
+  @Override
+  public long getPositionHash() {
+    return board.getHash() ^ (currentPlayer == GamePlayers.White ? Zobrist.WHITE_TO_MOVE : 0L);
+  }
+
+  @Override
+  public long perft(int depth) {
+    return Perft.count(this, depth);
+  }
+
+  @Override
+  public long perft(int depth, int parallelism) {
+    return Perft.count(this, depth, parallelism);
+  }
+
+  /*
+   * Places the current player's piece and flips the opponent's pieces, keeping the valid move
+   * cache up to date.
+   */
+  private void applyMove(int q, int r) {
+    publishing = !recording && events.hasListeners();
+    validMoves.beginChange();
+    board.move(q, r, currentPlayer.getCellState());
+    validMoves.cellChanged(q, r);
+    flipOppenentsPieces(q, r);
+    validMoves.endChange();
+    if (publishing) {
+      events.moved(q, r, currentPlayer.getCellState());
+    }
+  }
+
   /*
    * Flips the pieces of the opponent if the move is valid.
    */
@@ -159,12 +279,18 @@ public class ReversiGame implements Game {
     //get the opponent's state
     CellState opponentState = currentPlayerState == CellState.X ? CellState.O : CellState.X;
 
-    List<Integer> directionQ = Arrays.asList(-1, 1, 0, 0, -1, -1, 1, 1); //directions to check
-    List<Integer> directionR = Arrays.asList(0, 0, -1, 1, -1, 1, -1, 1);
+    if (array != null) {
+      // The board walks its precomputed rays of the eight directions.
+      int count = array.gridFlips(q, r, currentPlayerState, flips);
+      for (int i = 0; i < count; i++) {
+        flip(array.getQ(flips[i]), array.getR(flips[i]), currentPlayerState);
+      }
+      return;
+    }
 
     //check each direction
-    for (int i = 0; i < directionQ.size(); i++) {
-      getFlipDirection(q, r, directionQ.get(i), directionR.get(i),
+    for (int i = 0; i < DIRECTION_Q.length; i++) {
+      getFlipDirection(q, r, DIRECTION_Q[i], DIRECTION_R[i],
               currentPlayerState, opponentState);
     }
   }
@@ -174,16 +300,15 @@ public class ReversiGame implements Game {
    */
   private void getFlipDirection(int q, int r, int directionQ, int directionR,
                                 CellState currentPlayerState, CellState opponentState) {
-    //list of neighbors
-    List<Cell> neighbors = new ArrayList<>();
+    int run = 0; //number of opponent pieces in a row
     int nextQ = q + directionQ; //next cell to check
     int nextR = r + directionR;
     //check if the next cell is valid
     while (isValidCell(nextQ, nextR)) {
       Cell cell = board.getCell(nextQ, nextR);
-      //if the next cell is the opponent's state, add it to the list of neighbors
+      //if the next cell is the opponent's state, extend the run
       if (cell != null && cell.getState() == opponentState) {
-        neighbors.add(cell); //add the cell to the list of neighbors
+        run++;
         nextQ += directionQ;
         nextR += directionR;
       } else {
@@ -195,12 +320,27 @@ public class ReversiGame implements Game {
     if (isValidCell(nextQ, nextR) && board.getCell(nextQ, nextR) != null
             && board.getCell(nextQ, nextR).getState() == currentPlayerState) {
       //flip the pieces
-      for (Cell c : neighbors) {
-        c.setState(currentPlayerState);
+      for (int k = 1; k <= run; k++) {
+        flip(q + k * directionQ, r + k * directionR, currentPlayerState);
       }
     }
   }
 
+  /*
+   * Flips a piece to the current player's state, recording the flip for the move cache, the
+   * undo stack and the listeners.
+   */
+  private void flip(int q, int r, CellState currentPlayerState) {
+    board.getCell(q, r).setState(currentPlayerState);
+    validMoves.cellChanged(q, r);
+    if (recording) {
+      history.flipped(q, r);
+    }
+    if (publishing) {
+      events.flipped(q, r);
+    }
+  }
+
 
   /**
    * Calculate the score for the given player.
@@ -267,12 +407,19 @@ public class ReversiGame implements Game {
 
   @Override
   public void pass() {
+    GamePlayers before = currentPlayer;
+    events.passed(before);
     changePlayer();
     if (currentPlayer == GamePlayers.White) {
-      aiPlayer.makeMove(this);
-      changePlayer();
+      if (aiTurnHandler != null) {
+        aiTurnHandler.aiTurn(this);
+      } else {
+        aiPlayer.makeMove(this);
+        changePlayer();
+      }
     }
     changePlayer();
+    events.acted(this, before);
   }
 
   @Override
@@ -306,6 +453,8 @@ public class ReversiGame implements Game {
 
   @Override
   public void startGame() {
+    GamePlayers before = currentPlayer;
     this.currentPlayer = GamePlayers.Black;
+    events.turn(this, before);
   }
 }
\ No newline at end of file
@@ -18,6 +18,10 @@ public class SquareBoard implements Board {
 
   private final Map<HexCoordinate, Cell> boardMap = new HashMap<>();
   private final int size;
+  private long modifications;
+  private long hash;
+  private final int[] discCounts = new int[CellState.values().length];
+  private final Cell[] cells; // the cells row by row, as numbered in snapshots
 
   /**
    * Constructs a new square game board with the specified size.
@@ -25,8 +29,16 @@ public class SquareBoard implements Board {
    * @param size The size of the square game board.
    */
   public SquareBoard(int size) {
+    this(size, true);
+  }
+
+  private SquareBoard(int size, boolean opening) {
     this.size = size;
+    this.cells = new Cell[size * size];
     createBoard();
+    if (!opening) {
+      return;
+    }
 
     setState(3, 4, CellState.O);
     setState(4, 4, CellState.X);
@@ -38,7 +50,9 @@ public class SquareBoard implements Board {
     for (int row = 0; row < size; row++) {
       for (int col = 0; col < size; col++) {
         HexCoordinate coordinate = new HexCoordinate(col, row);
-        boardMap.put(coordinate, new Cell(col, row, CellState.EMPTY, GridType.SQUARE));
+        cells[row * size + col] = new BoardCell(col, row);
+        boardMap.put(coordinate, cells[row * size + col]);
+        discCounts[CellState.EMPTY.ordinal()]++;
       }
     }
   }
@@ -165,18 +179,47 @@ public class SquareBoard implements Board {
   }
 
   /**
-   * Creates a copy of the board.
+   * Creates a copy of the board by restoring a snapshot of it on an empty board.
    *
    * @return A new instance of the board with the same state.
    */
   @Override
   public Board copy() {
-    SquareBoard copy = new SquareBoard(size);
-    boardMap.forEach((hexCoordinate, cell) -> copy.setState(hexCoordinate.getQ()
-            , hexCoordinate.getR(), cell.getState()));
+    SquareBoard copy = new SquareBoard(size, false);
+    copy.restore(snapshot());
     return copy;
   }
 
+  /**
+   * Packs the state of every cell into a snapshot, row by row.
+   *
+   * @return The snapshot of the board.
+   */
+  @Override
+  public long[] snapshot() {
+    long[] snapshot = PackedCells.allocate(cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      PackedCells.set(snapshot, i, PackedCells.encode(cells[i].getState()));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Sets every cell to its state in a snapshot, changing only the cells that differ.
+   *
+   * @param snapshot The snapshot of a board of the same size.
+   */
+  @Override
+  public void restore(long[] snapshot) {
+    PackedCells.check(snapshot, cells.length);
+    for (int i = 0; i < cells.length; i++) {
+      CellState state = PackedCells.decode(PackedCells.get(snapshot, i));
+      if (cells[i].getState() != state) {
+        cells[i].setState(state);
+      }
+    }
+  }
+
   /**
    * Checks if the board has been modified.
    *
@@ -196,4 +239,42 @@ public class SquareBoard implements Board {
     }
     return true;
   }
+
+  @Override
+  public long getModificationCount() {
+    return modifications;
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public int getDiscCount(CellState state) {
+    return discCounts[state.ordinal()];
+  }
+
+  /**
+   * A cell that counts its state changes towards the modifications of the enclosing board
+   * and keeps the board's hash and disc counts up to date.
+   */
+  private class BoardCell extends Cell {
+    BoardCell(int q, int r) {
+      super(q, r, CellState.EMPTY, GridType.SQUARE);
+    }
+
+    @Override
+    public void setState(CellState newState) {
+      hash ^= Zobrist.delta(getQ(), getR(), getState(), newState);
+      if (getState() != null) {
+        discCounts[getState().ordinal()]--;
+      }
+      if (newState != null) {
+        discCounts[newState.ordinal()]++;
+      }
+      super.setState(newState);
+      modifications++;
+    }
+  }
 }
@@ -6,8 +6,6 @@ import player.GamePlayers;
 import player.Player;
 import strategies.Move;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -22,19 +20,41 @@ import java.util.Map;
  * Players take turns making moves until the game is over.
  */
 public class SquareReversiGame implements Game {
+  private static final int[] DIRECTION_Q = {-1, 1, 0, 0, -1, -1, 1, 1}; //directions to check
+  private static final int[] DIRECTION_R = {0, 0, -1, 1, -1, 1, -1, 1};
+
   private final Board board; // The game board.
+  private final BitBoard bits; // the board if it is a BitBoard, to check and flip with bits
   private GamePlayers currentPlayer; // The current player.
 
   private final Player aiPlayer;
+  private AiTurnHandler aiTurnHandler; // plays the AI turns instead of aiPlayer when set
+  private final ModelEvents events = new ModelEvents();
+  private final ValidMoveCache validMoves;
+  private final UndoStack history;
+  private boolean recording; // whether flips are recorded for unmakeMove
+  private boolean publishing; // whether flips are collected for the listeners
 
 
   /**
-   * Constructs a new Reversi game with the given game board.
+   * Constructs a new Reversi game on a default 8x8 {@link SquareBoard}.
    */
   public SquareReversiGame() {
-    this.board = new SquareBoard(8);
+    this(new SquareBoard(8));
+  }
+
+  /**
+   * Constructs a new Reversi game with the given game board, for example a {@link BitBoard}.
+   *
+   * @param board The square game board to play on.
+   */
+  public SquareReversiGame(Board board) {
+    this.board = board;
+    this.bits = board instanceof BitBoard ? (BitBoard) board : null;
     this.currentPlayer = GamePlayers.Black;
     this.aiPlayer = new AIPlayer(this);
+    this.validMoves = new ValidMoveCache(this, board);
+    this.history = new UndoStack(board.getBoardMap().size());
   }
 
   /**
@@ -47,18 +67,15 @@ public class SquareReversiGame implements Game {
    */
   @Override
   public boolean isValidMove(int q, int r, GamePlayers player) {
-    if (!board.isValidCell(q, r) && !board.getCell(q, r).isEmpty()) {
+    Cell currentCell = board.getCell(q, r);
+    if (currentCell == null || !board.isValidCell(q, r) && !currentCell.isEmpty()) {
       return false;
     }
-    // Check if at least one neighboring cell has a piece belonging to the current player
-    Cell currentCell = board.getCell(q, r);
-    for (Cell neighbor : currentCell.getNeighbors(board)) {
-      if (neighbor.getState() == player.getCellState()) {
-        return true;
-      }
+    if (bits != null) {
+      return (bits.adjacentSquares(player.getCellState()) & 1L << BitBoard.index(q, r)) != 0;
     }
-    // If no neighboring cell has the player's piece, the move is invalid
-    return false;
+    // Check if at least one neighboring cell has a piece belonging to the current player
+    return currentCell.hasNeighborInState(board, player.getCellState());
   }
 
   /**
@@ -175,7 +192,10 @@ public class SquareReversiGame implements Game {
    */
   @Override
   public void pass() {
-    switchPlayer();
+    GamePlayers before = currentPlayer;
+    events.passed(before);
+    changePlayer();
+    events.acted(this, before);
   }
 
   /**
@@ -209,13 +229,117 @@ public class SquareReversiGame implements Game {
     if (!isValidMove(q, r, currentPlayer)) {
       throw new IllegalArgumentException("Invalid move");
     }
-    board.move(q, r, currentPlayer.getCellState());
-    flipOpponentsPieces(q, r);
-    switchPlayer();
+    GamePlayers before = currentPlayer;
+    applyMove(q, r);
+    changePlayer();
 
     if (currentPlayer == GamePlayers.White) {
-      aiPlayer.makeMove(this);
-      switchPlayer();
+      if (aiTurnHandler != null) {
+        aiTurnHandler.aiTurn(this);
+      } else {
+        aiPlayer.makeMove(this);
+        changePlayer();
+      }
+    }
+    events.acted(this, before);
+  }
+
+  /**
+   * Plays a move for the current player without letting the AI player respond, recording it
+   * so that it can be taken back with {@link #unmakeMove()}.
+   *
+   * @param q The q-coordinate of the move.
+   * @param r The r-coordinate of the move.
+   */
+  @Override
+  public void makeMove(int q, int r) {
+    if (!isValidMove(q, r, currentPlayer)) {
+      throw new IllegalArgumentException("Invalid move");
+    }
+    history.pushMove(q, r, board.getCell(q, r).getState(), currentPlayer);
+    recording = true;
+    applyMove(q, r);
+    recording = false;
+    changePlayer();
+  }
+
+  /**
+   * Passes the turn, recording the pass so that it can be taken back.
+   */
+  @Override
+  public void makePass() {
+    history.pushPass(currentPlayer);
+    changePlayer();
+  }
+
+  /**
+   * Takes back the last move or pass made with {@link #makeMove(int, int)} or
+   * {@link #makePass()}.
+   */
+  @Override
+  public void unmakeMove() {
+    currentPlayer = history.pop(board, validMoves);
+  }
+
+  /**
+   * Creates a copy of the game on a copy of the board, with the same player to move.
+   *
+   * @return A copy of the game.
+   */
+  @Override
+  public Game copy() {
+    SquareReversiGame copy = new SquareReversiGame(board.copy());
+    copy.currentPlayer = currentPlayer;
+    return copy;
+  }
+
+  /**
+   * Gets the Zobrist hash of the board combined with the side to move.
+   *
+   * @return The hash of the current position.
+   */
+  @Override
+  public long getPositionHash() {
+    return board.getHash() ^ (currentPlayer == GamePlayers.White ? Zobrist.WHITE_TO_MOVE : 0L);
+  }
+
+  /**
+   * Counts the leaves of the game tree of the given depth below the current position.
+   *
+   * @param depth The number of plies.
+   * @return The number of leaves.
+   */
+  @Override
+  public long perft(int depth) {
+    return Perft.count(this, depth);
+  }
+
+  /**
+   * Counts the leaves of the game tree of the given depth, splitting the root moves across the
+   * given number of threads.
+   *
+   * @param depth       The number of plies.
+   * @param parallelism The number of threads.
+   * @return The number of leaves.
+   */
+  @Override
+  public long perft(int depth, int parallelism) {
+    return Perft.count(this, depth, parallelism);
+  }
+
+  /*
+   * Places the current player's piece and flips the opponent's pieces, keeping the valid move
+   * cache up to date.
+   */
+  private void applyMove(int q, int r) {
+    publishing = !recording && events.hasListeners();
+    validMoves.beginChange();
+    board.move(q, r, currentPlayer.getCellState());
+    validMoves.cellChanged(q, r);
+    flipOpponentsPieces(q, r);
+    validMoves.endChange();
+    if (publishing) {
+      events.moved(q, r, currentPlayer.getCellState());
     }
   }
 
@@ -227,12 +351,20 @@ public class SquareReversiGame implements Game {
     //get the opponent's state
     CellState opponentState = (currentPlayerState == CellState.X) ? CellState.O : CellState.X;
 
-    List<Integer> directionQ = Arrays.asList(-1, 1, 0, 0, -1, -1, 1, 1); //directions to check
-    List<Integer> directionR = Arrays.asList(0, 0, -1, 1, -1, 1, -1, 1);
+    if (bits != null) {
+      // The bitboard finds the outflanked discs in all directions at once.
+      long flipped = bits.flips(q, r, currentPlayerState);
+      while (flipped != 0) {
+        int index = Long.numberOfTrailingZeros(flipped);
+        flipped &= flipped - 1;
+        flip(index % board.getSize(), index / board.getSize(), currentPlayerState);
+      }
+      return;
+    }
 
     //check each direction
-    for (int i = 0; i < directionQ.size(); i++) {
-      flipPiecesInDirection(q, r, directionQ.get(i), directionR.get(i),
+    for (int i = 0; i < DIRECTION_Q.length; i++) {
+      flipPiecesInDirection(q, r, DIRECTION_Q[i], DIRECTION_R[i],
               currentPlayerState, opponentState);
     }
   }
@@ -242,16 +374,16 @@ public class SquareReversiGame implements Game {
    */
   private void flipPiecesInDirection(int q, int r, int directionQ, int directionR,
                                      CellState currentPlayerState, CellState opponentState) {
-    List<Cell> neighbors = new ArrayList<>();
+    int run = 0;
     int nextQ = q + directionQ;
     int nextR = r + directionR;
 
     //check if the next cell is valid
     while (board.isValidCell(nextQ, nextR)) {
       Cell cell = board.getCell(nextQ, nextR);
-      //if the next cell is the opponent's state, add it to the list of neighbors
+      //if the next cell is the opponent's state, extend the run
       if (cell != null && cell.getState() == opponentState) {
-        neighbors.add(cell);
+        run++;
         nextQ += directionQ;
         nextR += directionR;
       } else {
@@ -263,20 +395,102 @@ public class SquareReversiGame implements Game {
     if (board.isValidCell(nextQ, nextR) && board.getCell(nextQ, nextR) != null
             && board.getCell(nextQ, nextR).getState() == currentPlayerState) {
       //flip the pieces
-      for (Cell c : neighbors) {
-        c.setState(currentPlayerState);
+      for (int k = 1; k <= run; k++) {
+        flip(q + k * directionQ, r + k * directionR, currentPlayerState);
       }
     }
   }
 
+  /*
+   * Flips a piece to the current player's state, recording the flip for the move cache, the
+   * undo stack and the listeners.
+   */
+  private void flip(int q, int r, CellState currentPlayerState) {
+    board.getCell(q, r).setState(currentPlayerState);
+    validMoves.cellChanged(q, r);
+    if (recording) {
+      history.flipped(q, r);
+    }
+    if (publishing) {
+      events.flipped(q, r);
+    }
+  }
+
 
   @Override
   public void addModelStatusListener(IControllerImpl iController) {
-    // Not needed for testing
+    events.add(iController);
+  }
+
+  /**
+   * Hands the turns of the AI player to the given handler, or plays them right away again when
+   * the handler is null.
+   *
+   * @param handler The handler of the AI turns, or null.
+   */
+  @Override
+  public void setAiTurnHandler(AiTurnHandler handler) {
+    this.aiTurnHandler = handler;
+  }
+
+  @Override
+  public AiTurnHandler getAiTurnHandler() {
+    return aiTurnHandler;
+  }
+
+  /**
+   * Plays the move chosen for the AI player, or passes for it, and hands the turn to Black.
+   *
+   * @param move The move of the AI player, or null to pass.
+   */
+  @Override
+  public void playAiMove(Move move) {
+    GamePlayers before = currentPlayer;
+    currentPlayer = GamePlayers.White;
+    if (move != null) {
+      if (!isValidMove(move.getQ(), move.getR(), currentPlayer)) {
+        currentPlayer = before;
+        throw new IllegalArgumentException("Invalid move");
+      }
+      applyMove(move.getQ(), move.getR());
+    } else {
+      events.passed(GamePlayers.White);
+    }
+    currentPlayer = GamePlayers.Black;
+    events.acted(this, before);
+  }
+
+  /**
+   * Adds a listener to the changes of the game.
+   *
+   * @param listener The listener to add.
+   */
+  @Override
+  public void addModelListener(ModelListener listener) {
+    events.add(listener);
+  }
+
+  /**
+   * Removes a listener added with {@link #addModelListener(ModelListener)}.
+   *
+   * @param listener The listener to remove.
+   */
+  @Override
+  public void removeModelListener(ModelListener listener) {
+    events.remove(listener);
   }
 
   @Override
   public void switchPlayer() {
+    GamePlayers before = currentPlayer;
+    changePlayer();
+    events.turn(this, before);
+  }
+
+  /*
+   * Changes the current player to the other player, without telling the listeners.
+   */
+  private void changePlayer() {
     if (currentPlayer == GamePlayers.Black) {
       currentPlayer = GamePlayers.White;
     } else {
@@ -286,25 +500,21 @@ public class SquareReversiGame implements Game {
 
   @Override
   public void startGame() {
+    GamePlayers before = currentPlayer;
     this.currentPlayer = GamePlayers.Black;
+    events.turn(this, before);
   }
 
   /**
-   * Retrieves a list of valid moves in the game.
+   * Retrieves a list of valid moves in the game. The moves are kept up to date incrementally
+   * across plays, and the returned list is an immutable snapshot that is shared until the set
+   * of valid moves changes.
    *
    * @return A list of valid moves.
    */
   @Override
   public List<Move> getValidMoves() {
-    List<Move> validMoves = new ArrayList<>();
-    for (int q = 0; q < board.getSize(); q++) {
-      for (int r = 0; r < board.getSize(); r++) {
-        if (isValidMove(q, r, currentPlayer)) {
-          validMoves.add(new Move(q, r));
-        }
-      }
-    }
-    return validMoves;
+    return validMoves.get(currentPlayer);
   }
 
   /**
@@ -319,7 +529,10 @@ public class SquareReversiGame implements Game {
 
   @Override
   public GamePlayers setCurrentPlayer(GamePlayers player) {
-    return this.currentPlayer = player;
+    GamePlayers before = currentPlayer;
+    this.currentPlayer = player;
+    events.turn(this, before);
+    return currentPlayer;
   }
 
   @Override
@@ -0,0 +1,145 @@
+package model;
+
+import player.GamePlayers;
+
+import java.util.Arrays;
+
+/**
+ * Records the moves made through {@link Game#makeMove(int, int)} and {@link Game#makePass()}
+ * so that {@link Game#unmakeMove()} can take them back.
+ *
+ * <p>Every frame stores the placed cell, the state it had before the move, the player who was
+ * to move, and the range of flipped cells belonging to the move. All of it lives in parallel
+ * primitive arrays sized for a full game up front, so pushing and popping moves does not
+ * allocate. The arrays only grow if a search goes deeper than the number of cells.</p>
+ */
+class UndoStack {
+  private int[] moveQ;
+  private int[] moveR;
+  private CellState[] previousState;
+  private GamePlayers[] previousPlayer;
+  private int[] flipStart;
+  private int frames;
+
+  private int[] flippedQ;
+  private int[] flippedR;
+  private int flips;
+
+  /**
+   * Creates an undo stack sized for a board with the given number of cells.
+   *
+   * @param cells The number of cells on the board.
+   */
+  UndoStack(int cells) {
+    int capacity = Math.max(cells, 1);
+    moveQ = new int[capacity];
+    moveR = new int[capacity];
+    previousState = new CellState[capacity];
+    previousPlayer = new GamePlayers[capacity];
+    flipStart = new int[capacity];
+    flippedQ = new int[capacity * 2];
+    flippedR = new int[capacity * 2];
+  }
+
+  /**
+   * Opens a frame for a disc placed on the given cell.
+   *
+   * @param q        The q-coordinate of the placement.
+   * @param r        The r-coordinate of the placement.
+   * @param previous The state of the cell before the placement.
+   * @param player   The player making the move.
+   */
+  void pushMove(int q, int r, CellState previous, GamePlayers player) {
+    if (frames == moveQ.length) {
+      int capacity = frames * 2;
+      moveQ = Arrays.copyOf(moveQ, capacity);
+      moveR = Arrays.copyOf(moveR, capacity);
+      previousState = Arrays.copyOf(previousState, capacity);
+      previousPlayer = Arrays.copyOf(previousPlayer, capacity);
+      flipStart = Arrays.copyOf(flipStart, capacity);
+    }
+    moveQ[frames] = q;
+    moveR[frames] = r;
+    previousState[frames] = previous;
+    previousPlayer[frames] = player;
+    flipStart[frames] = flips;
+    frames++;
+  }
+
+  /**
+   * Opens a frame for a pass.
+   *
+   * @param player The player passing.
+   */
+  void pushPass(GamePlayers player) {
+    pushMove(-1, -1, null, player);
+  }
+
+  /**
+   * Records a cell flipped by the move of the top frame.
+   *
+   * @param q The q-coordinate of the flipped cell.
+   * @param r The r-coordinate of the flipped cell.
+   */
+  void flipped(int q, int r) {
+    if (flips == flippedQ.length) {
+      flippedQ = Arrays.copyOf(flippedQ, flips * 2);
+      flippedR = Arrays.copyOf(flippedR, flips * 2);
+    }
+    flippedQ[flips] = q;
+    flippedR[flips] = r;
+    flips++;
+  }
+
+  /**
+   * Checks whether there is a move to take back.
+   *
+   * @return True if no frames are recorded.
+   */
+  boolean isEmpty() {
+    return frames == 0;
+  }
+
+  /**
+   * Gets the number of recorded frames.
+   *
+   * @return The number of moves and passes that can be taken back.
+   */
+  int size() {
+    return frames;
+  }
+
+  /**
+   * Pops the top frame, restoring the placed cell and turning the flipped cells back to the
+   * opponent of the mover. Every restored cell is reported to the valid move cache.
+   *
+   * @param board      The board to restore.
+   * @param validMoves The valid move cache of the game.
+   * @return The player who was to move before the popped frame.
+   * @throws IllegalStateException if there is no move to take back.
+   */
+  GamePlayers pop(Board board, ValidMoveCache validMoves) {
+    if (frames == 0) {
+      throw new IllegalStateException("No move to undo.");
+    }
+    frames--;
+    GamePlayers player = previousPlayer[frames];
+    previousPlayer[frames] = null;
+    if (previousState[frames] == null) {
+      return player;
+    }
+
+    CellState opponentState = player == GamePlayers.Black ? CellState.O : CellState.X;
+    validMoves.beginChange();
+    while (flips > flipStart[frames]) {
+      flips--;
+      board.getCell(flippedQ[flips], flippedR[flips]).setState(opponentState);
+      validMoves.cellChanged(flippedQ[flips], flippedR[flips]);
+    }
+    board.getCell(moveQ[frames], moveR[frames]).setState(previousState[frames]);
+    validMoves.cellChanged(moveQ[frames], moveR[frames]);
+    validMoves.endChange();
+    previousState[frames] = null;
+    return player;
+  }
+}
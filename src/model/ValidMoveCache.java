@@ -0,0 +1,165 @@
+package model;
+
+import player.GamePlayers;
+import strategies.Move;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the valid moves of both players of a game up to date across plays.
+ *
+ * <p>Validity is decided by {@link Game#isValidMove(int, int, GamePlayers)} for every (q, r) in
+ * the size x size square that the games scan, and a cell's validity only depends on the cell
+ * and its neighbors. When the game reports the cells changed by a play, only those cells and
+ * their neighbors are re-checked. Any other change to the board (for example a strategy writing
+ * to the board directly) is detected through {@link Board#getModificationCount()} and answered
+ * with a full rescan.</p>
+ *
+ * <p>The lists handed out are immutable snapshots, shared between callers until the set of
+ * valid moves actually changes, so repeated calls within a turn do not allocate.</p>
+ */
+class ValidMoveCache {
+  private final Game game;
+  private final Board board;
+  private final int size;
+  private final Move[] moves;
+  private final boolean[][] valid;
+  private final int[] counts = new int[GamePlayers.values().length];
+  private final List<List<Move>> snapshots = new ArrayList<>();
+
+  private final int[] changedQ;
+  private final int[] changedR;
+  private int changedCount;
+  private long changeStart;
+
+  private long synced = -1;
+
+  /**
+   * Creates a cache for the given game played on the given board.
+   *
+   * @param game  The game whose validity rule is cached.
+   * @param board The board the game is played on.
+   */
+  ValidMoveCache(Game game, Board board) {
+    this.game = game;
+    this.board = board;
+    this.size = board.getSize();
+    this.moves = new Move[size * size];
+    this.valid = new boolean[GamePlayers.values().length][size * size];
+    for (int q = 0; q < size; q++) {
+      for (int r = 0; r < size; r++) {
+        moves[q * size + r] = new Move(q, r);
+      }
+    }
+    for (int p = 0; p < counts.length; p++) {
+      snapshots.add(null);
+    }
+    int capacity = board.getBoardMap().size() + 1;
+    this.changedQ = new int[capacity];
+    this.changedR = new int[capacity];
+  }
+
+  /**
+   * Gets the valid moves of the given player, ordered by q and then r.
+   *
+   * @param player The player to move.
+   * @return An immutable list of the valid moves.
+   */
+  List<Move> get(GamePlayers player) {
+    if (board.getModificationCount() != synced) {
+      rebuild();
+    }
+    int p = player.ordinal();
+    List<Move> snapshot = snapshots.get(p);
+    if (snapshot == null) {
+      List<Move> list = new ArrayList<>(counts[p]);
+      for (int i = 0; i < moves.length; i++) {
+        if (valid[p][i]) {
+          list.add(moves[i]);
+        }
+      }
+      snapshot = Collections.unmodifiableList(list);
+      snapshots.set(p, snapshot);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Marks the start of a play; the cells it changes follow through {@link #cellChanged}.
+   */
+  void beginChange() {
+    changedCount = 0;
+    changeStart = board.getModificationCount();
+  }
+
+  /**
+   * Records a cell whose state was changed by the current play.
+   *
+   * @param q The q-coordinate of the cell.
+   * @param r The r-coordinate of the cell.
+   */
+  void cellChanged(int q, int r) {
+    changedQ[changedCount] = q;
+    changedR[changedCount] = r;
+    changedCount++;
+  }
+
+  /**
+   * Marks the end of a play and re-checks the cells around the recorded changes. If the cache
+   * was not in sync with the board when the play began, the next lookup rescans instead.
+   */
+  void endChange() {
+    if (changeStart != synced) {
+      return;
+    }
+    for (int i = 0; i < changedCount; i++) {
+      int q = changedQ[i];
+      int r = changedR[i];
+      recheck(q, r);
+      for (int[] offset : Cell.neighborOffsets(board.getCell(q, r).getGridType())) {
+        recheck(q + offset[0], r + offset[1]);
+      }
+    }
+    synced = board.getModificationCount();
+  }
+
+  /*
+   * Re-evaluates one cell for both players, dropping a player's snapshot if its value changes.
+   */
+  private void recheck(int q, int r) {
+    if (q < 0 || q >= size || r < 0 || r >= size) {
+      return;
+    }
+    int index = q * size + r;
+    for (GamePlayers player : GamePlayers.values()) {
+      int p = player.ordinal();
+      boolean now = game.isValidMove(q, r, player);
+      if (now != valid[p][index]) {
+        valid[p][index] = now;
+        counts[p] += now ? 1 : -1;
+        snapshots.set(p, null);
+      }
+    }
+  }
+
+  /*
+   * Re-evaluates every cell for both players.
+   */
+  private void rebuild() {
+    for (GamePlayers player : GamePlayers.values()) {
+      int p = player.ordinal();
+      counts[p] = 0;
+      for (int q = 0; q < size; q++) {
+        for (int r = 0; r < size; r++) {
+          boolean now = game.isValidMove(q, r, player);
+          valid[p][q * size + r] = now;
+          counts[p] += now ? 1 : 0;
+        }
+      }
+      snapshots.set(p, null);
+    }
+    synced = board.getModificationCount();
+  }
+}
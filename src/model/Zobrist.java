@@ -0,0 +1,64 @@
+package model;
+
+/**
+ * The Zobrist keys used to hash board positions.
+ *
+ * <p>Every (cell, colour) pair has a pseudo-random 64-bit key, and the hash of a position is
+ * the XOR of the keys of its occupied cells, XORed with {@link #WHITE_TO_MOVE} when it is
+ * White's turn. Changing a cell from one state to another XORs out the old key and XORs in
+ * the new one, so boards keep their hash up to date in constant time per changed cell.</p>
+ *
+ * <p>The keys are derived from the coordinates with a fixed SplitMix64 mix instead of being
+ * drawn from a seeded table, so they work for every board size and are the same in every run.
+ * Hashes can therefore be stored on disk and compared between runs.</p>
+ */
+public final class Zobrist {
+  private static final long SEED = 0x5deece66d2f1a3b5L;
+
+  /**
+   * The key XORed into a position hash when it is White's turn to move.
+   */
+  public static final long WHITE_TO_MOVE = mix(SEED ^ 0x9e3779b97f4a7c15L);
+
+  private Zobrist() {
+  }
+
+  /**
+   * Gets the key of the given state on the given cell. Empty cells have the key 0, so they
+   * do not contribute to a hash.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state of the cell.
+   * @return The key of the state on the cell.
+   */
+  public static long key(int q, int r, CellState state) {
+    if (state == null || state == CellState.EMPTY) {
+      return 0L;
+    }
+    long packed = ((long) q << 33) ^ ((long) r << 2) ^ (state == CellState.X ? 1 : 2);
+    return mix(SEED + packed * 0x9e3779b97f4a7c15L);
+  }
+
+  /**
+   * Gets the change in hash when the given cell goes from one state to another.
+   *
+   * @param q        The q-coordinate of the cell.
+   * @param r        The r-coordinate of the cell.
+   * @param oldState The state before the change.
+   * @param newState The state after the change.
+   * @return The value to XOR into the hash.
+   */
+  public static long delta(int q, int r, CellState oldState, CellState newState) {
+    return oldState == newState ? 0L : key(q, r, oldState) ^ key(q, r, newState);
+  }
+
+  /*
+   * The SplitMix64 finalizer.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
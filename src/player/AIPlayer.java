@@ -5,6 +5,8 @@ package player;
 import model.Game;
 import model.ReadOnlyReversiModel;
 import strategies.Move;
+import strategies.OpeningBook;
+import strategies.OpeningBookStrategy;
 import strategies.ReversiStrategy;
 
 import java.util.List;
@@ -40,6 +42,19 @@ public class AIPlayer implements Player {
     this.strategy = strategy;
   }
 
+  /**
+   * Constructs a new AI player that plays from an opening book while the game is in it, and
+   * with the given strategy after that.
+   *
+   * @param model    The game model to use for the AI player.
+   * @param strategy The strategy to use for the AI player once out of the book.
+   * @param book     The opening book to consult before the strategy.
+   */
+
+  public AIPlayer(ReadOnlyReversiModel model, ReversiStrategy strategy, OpeningBook book) {
+    this(model, new OpeningBookStrategy(book, strategy));
+  }
+
   /**
    * Makes a move on the game board. If a strategy is set, it makes a strategic move; otherwise,
    * it makes a random move.
@@ -0,0 +1,175 @@
+package records;
+
+import model.CellState;
+import model.Game;
+import player.GamePlayers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A game record read in place from the memory of a {@link GameArchive}, without copying it.
+ *
+ * <p>The accessors read the bytes of the record as they are asked for, and the cells and moves
+ * are given by their numbers in the record (see {@link GameRecord}) rather than as cells or
+ * coordinates, so that going through a whole archive allocates nothing per game. A view is
+ * moved from game to game by the archive: one handed to a
+ * {@link GameArchive#forEach(java.util.function.Consumer)} action must not be kept, and
+ * {@link #toRecord()} copies the record out.</p>
+ */
+public final class ArchivedGame {
+  private ByteBuffer buffer;
+  private int start;
+  private int length;
+  private long index;
+  private int kind;
+  private int cellCount;
+  private int movesStart;
+
+  ArchivedGame() {
+    // Positioned by the archive.
+  }
+
+  /**
+   * Moves the view to a record.
+   *
+   * @param buffer The segment of the archive holding the record.
+   * @param start  Where the record starts in the segment.
+   * @param length The length of the record.
+   * @param index  The number of the game in the archive.
+   * @throws IllegalStateException if the bytes are not a game record.
+   */
+  void moveTo(ByteBuffer buffer, int start, int length, long index) {
+    this.buffer = buffer;
+    this.start = start;
+    this.length = length;
+    this.index = index;
+    if (length < GameRecord.HEADER_LENGTH + 1
+            || buffer.get(start) != GameRecord.MAGIC_R
+            || buffer.get(start + 1) != GameRecord.MAGIC_V
+            || buffer.get(start + 2) != GameRecord.VERSION) {
+      throw new IllegalStateException("Game " + index + " is not a game record.");
+    }
+    kind = buffer.get(start + 3) & 0xff;
+    if (kind != GameRecord.HEX && kind != GameRecord.SQUARE) {
+      throw new IllegalStateException("Game " + index + " is not a game record.");
+    }
+    try {
+      cellCount = GameRecord.cellCount(kind, getBoardSize());
+    } catch (IOException e) {
+      throw new IllegalStateException("Game " + index + " is not a game record.", e);
+    }
+    movesStart = start + GameRecord.HEADER_LENGTH + GameRecord.packedLength(cellCount);
+    // The cells and the end marker must fit, or the moves would be read past the record.
+    if (movesStart + 1 > start + length) {
+      throw new IllegalStateException("Game " + index + " is too short for its board.");
+    }
+  }
+
+  /**
+   * Gets the number of the game in the archive.
+   *
+   * @return The number of the game, starting from 0.
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Checks whether the game was played on a hexagonal board.
+   *
+   * @return True for a hexagonal board, false for a square one.
+   */
+  public boolean isHexagonal() {
+    return kind == GameRecord.HEX;
+  }
+
+  public int getBoardSize() {
+    return buffer.get(start + 4) & 0xff;
+  }
+
+  public GamePlayers getFirstPlayer() {
+    return buffer.get(start + 5) == 0 ? GamePlayers.Black : GamePlayers.White;
+  }
+
+  public int getCellCount() {
+    return cellCount;
+  }
+
+  /**
+   * Gets the state of a cell in the position the record starts from.
+   *
+   * @param cell The number of the cell.
+   * @return The state of the cell.
+   */
+  public CellState getCellState(int cell) {
+    int packed = buffer.get(start + GameRecord.HEADER_LENGTH + cell / 4);
+    return GameRecord.stateOf(packed >> (cell % 4 * 2) & 3);
+  }
+
+  /**
+   * Gets the number of recorded moves, passes included.
+   *
+   * @return The number of moves.
+   */
+  public int getMoveCount() {
+    return start + length - 1 - movesStart;
+  }
+
+  /**
+   * Checks whether a move is a pass.
+   *
+   * @param move The number of the move, from 0.
+   * @return True if the player passed.
+   */
+  public boolean isPass(int move) {
+    return getMoveCell(move) == GameRecord.PASS;
+  }
+
+  /**
+   * Gets the number of the cell a disc was placed on.
+   *
+   * @param move The number of the move, from 0.
+   * @return The number of the cell, or {@link GameRecord#PASS} for a pass.
+   */
+  public int getMoveCell(int move) {
+    return buffer.get(movesStart + move) & (GameRecord.WHITE_BIT - 1);
+  }
+
+  /**
+   * Gets the player who made a move.
+   *
+   * @param move The number of the move, from 0.
+   * @return The player who moved or passed.
+   */
+  public GamePlayers getMovePlayer(int move) {
+    return (buffer.get(movesStart + move) & GameRecord.WHITE_BIT) == 0 ? GamePlayers.Black
+            : GamePlayers.White;
+  }
+
+  /**
+   * Copies the record out of the archive.
+   *
+   * @return The record.
+   */
+  public GameRecord toRecord() {
+    byte[] bytes = new byte[length];
+    buffer.get(start, bytes);
+    try {
+      return GameRecord.read(new ByteArrayInputStream(bytes));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Replays the record, as {@link GameRecord#replay()} does.
+   *
+   * @return The game after the last recorded move.
+   */
+  public Game replay() {
+    return toRecord().replay();
+  }
+}
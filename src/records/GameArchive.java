@@ -0,0 +1,133 @@
+package records;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * An archive of game records written by a {@link GameArchiveWriter}, read through memory
+ * mappings so that any game can be reached at once and all of them gone through without
+ * copying or decoding them.
+ *
+ * <p>An archive is two files. The records themselves follow each other in the archive file,
+ * and the index file next to it, named after it with {@value #INDEX_SUFFIX} added, holds for
+ * every game the position in the archive file where its record ends, as 8 bytes, so game
+ * {@code n} is found at the {@code n}th entry and starts where the one before it ends. Both
+ * files are only ever appended to.</p>
+ *
+ * <p>The archive is read as it was when it was opened; games appended later are seen by
+ * opening it again. Records are handed out as {@link ArchivedGame} views on the mapped file.
+ * The files are closed once mapped, and the mappings are released when the archive is no
+ * longer used.</p>
+ */
+public final class GameArchive {
+  /** Added to the name of an archive file to name its index file. */
+  public static final String INDEX_SUFFIX = ".idx";
+  static final int INDEX_ENTRY_LENGTH = Long.BYTES;
+  static final int MAX_RECORD_LENGTH = 1 << 16;
+  private static final int SEGMENT_BITS = 30;
+
+  private final MappedFile records;
+  private final MappedFile index;
+  private final long size;
+
+  /**
+   * Opens an archive for reading.
+   *
+   * @param path The archive file; its index file is next to it.
+   * @throws IOException if either file cannot be opened or mapped.
+   */
+  public GameArchive(Path path) throws IOException {
+    this(path, SEGMENT_BITS);
+  }
+
+  /**
+   * Opens an archive for reading, mapping its files in segments of the given size.
+   *
+   * @param path        The archive file; its index file is next to it.
+   * @param segmentBits The size of the mapped segments as a power of two, at least 3.
+   * @throws IOException if either file cannot be opened or mapped.
+   */
+  GameArchive(Path path, int segmentBits) throws IOException {
+    records = new MappedFile(path, segmentBits, MAX_RECORD_LENGTH);
+    index = new MappedFile(indexPath(path), segmentBits, 0);
+    // An index entry past the end of the archive file was written before its record was.
+    long games = index.getLength() / INDEX_ENTRY_LENGTH;
+    while (games > 0 && end(games - 1) > records.getLength()) {
+      games--;
+    }
+    size = games;
+  }
+
+  /**
+   * Gets the index file of an archive file.
+   *
+   * @param path The archive file.
+   * @return The index file next to it.
+   */
+  public static Path indexPath(Path path) {
+    return path.resolveSibling(path.getFileName() + INDEX_SUFFIX);
+  }
+
+  /**
+   * Gets the number of games in the archive.
+   *
+   * @return The number of games.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Gets a view of a game of the archive.
+   *
+   * @param game The number of the game, from 0.
+   * @return A view of the record of the game.
+   * @throws IndexOutOfBoundsException if there is no such game.
+   * @throws IllegalStateException     if the archive does not hold a game record there.
+   */
+  public ArchivedGame get(long game) {
+    ArchivedGame view = new ArchivedGame();
+    moveTo(view, game);
+    return view;
+  }
+
+  /**
+   * Goes through all the games of the archive in order. The same view is moved from game to
+   * game, so it must not be kept once the action returns.
+   *
+   * @param action Given the view of every game.
+   * @throws IllegalStateException if the archive does not hold a game record somewhere.
+   */
+  public void forEach(Consumer<ArchivedGame> action) {
+    ArchivedGame view = new ArchivedGame();
+    for (long game = 0; game < size; game++) {
+      moveTo(view, game);
+      action.accept(view);
+    }
+  }
+
+  /*
+   * Moves a view to the record of a game.
+   */
+  private void moveTo(ArchivedGame view, long game) {
+    if (game < 0 || game >= size) {
+      throw new IndexOutOfBoundsException("No game " + game + " in an archive of " + size
+              + ".");
+    }
+    long start = game == 0 ? 0 : end(game - 1);
+    long length = end(game) - start;
+    if (length < 0 || length > MAX_RECORD_LENGTH) {
+      throw new IllegalStateException("Game " + game + " is not a game record.");
+    }
+    view.moveTo(records.segment(start), records.offset(start), (int) length, game);
+  }
+
+  /*
+   * The position in the archive file where the record of a game ends.
+   */
+  private long end(long game) {
+    long position = game * INDEX_ENTRY_LENGTH;
+    return index.segment(position).getLong(index.offset(position));
+  }
+}
@@ -0,0 +1,163 @@
+package records;
+
+import model.Game;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends games to a {@link GameArchive}, creating it if needed.
+ *
+ * <p>Games are either recorded as they are played, between {@link #start(Game)} and
+ * {@link #finish()}, or appended as records. Both files are written through buffers, the
+ * archive file first when flushing, and index entries that point past the end of the archive
+ * file are ignored, so an archive whose writer stopped halfway still reads as the games that
+ * were written whole. Opening the writer again cuts off what was written of the others.</p>
+ */
+public class GameArchiveWriter implements Closeable {
+  private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+  private final GameRecordWriter recorder = new GameRecordWriter(pending);
+  private final OutputStream records;
+  private final DataOutputStream index;
+  private long end;
+
+  /**
+   * Opens an archive for appending, creating its files if they do not exist.
+   *
+   * @param path The archive file; its index file is next to it.
+   * @throws IOException if the files cannot be opened or repaired.
+   */
+  public GameArchiveWriter(Path path) throws IOException {
+    FileChannel recordChannel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.READ);
+    FileChannel indexChannel = FileChannel.open(GameArchive.indexPath(path),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    try {
+      end = recover(recordChannel, indexChannel);
+    } catch (IOException e) {
+      recordChannel.close();
+      indexChannel.close();
+      throw e;
+    }
+    records = new BufferedOutputStream(Channels.newOutputStream(recordChannel));
+    index = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(indexChannel)));
+  }
+
+  /**
+   * Starts recording a game from its current position, to append it once it is finished.
+   *
+   * @param game The game to record.
+   * @throws IOException           if the game cannot be recorded.
+   * @throws IllegalStateException if another game is being recorded.
+   */
+  public void start(Game game) throws IOException {
+    recorder.start(game);
+  }
+
+  /**
+   * Appends the game being recorded to the archive. Does nothing if no game is being recorded.
+   *
+   * @throws IOException if the archive cannot be written.
+   */
+  public void finish() throws IOException {
+    if (pending.size() == 0) {
+      return;
+    }
+    recorder.finish();
+    appendPending();
+  }
+
+  /**
+   * Appends a record to the archive.
+   *
+   * @param record The record to append.
+   * @throws IOException           if the archive cannot be written.
+   * @throws IllegalStateException if a game is being recorded.
+   */
+  public void append(GameRecord record) throws IOException {
+    if (pending.size() != 0) {
+      throw new IllegalStateException("A game is being recorded.");
+    }
+    record.write(pending);
+    appendPending();
+  }
+
+  /**
+   * Writes the appended games out to the files.
+   *
+   * @throws IOException if the archive cannot be written.
+   */
+  public void flush() throws IOException {
+    records.flush();
+    index.flush();
+  }
+
+  /**
+   * Writes the appended games out and closes the archive. A game still being recorded is not
+   * appended.
+   *
+   * @throws IOException if the archive cannot be written or closed.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      try {
+        records.close();
+      } finally {
+        index.close();
+      }
+    }
+  }
+
+  /*
+   * Appends the pending record and its index entry.
+   */
+  private void appendPending() throws IOException {
+    try {
+      if (pending.size() > GameArchive.MAX_RECORD_LENGTH) {
+        throw new IOException("Record is too long to archive.");
+      }
+      pending.writeTo(records);
+      end += pending.size();
+      index.writeLong(end);
+    } finally {
+      pending.reset();
+    }
+  }
+
+  /*
+   * Cuts the index down to whole entries that point into the archive file and the archive
+   * file down to the end of the last record, and leaves both channels at their end.
+   */
+  private static long recover(FileChannel records, FileChannel index) throws IOException {
+    long entries = index.size() / GameArchive.INDEX_ENTRY_LENGTH;
+    long end = 0;
+    ByteBuffer entry = ByteBuffer.allocate(GameArchive.INDEX_ENTRY_LENGTH);
+    while (entries > 0) {
+      entry.clear();
+      index.read(entry, (entries - 1) * GameArchive.INDEX_ENTRY_LENGTH);
+      end = entry.getLong(0);
+      if (end <= records.size()) {
+        break;
+      }
+      entries--;
+      end = 0;
+    }
+    index.truncate(entries * GameArchive.INDEX_ENTRY_LENGTH);
+    records.truncate(end);
+    index.position(index.size());
+    records.position(end);
+    return end;
+  }
+}
@@ -0,0 +1,260 @@
+package records;
+
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ModelListener;
+import player.GamePlayers;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the game in progress in a file as it is played, so that it can be taken up again after
+ * the program stops or crashes.
+ *
+ * <p>The journal is a {@link GameRecord} that is written as the game goes and only ended once
+ * the game is over. Every move or pass is written to the file as soon as it happens, so it
+ * survives the program dying. Forcing the file to the disk, so that it also survives the
+ * machine going down, is done once every few moves and when the game ends or the journal is
+ * closed: a crash of the machine costs at most the moves since the last time. If the journal
+ * cannot be written while the game is played, the failure is reported once and the game goes
+ * on without a journal; nothing is thrown to the game or its other listeners.</p>
+ *
+ * <p>{@link #start(Game)} replaces the journal with the game's current position in one step,
+ * through a new file moved over the old one, so the old game stays readable until the new one
+ * is. {@link #recover(Path)} replays an unfinished journal, and
+ * {@link #resume(Path, Class, Supplier)} does both for a program starting up.</p>
+ */
+public class GameJournal implements ModelListener, Closeable {
+  /** The number of moves written between forcing the journal to the disk, by default. */
+  public static final int DEFAULT_SYNC_INTERVAL = 8;
+
+  private final Path path;
+  private final int syncInterval;
+  private final ByteBuffer move = ByteBuffer.allocate(1);
+  private FileChannel channel;
+  private Game game;
+  private Map<HexCoordinate, Integer> cellNumbers;
+  private int unsynced;
+
+  /**
+   * Creates a journal in the given file, forced to the disk every
+   * {@value #DEFAULT_SYNC_INTERVAL} moves.
+   *
+   * @param path The file of the journal.
+   */
+  public GameJournal(Path path) {
+    this(path, DEFAULT_SYNC_INTERVAL);
+  }
+
+  /**
+   * Creates a journal in the given file.
+   *
+   * @param path         The file of the journal.
+   * @param syncInterval The number of moves written between forcing the journal to the disk.
+   * @throws IllegalArgumentException if the path is null or the interval is less than 1.
+   */
+  public GameJournal(Path path, int syncInterval) {
+    if (path == null || syncInterval < 1) {
+      throw new IllegalArgumentException("Journal needs a file and a positive sync interval.");
+    }
+    this.path = path;
+    this.syncInterval = syncInterval;
+  }
+
+  /**
+   * Replays the unfinished game of a journal. The moves since Black was last to move are taken
+   * back, as games are started with Black to move; against the AI player, these are the moves
+   * of a turn it had not answered yet.
+   *
+   * @param path The file of the journal.
+   * @return The game, or null if there is no journal or its game was over.
+   * @throws IOException if the journal cannot be read or is not a game record.
+   */
+  public static Game recover(Path path) throws IOException {
+    GameRecord record;
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+      record = GameRecord.readUnfinished(in);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (EOFException e) {
+      return null; // the journal was cut off before its first move
+    }
+    if (record == null) {
+      return null;
+    }
+    Game game = record.replay();
+    for (int i = 0; i < record.getMoveCount() && game.getCurrentPlayer() != GamePlayers.Black;
+         i++) {
+      game.unmakeMove();
+    }
+    return game;
+  }
+
+  /**
+   * Takes up the unfinished game of a journal again, or starts a new game if there is none to
+   * take up, and keeps it in the journal from then on. A journal that cannot be read or
+   * replayed, or is of another kind of game, is replaced, and the game is played without a
+   * journal if the file cannot be written; either is reported on the console.
+   *
+   * @param path    The file of the journal.
+   * @param kind    The class of the games to take up.
+   * @param newGame Makes the game to play if there is none to take up.
+   * @param <G>     The type of the game.
+   * @return The game to play.
+   */
+  public static <G extends Game> G resume(Path path, Class<G> kind, Supplier<G> newGame) {
+    G game = null;
+    try {
+      Game recovered = recover(path);
+      if (kind.isInstance(recovered)) {
+        System.out.println("Resuming the game from " + path);
+        game = kind.cast(recovered);
+      }
+    } catch (IOException | RuntimeException e) {
+      // Any failure to replay a corrupt journal only costs the game in it.
+      System.out.println("Cannot resume the game from " + path + ": " + e);
+    }
+    if (game == null) {
+      game = newGame.get();
+    }
+    try {
+      new GameJournal(path).start(game);
+    } catch (IOException e) {
+      System.out.println("Cannot keep the game in " + path + ": " + e.getMessage());
+    }
+    return game;
+  }
+
+  /**
+   * Starts the journal of a game from its current position, replacing the journal of any other
+   * game, and writes every move of the game from then on.
+   *
+   * @param game The game to keep.
+   * @throws IOException           if the journal cannot be written.
+   * @throws IllegalStateException if a game is already being kept.
+   */
+  public void start(Game game) throws IOException {
+    if (this.game != null) {
+      throw new IllegalStateException("A game is already being kept.");
+    }
+    HexCoordinate[] order = GameRecord.cellOrder(game.getBoard());
+    Path next = path.resolveSibling(path.getFileName() + ".new");
+    try (FileChannel out = FileChannel.open(next, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      out.write(ByteBuffer.wrap(GameRecord.start(game, order)));
+      out.force(true);
+    }
+    Files.move(next, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    cellNumbers = GameRecord.cellNumbers(order);
+    unsynced = 0;
+    this.game = game;
+    game.addModelListener(this);
+  }
+
+  /**
+   * Forces the moves written so far to the disk.
+   *
+   * @throws IOException if the journal cannot be forced.
+   */
+  public void sync() throws IOException {
+    if (channel != null && unsynced > 0) {
+      channel.force(false);
+      unsynced = 0;
+    }
+  }
+
+  /**
+   * Stops keeping the game, forcing the moves written so far to the disk. The journal is left
+   * unfinished, to be recovered.
+   *
+   * @throws IOException if the journal cannot be forced or closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (game == null) {
+      return;
+    }
+    game.removeModelListener(this);
+    game = null;
+    try {
+      sync();
+    } finally {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  @Override
+  public void discPlaced(int q, int r, CellState state) {
+    write(GameRecord.move(cellNumbers.get(new HexCoordinate(q, r)),
+            state == CellState.O ? GamePlayers.White : GamePlayers.Black));
+  }
+
+  @Override
+  public void passed(GamePlayers player) {
+    write(GameRecord.move(GameRecord.PASS, player));
+  }
+
+  /**
+   * Ends the journal once the game is over, so that it is not recovered.
+   *
+   * @param winner The winner, or null for a draw.
+   */
+  @Override
+  public void gameOver(GamePlayers winner) {
+    write(GameRecord.END);
+    if (game == null) {
+      return; // the journal failed while writing the end
+    }
+    try {
+      close();
+    } catch (IOException e) {
+      System.out.println("Cannot keep the game in " + path + ": " + e.getMessage());
+    }
+  }
+
+  /*
+   * Writes a byte of the journal while the game is played, forcing the journal to the disk
+   * once enough moves were written since the last time. Stops keeping the game if the journal
+   * cannot be written, as this runs inside the game's action.
+   */
+  private void write(int value) {
+    if (game == null) {
+      return;
+    }
+    try {
+      move.clear();
+      move.put((byte) value).flip();
+      channel.write(move);
+      if (++unsynced >= syncInterval) {
+        sync();
+      }
+    } catch (IOException e) {
+      System.out.println("Cannot keep the game in " + path + ": " + e.getMessage());
+      game.removeModelListener(this);
+      game = null;
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+        // the journal is given up anyway
+      }
+      channel = null;
+    }
+  }
+}
@@ -0,0 +1,348 @@
+package records;
+
+import model.Board;
+import model.BoardImpl;
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ReversiGame;
+import model.SquareBoard;
+import model.SquareReversiGame;
+import player.GamePlayers;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded game in the compact binary game-record format: the board, the position the
+ * recording started from and one byte per move.
+ *
+ * <p>A record is laid out as follows:</p>
+ * <pre>
+ *   'R' 'V'        magic
+ *   1              format version
+ *   kind           0 for a hexagonal board, 1 for a square board
+ *   size           the size the board was created with
+ *   player         the player to move at the start: 0 for Black, 1 for White
+ *   cells          the starting position, 2 bits per cell (0 empty, 1 X, 2 O), four cells per
+ *                  byte starting with the low bits
+ *   moves          one byte per move: the player in the high bit (0 for Black, 1 for White),
+ *                  and in the low 7 bits the number of the cell or 126 for a pass
+ *   127            end of the record
+ * </pre>
+ *
+ * <p>Cells are numbered in the order of their coordinates, row by row ({@code r}, then
+ * {@code q}), so that boards with up to 126 cells can be recorded. The starting position is
+ * packed as in {@link Board#snapshot()}. Records carry their own end,
+ * so any number of them can follow each other in a stream.</p>
+ */
+public final class GameRecord {
+  static final int MAGIC_R = 'R';
+  static final int MAGIC_V = 'V';
+  static final int VERSION = 1;
+  static final int HEX = 0;
+  static final int SQUARE = 1;
+  /** The number a pass is recorded as in place of a cell. */
+  public static final int PASS = 126;
+  static final int END = 127;
+  static final int WHITE_BIT = 0x80;
+  static final int MAX_CELLS = PASS;
+  static final int HEADER_LENGTH = 6;
+  private static final int MIN_HEX_SIZE = 4; // the smallest boards with the opening discs
+  private static final int MIN_SQUARE_SIZE = 5;
+  private static final Comparator<HexCoordinate> ROW_ORDER =
+          Comparator.comparingInt(HexCoordinate::getR).thenComparingInt(HexCoordinate::getQ);
+
+  private final int kind;
+  private final int size;
+  private final GamePlayers firstPlayer;
+  private final byte[] cells;
+  private final byte[] moves;
+
+  private GameRecord(int kind, int size, GamePlayers firstPlayer, byte[] cells, byte[] moves) {
+    this.kind = kind;
+    this.size = size;
+    this.firstPlayer = firstPlayer;
+    this.cells = cells;
+    this.moves = moves;
+  }
+
+  /**
+   * Reads the next record of a stream.
+   *
+   * @param in The stream to read from.
+   * @return The record, or null if the stream ends before a new record.
+   * @throws IOException if the stream cannot be read, ends inside a record or does not hold a
+   *                     game record.
+   */
+  public static GameRecord read(InputStream in) throws IOException {
+    return read(in, true);
+  }
+
+  /**
+   * Reads a record that is still being written, such as the game of a {@link GameJournal}: its
+   * moves run to the end of the stream instead of an end marker.
+   *
+   * @param in The stream to read from.
+   * @return The record, or null if the stream is empty or the record was ended.
+   * @throws IOException if the stream cannot be read, ends inside the start of the record or
+   *                     does not hold a game record.
+   */
+  static GameRecord readUnfinished(InputStream in) throws IOException {
+    return read(in, false);
+  }
+
+  /*
+   * Reads a record up to its end marker, or for an unfinished record up to the end of the
+   * stream, in which case a record that has an end marker is not returned.
+   */
+  private static GameRecord read(InputStream in, boolean ended) throws IOException {
+    int first = in.read();
+    if (first < 0) {
+      return null;
+    }
+    DataInputStream data = new DataInputStream(in);
+    if (first != MAGIC_R || data.readUnsignedByte() != MAGIC_V) {
+      throw new IOException("Not a game record.");
+    }
+    if (data.readUnsignedByte() != VERSION) {
+      throw new IOException("Unsupported game record version.");
+    }
+    int kind = data.readUnsignedByte();
+    if (kind != HEX && kind != SQUARE) {
+      throw new IOException("Unknown board kind " + kind + ".");
+    }
+    int size = data.readUnsignedByte();
+    GamePlayers firstPlayer = data.readUnsignedByte() == 0 ? GamePlayers.Black
+            : GamePlayers.White;
+    byte[] cells = new byte[packedLength(cellCount(kind, size))];
+    data.readFully(cells);
+
+    byte[] moves = new byte[64];
+    int count = 0;
+    int move = in.read();
+    for (; move >= 0 && move != END; move = in.read()) {
+      if (count == moves.length) {
+        moves = Arrays.copyOf(moves, count * 2);
+      }
+      moves[count++] = (byte) move;
+    }
+    if (ended && move < 0) {
+      throw new EOFException("Game record has no end.");
+    }
+    if (!ended && move == END) {
+      return null;
+    }
+    return new GameRecord(kind, size, firstPlayer, cells, Arrays.copyOf(moves, count));
+  }
+
+  /**
+   * Writes the record, in the same format as a {@link GameRecordWriter}.
+   *
+   * @param out The stream to write to.
+   * @throws IOException if the stream cannot be written.
+   */
+  public void write(OutputStream out) throws IOException {
+    out.write(new byte[] {MAGIC_R, MAGIC_V, VERSION, (byte) kind, (byte) size,
+            (byte) (firstPlayer == GamePlayers.Black ? 0 : 1)});
+    out.write(cells);
+    out.write(moves);
+    out.write(END);
+  }
+
+  /**
+   * Plays the recorded game again on a new {@link ReversiGame} or {@link SquareReversiGame},
+   * starting from the recorded position.
+   *
+   * @return The game after the last recorded move.
+   * @throws IllegalStateException if a recorded move is not valid in the replayed game.
+   */
+  public Game replay() {
+    Game game = kind == HEX ? new ReversiGame(new BoardImpl(size))
+            : new SquareReversiGame(new SquareBoard(size));
+    HexCoordinate[] order = cellOrder(game.getBoard());
+    game.getBoard().restore(toSnapshot(cells));
+    game.setCurrentPlayer(firstPlayer);
+
+    for (byte move : moves) {
+      game.setCurrentPlayer((move & WHITE_BIT) == 0 ? GamePlayers.Black : GamePlayers.White);
+      int cell = move & (WHITE_BIT - 1);
+      try {
+        if (cell == PASS) {
+          game.makePass();
+        } else {
+          game.makeMove(order[cell].getQ(), order[cell].getR());
+        }
+      } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+        throw new IllegalStateException("Recorded move " + cell + " cannot be played.", e);
+      }
+    }
+    return game;
+  }
+
+  /**
+   * Checks whether the record is of a game on a hexagonal board.
+   *
+   * @return True for a hexagonal board, false for a square one.
+   */
+  public boolean isHexagonal() {
+    return kind == HEX;
+  }
+
+  public int getBoardSize() {
+    return size;
+  }
+
+  public GamePlayers getFirstPlayer() {
+    return firstPlayer;
+  }
+
+  /**
+   * Gets the number of recorded moves, passes included.
+   *
+   * @return The number of moves.
+   */
+  public int getMoveCount() {
+    return moves.length;
+  }
+
+  /**
+   * Gets the start of the record of a game, up to its first move: the header and the cells of
+   * the game's current position.
+   *
+   * @param game  The game to record.
+   * @param order The cells of the game's board, as {@link #cellOrder(Board)} numbers them.
+   * @return The bytes the record starts with.
+   * @throws IllegalArgumentException if the board has more cells than a record can number.
+   */
+  static byte[] start(Game game, HexCoordinate[] order) {
+    if (order.length > MAX_CELLS) {
+      throw new IllegalArgumentException("Board has too many cells to record.");
+    }
+    byte[] cells = fromSnapshot(game.getBoard().snapshot(), order.length);
+    byte[] start = new byte[HEADER_LENGTH + cells.length];
+    start[0] = MAGIC_R;
+    start[1] = MAGIC_V;
+    start[2] = VERSION;
+    start[3] = (byte) (game instanceof ReversiGame ? HEX : SQUARE);
+    start[4] = (byte) game.getBoardSize();
+    start[5] = (byte) (game.getCurrentPlayer() == GamePlayers.Black ? 0 : 1);
+    System.arraycopy(cells, 0, start, HEADER_LENGTH, cells.length);
+    return start;
+  }
+
+  /**
+   * Gets the byte a move is recorded as.
+   *
+   * @param cell   The number of the cell, or {@link #PASS}.
+   * @param player The player who moved.
+   * @return The byte of the move.
+   */
+  static int move(int cell, GamePlayers player) {
+    return cell | (player == GamePlayers.White ? WHITE_BIT : 0);
+  }
+
+  /**
+   * Gets the cells of a board in the order they are numbered in records.
+   *
+   * @param board The board.
+   * @return The coordinates of the cells of the board, row by row.
+   */
+  static HexCoordinate[] cellOrder(Board board) {
+    List<HexCoordinate> coordinates = new ArrayList<>(board.getBoardMap().keySet());
+    coordinates.sort(ROW_ORDER);
+    return coordinates.toArray(new HexCoordinate[0]);
+  }
+
+  /**
+   * Numbers the cells of a board for recording its moves.
+   *
+   * @param order The cells of the board, as {@link #cellOrder(Board)} numbers them.
+   * @return The number of every cell by its coordinates.
+   */
+  static Map<HexCoordinate, Integer> cellNumbers(HexCoordinate[] order) {
+    Map<HexCoordinate, Integer> numbers = new HashMap<>();
+    for (int i = 0; i < order.length; i++) {
+      numbers.put(order[i], i);
+    }
+    return numbers;
+  }
+
+  /**
+   * Gets the number of bytes the given number of cells are packed into.
+   *
+   * @param cellCount The number of cells.
+   * @return The number of bytes.
+   */
+  static int packedLength(int cellCount) {
+    return (cellCount + 3) / 4;
+  }
+
+  /**
+   * Gets the cells of a record from a {@link Board#snapshot()}, which numbers and packs the
+   * cells the same way: the record holds the bytes of its words, low bytes first.
+   *
+   * @param snapshot  The snapshot of the board.
+   * @param cellCount The number of cells of the board.
+   * @return The packed cells of the record.
+   */
+  static byte[] fromSnapshot(long[] snapshot, int cellCount) {
+    byte[] cells = new byte[packedLength(cellCount)];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = (byte) (snapshot[i >>> 3] >>> ((i & 7) << 3));
+    }
+    return cells;
+  }
+
+  /*
+   * Turns the cells of a record back into a snapshot to restore on a board.
+   */
+  private static long[] toSnapshot(byte[] cells) {
+    long[] snapshot = new long[(cells.length + 7) >>> 3];
+    for (int i = 0; i < cells.length; i++) {
+      snapshot[i >>> 3] |= (cells[i] & 0xffL) << ((i & 7) << 3);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Gets the number of cells of the board of a record: 3n * n - 3n + 1 for a hexagonal board of
+   * size n, with its 2n - 1 rows, and n * n for a square one. Only boards that hold the opening
+   * discs and have no more cells than a record can number are accepted, as no other record can
+   * be written.
+   *
+   * @param kind The kind of board, {@link #HEX} or {@link #SQUARE}.
+   * @param size The size of the board, below 256.
+   * @return The number of cells.
+   * @throws IOException if there is no recordable board of that size.
+   */
+  static int cellCount(int kind, int size) throws IOException {
+    if (size < (kind == HEX ? MIN_HEX_SIZE : MIN_SQUARE_SIZE)) {
+      throw new IOException("Invalid board size " + size + ".");
+    }
+    int count = kind == HEX ? 3 * size * size - 3 * size + 1 : size * size;
+    if (count > MAX_CELLS) {
+      throw new IOException("Board of size " + size + " has too many cells to record.");
+    }
+    return count;
+  }
+
+  /**
+   * Gets the state a cell is packed as.
+   *
+   * @param code The 2 bits of the cell.
+   * @return The state of the cell.
+   */
+  static CellState stateOf(int code) {
+    return code == 1 ? CellState.X : code == 2 ? CellState.O : CellState.EMPTY;
+  }
+}
@@ -0,0 +1,56 @@
+package records;
+
+import model.Game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the records written by a {@link GameRecordWriter} back from a stream, one game at a
+ * time, so that any number of recorded games can be gone through without holding them all.
+ */
+public class GameRecordReader implements Closeable {
+  private final InputStream in;
+
+  /**
+   * Creates a reader on the given stream. The stream should be buffered.
+   *
+   * @param in The stream to read the records from.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  public GameRecordReader(InputStream in) {
+    if (in == null) {
+      throw new IllegalArgumentException("Stream cannot be null.");
+    }
+    this.in = in;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The record, or null if there are no more records.
+   * @throws IOException if the stream cannot be read or does not hold a complete record.
+   */
+  public GameRecord read() throws IOException {
+    return GameRecord.read(in);
+  }
+
+  /**
+   * Reads the next record and replays it.
+   *
+   * @return The game after the last recorded move, or null if there are no more records.
+   * @throws IOException           if the stream cannot be read or does not hold a complete
+   *                               record.
+   * @throws IllegalStateException if a recorded move cannot be played.
+   */
+  public Game next() throws IOException {
+    GameRecord record = read();
+    return record == null ? null : record.replay();
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+}
@@ -0,0 +1,114 @@
+package records;
+
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ModelListener;
+import player.GamePlayers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Records games as they are played, in the format of {@link GameRecord}.
+ *
+ * <p>{@link #start(Game)} writes the position the game is in and listens to the game from then
+ * on: every disc placed and every pass is written as one byte as soon as it happens, so nothing
+ * but the stream grows while the game goes on. {@link #finish()} ends the record, after which
+ * the next game can be started on the same stream. Failures to write while the game is played
+ * are thrown as {@link UncheckedIOException} from the game's action.</p>
+ */
+public class GameRecordWriter implements ModelListener, Closeable {
+  private final OutputStream out;
+  private Game game;
+  private Map<HexCoordinate, Integer> cellNumbers;
+
+  /**
+   * Creates a writer on the given stream. The stream is written a byte at a time, so it should
+   * be buffered.
+   *
+   * @param out The stream to write the records to.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  public GameRecordWriter(OutputStream out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Stream cannot be null.");
+    }
+    this.out = out;
+  }
+
+  /**
+   * Starts recording a game from its current position.
+   *
+   * @param game The game to record.
+   * @throws IOException              if the stream cannot be written.
+   * @throws IllegalStateException    if another game is being recorded.
+   * @throws IllegalArgumentException if the board has more cells than a record can number.
+   */
+  public void start(Game game) throws IOException {
+    if (this.game != null) {
+      throw new IllegalStateException("A game is already being recorded.");
+    }
+    HexCoordinate[] order = GameRecord.cellOrder(game.getBoard());
+    out.write(GameRecord.start(game, order));
+    cellNumbers = GameRecord.cellNumbers(order);
+    this.game = game;
+    game.addModelListener(this);
+  }
+
+  /**
+   * Ends the record of the current game and flushes the stream. Does nothing if no game is
+   * being recorded.
+   *
+   * @throws IOException if the stream cannot be written.
+   */
+  public void finish() throws IOException {
+    if (game == null) {
+      return;
+    }
+    game.removeModelListener(this);
+    game = null;
+    cellNumbers = null;
+    out.write(GameRecord.END);
+    out.flush();
+  }
+
+  /**
+   * Ends the record of the current game, if any, and closes the stream.
+   *
+   * @throws IOException if the stream cannot be written or closed.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      out.close();
+    }
+  }
+
+  @Override
+  public void discPlaced(int q, int r, CellState state) {
+    int cell = cellNumbers.get(new HexCoordinate(q, r));
+    write(GameRecord.move(cell, state == CellState.O ? GamePlayers.White : GamePlayers.Black));
+  }
+
+  @Override
+  public void passed(GamePlayers player) {
+    write(GameRecord.move(GameRecord.PASS, player));
+  }
+
+  /*
+   * Writes a move while the game is played, where IOException cannot be thrown.
+   */
+  private void write(int move) {
+    try {
+      out.write(move);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
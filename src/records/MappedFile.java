@@ -0,0 +1,69 @@
+package records;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file mapped into memory read-only, in segments so that files larger than a single mapping
+ * can be read.
+ *
+ * <p>Every segment starts at a multiple of the segment size and reaches a little past the next
+ * one, by the overlap, so that anything up to the overlap long can be read from the segment it
+ * starts in. The mappings stay valid once the file is closed; they are released when the
+ * buffers are collected.</p>
+ */
+final class MappedFile {
+  private final ByteBuffer[] segments;
+  private final int segmentBits;
+  private final long length;
+
+  /**
+   * Maps the given file as it is now.
+   *
+   * @param path        The file to map.
+   * @param segmentBits The size of the segments as a power of two, up to 30.
+   * @param overlap     How far every segment reaches past the start of the next one.
+   * @throws IOException if the file cannot be opened or mapped.
+   */
+  MappedFile(Path path, int segmentBits, int overlap) throws IOException {
+    this.segmentBits = segmentBits;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      length = channel.size();
+      long segmentSize = 1L << segmentBits;
+      segments = new ByteBuffer[(int) ((length + segmentSize - 1) >> segmentBits)];
+      for (int i = 0; i < segments.length; i++) {
+        long start = (long) i << segmentBits;
+        long size = Math.min(segmentSize + overlap, length - start);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+      }
+    }
+  }
+
+  long getLength() {
+    return length;
+  }
+
+  /**
+   * Gets the segment holding the given position of the file, to read with absolute gets at
+   * {@link #offset(long)}.
+   *
+   * @param position The position in the file.
+   * @return The segment the position starts in.
+   */
+  ByteBuffer segment(long position) {
+    return segments[(int) (position >> segmentBits)];
+  }
+
+  /**
+   * Gets where a position of the file is in its segment.
+   *
+   * @param position The position in the file.
+   * @return The offset of the position in {@link #segment(long)}.
+   */
+  int offset(long position) {
+    return (int) (position & ((1L << segmentBits) - 1));
+  }
+}
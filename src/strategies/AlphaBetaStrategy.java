@@ -0,0 +1,378 @@
+package strategies;
+
+import model.Board;
+import model.Game;
+import player.GamePlayers;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Reversi strategy that searches the game tree with alpha-beta pruning in negamax form.
+ *
+ * <p>Every node is scored for the side to move, so the same code handles both players. Moves
+ * are tried in the order most likely to cause a cutoff: first the best move stored for the
+ * position in the {@link TranspositionTable}, then the rest by their history score, which grows
+ * every time a move causes a cutoff. The table also stores the bounds found for every searched
+ * position, so transpositions and repeated searches are answered without searching again.</p>
+ *
+ * <p>Positions are evaluated as the disc difference for the side to move, read from the
+ * incrementally kept {@link Board#getDiscCount} counts instead of scanning the board. The game
+ * ends when neither player has a valid move. Moves are explored with
+ * {@link Game#makeMove(int, int)} and {@link Game#unmakeMove()}, and the move buffers of every
+ * ply are reused between searches.</p>
+ */
+public class AlphaBetaStrategy implements DepthLimitedStrategy {
+  private static final int DEPTH = 6;
+  private static final int TABLE_MEGABYTES = 16;
+  static final int INFINITY = Integer.MAX_VALUE - 1;
+  private static final int DEADLINE_CHECK_MASK = 1023; // check the clock every 1024 nodes
+
+  private final int depth;
+  private final TranspositionTable table;
+  private long nodes;
+  private long deadline;
+  private boolean aborted;
+  private volatile boolean stopped;
+
+  private int[] history = new int[0];
+  private int historySize;
+  private Move[][] moveBuffers = new Move[0][];
+  private int[][] orderBuffers = new int[0][];
+
+  /**
+   * Creates a strategy searching to the default depth of 6 with a 16 MB transposition table.
+   */
+  public AlphaBetaStrategy() {
+    this(DEPTH, TABLE_MEGABYTES);
+  }
+
+  /**
+   * Creates a strategy searching to the given depth with a 16 MB transposition table.
+   *
+   * @param depth The number of plies to search.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public AlphaBetaStrategy(int depth) {
+    this(depth, TABLE_MEGABYTES);
+  }
+
+  /**
+   * Creates a strategy with the given search depth and transposition table budget.
+   *
+   * @param depth     The number of plies to search.
+   * @param megabytes The memory budget of the transposition table.
+   * @throws IllegalArgumentException if the depth is less than 1 or the budget is less than
+   *                                  1 MB.
+   */
+  public AlphaBetaStrategy(int depth, int megabytes) {
+    this(depth, new TranspositionTable(megabytes));
+  }
+
+  /**
+   * Creates a strategy with the given search depth that stores its results in the given
+   * table, which may be shared with searches on other threads.
+   *
+   * @param depth The number of plies to search.
+   * @param table The transposition table to use.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  AlphaBetaStrategy(int depth, TranspositionTable table) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Depth must be at least 1.");
+    }
+    this.depth = depth;
+    this.table = table;
+  }
+
+  /**
+   * Chooses the best move for the current player by searching to the configured depth.
+   *
+   * @param game the game to choose a move from.
+   * @return The best move, or null if the current player has no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game) {
+    return chooseMove(game, depth);
+  }
+
+  /**
+   * Chooses the best move for the current player by searching to the given depth.
+   *
+   * @param game  the game to choose a move from.
+   * @param depth The number of plies to search.
+   * @return The best move, or null if the current player has no valid move.
+   */
+  public Move chooseMove(Game game, int depth) {
+    return chooseMove(game, depth, Long.MAX_VALUE);
+  }
+
+  /**
+   * Chooses the best move for the current player by searching to the given depth, giving up
+   * when the deadline passes. An abandoned search unwinds through the normal unmake path, so
+   * the game is restored, and stores nothing in the transposition table.
+   *
+   * @param game     the game to choose a move from.
+   * @param depth    The number of plies to search.
+   * @param deadline The {@link System#nanoTime()} at which to give up, or
+   *                 {@link Long#MAX_VALUE} for no limit.
+   * @return The best move, or null if the search was abandoned or there is no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game, int depth, long deadline) {
+    List<Move> validMoves = game.getValidMoves();
+    if (validMoves.isEmpty()) {
+      return null;
+    }
+    prepare(game, depth);
+    this.deadline = deadline;
+    this.aborted = false;
+    nodes++;
+
+    int count = order(validMoves, 0, table.probe(game.getPositionHash()));
+    Move[] moves = moveBuffers[0];
+    Move bestMove = moves[0];
+    int alpha = -INFINITY;
+    for (int i = 0; i < count; i++) {
+      game.makeMove(moves[i].getQ(), moves[i].getR());
+      int score = -search(game, depth - 1, -INFINITY, -alpha, 1, false);
+      game.unmakeMove();
+      if (aborted) {
+        return null;
+      }
+
+      if (score > alpha) {
+        alpha = score;
+        bestMove = moves[i];
+      }
+    }
+
+    table.store(game.getPositionHash(), depth, alpha, TranspositionTable.EXACT,
+            bestMove.getQ(), bestMove.getR());
+    return bestMove;
+  }
+
+  /**
+   * Gets the number of positions searched by this strategy so far.
+   *
+   * @return The node count.
+   */
+  @Override
+  public long getNodeCount() {
+    return nodes;
+  }
+
+  /**
+   * Gets the transposition table of the strategy, for example to read its counters.
+   *
+   * @return The transposition table.
+   */
+  public TranspositionTable getTranspositionTable() {
+    return table;
+  }
+
+  /**
+   * Searches the current position of the game to the given depth within the (alpha, beta)
+   * window, giving up when the deadline passes.
+   *
+   * @param game     The game to search.
+   * @param depth    The number of plies to search.
+   * @param alpha    The lower end of the window.
+   * @param beta     The upper end of the window.
+   * @param deadline The {@link System#nanoTime()} at which to give up.
+   * @return The score for the side to move, to be ignored if {@link #wasAborted()}.
+   */
+  int searchPosition(Game game, int depth, int alpha, int beta, long deadline) {
+    prepare(game, depth);
+    this.deadline = deadline;
+    this.aborted = false;
+    return search(game, depth, alpha, beta, 0, false);
+  }
+
+  /**
+   * Checks whether the last search was abandoned because its deadline passed.
+   *
+   * @return True if the last search did not complete.
+   */
+  boolean wasAborted() {
+    return aborted;
+  }
+
+  /**
+   * Asks the running search and every later one to give up, as if their deadline had passed,
+   * until {@link #clearStop()} is called. Can be called from any thread; a search notices
+   * within about a thousand nodes.
+   */
+  void stop() {
+    stopped = true;
+  }
+
+  /**
+   * Withdraws a {@link #stop()} request so that searches run again.
+   */
+  void clearStop() {
+    stopped = false;
+  }
+
+  /**
+   * Forgets everything learned in earlier searches: the transposition table and the history
+   * scores. Searches after a reset do not depend on what was searched before.
+   */
+  void reset() {
+    table.clear();
+    Arrays.fill(history, 0);
+  }
+
+  /*
+   * Searches the position to the given depth within the (alpha, beta) window and returns its
+   * score for the side to move. The passed flag tells that the previous ply was a pass. Once
+   * the deadline has passed, every call returns 0 at once and the result must be ignored.
+   */
+  private int search(Game game, int depth, int alpha, int beta, int ply, boolean passed) {
+    nodes++;
+    if ((nodes & DEADLINE_CHECK_MASK) == 0 && (stopped
+            || deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0)) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    long key = game.getPositionHash();
+    long entry = table.probe(key);
+    if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+      int stored = TranspositionTable.score(entry);
+      int bound = TranspositionTable.bound(entry);
+      if (bound == TranspositionTable.EXACT) {
+        return stored;
+      } else if (bound == TranspositionTable.LOWER_BOUND) {
+        alpha = Math.max(alpha, stored);
+      } else {
+        beta = Math.min(beta, stored);
+      }
+      if (alpha >= beta) {
+        return stored;
+      }
+    }
+
+    if (depth == 0) {
+      return evaluate(game);
+    }
+
+    List<Move> validMoves = game.getValidMoves();
+    if (validMoves.isEmpty()) {
+      if (passed) {
+        return evaluate(game);
+      }
+      game.makePass();
+      int score = -search(game, depth - 1, -beta, -alpha, ply + 1, true);
+      game.unmakeMove();
+      return score;
+    }
+
+    int alphaStart = alpha;
+    int count = order(validMoves, ply, entry);
+    Move[] moves = moveBuffers[ply];
+    Move bestMove = moves[0];
+    int bestScore = -INFINITY;
+    for (int i = 0; i < count; i++) {
+      game.makeMove(moves[i].getQ(), moves[i].getR());
+      int score = -search(game, depth - 1, -beta, -alpha, ply + 1, false);
+      game.unmakeMove();
+      if (aborted) {
+        return 0;
+      }
+
+      if (score > bestScore) {
+        bestScore = score;
+        bestMove = moves[i];
+      }
+      alpha = Math.max(alpha, score);
+      if (alpha >= beta) {
+        history[historyIndex(bestMove)] += depth * depth;
+        break;
+      }
+    }
+
+    int bound = bestScore <= alphaStart ? TranspositionTable.UPPER_BOUND
+            : bestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    table.store(key, depth, bestScore, bound, bestMove.getQ(), bestMove.getR());
+    return bestScore;
+  }
+
+  /*
+   * Scores the position as the disc difference for the side to move.
+   */
+  private int evaluate(Game game) {
+    Board board = game.getBoard();
+    GamePlayers player = game.getCurrentPlayer();
+    GamePlayers opponent = player == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
+    return board.getDiscCount(player.getCellState())
+            - board.getDiscCount(opponent.getCellState());
+  }
+
+  /*
+   * Copies the valid moves into the buffer of the given ply, ordered with the stored best move
+   * first and the rest by descending history score. Returns the number of moves.
+   */
+  private int order(List<Move> validMoves, int ply, long entry) {
+    int count = validMoves.size();
+    if (moveBuffers[ply].length < count) {
+      moveBuffers[ply] = new Move[count];
+      orderBuffers[ply] = new int[count];
+    }
+    Move[] moves = moveBuffers[ply];
+    int[] scores = orderBuffers[ply];
+    int bestQ = entry == TranspositionTable.MISS ? -1 : TranspositionTable.moveQ(entry);
+    int bestR = entry == TranspositionTable.MISS ? -1 : TranspositionTable.moveR(entry);
+
+    for (int i = 0; i < count; i++) {
+      Move move = validMoves.get(i);
+      int score = move.getQ() == bestQ && move.getR() == bestR
+              ? Integer.MAX_VALUE : history[historyIndex(move)];
+      int j = i;
+      while (j > 0 && scores[j - 1] < score) {
+        moves[j] = moves[j - 1];
+        scores[j] = scores[j - 1];
+        j--;
+      }
+      moves[j] = move;
+      scores[j] = score;
+    }
+    return count;
+  }
+
+  /*
+   * Returns the slot of the move in the history table; moves outside the size x size square
+   * that the games scan share slot 0.
+   */
+  private int historyIndex(Move move) {
+    int q = move.getQ();
+    int r = move.getR();
+    if (q < 0 || q >= historySize || r < 0 || r >= historySize) {
+      return 0;
+    }
+    return q * historySize + r;
+  }
+
+  /*
+   * Sizes the history table for the board and the move buffers for the search depth.
+   */
+  private void prepare(Game game, int depth) {
+    int size = game.getBoardSize();
+    if (size != historySize) {
+      historySize = size;
+      history = new int[size * size];
+    }
+    // A pass does not use a buffer, but it does take a ply.
+    int plies = depth + 1;
+    if (moveBuffers.length < plies) {
+      int old = moveBuffers.length;
+      moveBuffers = Arrays.copyOf(moveBuffers, plies);
+      orderBuffers = Arrays.copyOf(orderBuffers, plies);
+      for (int i = old; i < plies; i++) {
+        moveBuffers[i] = new Move[0];
+        orderBuffers[i] = new int[0];
+      }
+    }
+  }
+}
@@ -2,7 +2,6 @@ package strategies;
 
 import model.CellState;
 import model.Game;
-import model.ReversiGame;
 import player.GamePlayers;
 
 import java.util.ArrayList;
@@ -12,6 +11,9 @@ import java.util.Objects;
 /**
  * A Reversi strategy that prioritizes moves based on capturing
  * the maximum number of opponent pieces.
+ *
+ * <p>Each candidate is tried on the game itself with {@link Game#makeMove(int, int)} and taken
+ * back with {@link Game#unmakeMove()}.</p>
  */
 public class CaptureStrategy implements ReversiStrategy {
 
@@ -29,11 +31,12 @@ public class CaptureStrategy implements ReversiStrategy {
 
     int maxCaptures = -1;
     Move selectedMove = null;
+    GamePlayers player = game.getCurrentPlayer();
 
     for (Move move : validMoves) {
-      ReversiGame copyGame = new ReversiGame();
-      copyGame.play(move.getQ(), move.getR());
-      int captures = countCaptures(copyGame, game.getCurrentPlayer());
+      game.makeMove(move.getQ(), move.getR());
+      int captures = countCaptures(game, player);
+      game.unmakeMove();
 
       if (captures > maxCaptures || (captures == maxCaptures &&
               move.compareTo(Objects.requireNonNull(selectedMove)) < 0)) {
@@ -47,11 +50,11 @@ public class CaptureStrategy implements ReversiStrategy {
 
   /**
    * Counts the number of captures for a given game configuration and player.
-   * @param copyGame      The ReversiGame copy to analyze.
+   * @param copyGame      The game to analyze, with the candidate move made.
    * @param currentPlayer The player for whom to count captures.
    * @return The number of captures for the specified player.
    **/
-  private int countCaptures(ReversiGame copyGame, GamePlayers currentPlayer) {
+  private int countCaptures(Game copyGame, GamePlayers currentPlayer) {
     int captures = 0;
     for (int q = 0; q < copyGame.getBoard().getSize(); q++) {
       for (int r = 0; r < copyGame.getBoard().getSize(); r++) {
@@ -67,13 +70,13 @@ public class CaptureStrategy implements ReversiStrategy {
 
   /**
    * Checks if a specific cell in the ReversiGame is captured by the given player.
-   * @param copyGame      The ReversiGame copy to analyze.
+   * @param copyGame      The game to analyze, with the candidate move made.
    * @param q             The q-coordinate of the cell.
    * @param r             The r-coordinate of the cell.
    * @param currentPlayer The player for whom to check if the cell is captured.
    * @return True if the cell is captured by the player, false otherwise.
    */
-  private boolean isCaptured(ReversiGame copyGame, int q, int r, GamePlayers currentPlayer) {
+  private boolean isCaptured(Game copyGame, int q, int r, GamePlayers currentPlayer) {
     for (int dq = -1; dq <= 1; dq++) {
       for (int dr = -1; dr <= 1; dr++) {
         if (dq != 0 || dr != 0) {
@@ -89,7 +92,7 @@ public class CaptureStrategy implements ReversiStrategy {
   /**
    * Checks if a cell in a given direction from a specified starting point is captured by
    * the player.
-   * @param copyGame      The ReversiGame copy to analyze.
+   * @param copyGame      The game to analyze, with the candidate move made.
    * @param q             The q-coordinate of the starting point.
    * @param r             The r-coordinate of the starting point.
    * @param dq            The change in q-coordinate indicating the direction.
@@ -97,12 +100,13 @@ public class CaptureStrategy implements ReversiStrategy {
    * @param currentPlayer The player for whom to check if the cell is captured.
    * @return True if the cell in the specified direction is captured, false otherwise.
    */
-  private boolean isCapturedInDirection(ReversiGame copyGame, int q, int r, int dq, int dr,
+  private boolean isCapturedInDirection(Game copyGame, int q, int r, int dq, int dr,
                                         GamePlayers currentPlayer) {
     int nextQ = q + dq;
     int nextR = r + dr;
 
-    if (!copyGame.isValidCell(nextQ, nextR)) {
+    int size = copyGame.getBoardSize();
+    if (nextQ < 0 || nextQ >= size || nextR < 0 || nextR >= size) {
       return false;
     }
     return  copyGame.getCellState(nextQ, nextR) == CellState.X && currentPlayer
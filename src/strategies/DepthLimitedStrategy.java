@@ -0,0 +1,28 @@
+package strategies;
+
+import model.Game;
+
+/**
+ * A strategy that chooses moves by searching the game tree to a given depth, and that can be
+ * stopped when a deadline passes. Searches that run out of time leave the game as they found
+ * it.
+ */
+public interface DepthLimitedStrategy extends ReversiStrategy {
+  /**
+   * Returns the best move for the current player found by searching the given number of plies,
+   * or null if the deadline passed before the search completed.
+   *
+   * @param game     the game to choose a move from.
+   * @param depth    the number of plies to search, counting the move itself.
+   * @param deadline the {@link System#nanoTime()} at which to give up.
+   * @return the best move, or null if the search did not complete or there is no valid move.
+   */
+  Move chooseMove(Game game, int depth, long deadline);
+
+  /**
+   * Returns the number of positions searched by this strategy so far.
+   *
+   * @return the node count.
+   */
+  long getNodeCount();
+}
@@ -0,0 +1,130 @@
+package strategies;
+
+import model.Game;
+
+/**
+ * A Reversi strategy that runs a {@link DepthLimitedStrategy} at increasing depths until a
+ * time budget per move runs out.
+ *
+ * <p>Depth 1 is always searched to the end, so a move is available however small the budget.
+ * Every deeper search gets the remaining time; the move of the deepest search that completed
+ * is played, and a search cut off by the deadline is discarded. Searches that keep state
+ * between calls, such as the transposition table of {@link AlphaBetaStrategy}, reuse the
+ * results of the shallower iterations to order their moves.</p>
+ *
+ * <p>After every move the depth reached, the number of nodes searched and the time taken are
+ * available through the getters, for logging or display.</p>
+ */
+public class IterativeDeepeningStrategy implements ReversiStrategy {
+  private static final int MAX_DEPTH = 64;
+
+  private final DepthLimitedStrategy search;
+  private final long budgetMillis;
+  private final int maxDepth;
+
+  private int lastDepth;
+  private long lastNodes;
+  private long lastNanos;
+
+  /**
+   * Creates a strategy that searches with the given strategy for at most the given time per
+   * move.
+   *
+   * @param search       The depth-limited search to deepen.
+   * @param budgetMillis The time budget per move in milliseconds.
+   * @throws IllegalArgumentException if the search is null or the budget is not positive.
+   */
+  public IterativeDeepeningStrategy(DepthLimitedStrategy search, long budgetMillis) {
+    this(search, budgetMillis, MAX_DEPTH);
+  }
+
+  /**
+   * Creates a strategy that searches with the given strategy for at most the given time and
+   * depth per move.
+   *
+   * @param search       The depth-limited search to deepen.
+   * @param budgetMillis The time budget per move in milliseconds.
+   * @param maxDepth     The deepest search to start.
+   * @throws IllegalArgumentException if the search is null, or the budget or the maximum depth
+   *                                  is not positive.
+   */
+  public IterativeDeepeningStrategy(DepthLimitedStrategy search, long budgetMillis,
+                                    int maxDepth) {
+    if (search == null) {
+      throw new IllegalArgumentException("Search cannot be null.");
+    }
+    if (budgetMillis <= 0 || maxDepth <= 0) {
+      throw new IllegalArgumentException("Budget and maximum depth must be positive.");
+    }
+    this.search = search;
+    this.budgetMillis = budgetMillis;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Chooses the move of the deepest search that completes within the time budget.
+   *
+   * @param game the game to choose a move from.
+   * @return The best move found, or null if the current player has no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game) {
+    long start = System.nanoTime();
+    long deadline = start + budgetMillis * 1_000_000L;
+    long startNodes = search.getNodeCount();
+
+    Move bestMove = search.chooseMove(game, 1, Long.MAX_VALUE);
+    lastDepth = 1;
+    for (int depth = 2; bestMove != null && depth <= maxDepth; depth++) {
+      if (System.nanoTime() - deadline >= 0) {
+        break;
+      }
+      Move move = search.chooseMove(game, depth, deadline);
+      if (move == null) {
+        break;
+      }
+      bestMove = move;
+      lastDepth = depth;
+    }
+
+    lastNodes = search.getNodeCount() - startNodes;
+    lastNanos = System.nanoTime() - start;
+    return bestMove;
+  }
+
+  /**
+   * Gets the depth of the deepest search completed for the last move.
+   *
+   * @return The depth reached.
+   */
+  public int getLastDepth() {
+    return lastDepth;
+  }
+
+  /**
+   * Gets the number of nodes searched for the last move, including the abandoned search.
+   *
+   * @return The node count of the last move.
+   */
+  public long getLastNodeCount() {
+    return lastNodes;
+  }
+
+  /**
+   * Gets the time spent on the last move.
+   *
+   * @return The time in milliseconds.
+   */
+  public long getLastMillis() {
+    return lastNanos / 1_000_000L;
+  }
+
+  /**
+   * Gets the search speed of the last move.
+   *
+   * @return The number of nodes searched per second.
+   */
+  public long getLastNodesPerSecond() {
+    return lastNanos == 0 ? 0 : lastNodes * 1_000_000_000L / lastNanos;
+  }
+}
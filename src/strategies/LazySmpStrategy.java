@@ -0,0 +1,166 @@
+package strategies;
+
+import model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A Reversi strategy that searches with several threads in the Lazy SMP style: every thread
+ * runs an ordinary {@link AlphaBetaStrategy} on the same position, and the threads cooperate
+ * only through one shared, lock-free {@link TranspositionTable}.
+ *
+ * <p>The calling thread runs the main search on the game itself. Each helper thread gets its
+ * own {@link Game#copy()} and keeps deepening from a staggered start depth (half of the
+ * helpers start one ply deeper than the main search) until the main search finishes. The
+ * helpers fill the table with results the main search then finds instead of searching, and
+ * since every searcher keeps its own history scores, the threads tend to explore different
+ * parts of the tree. The move played is always the one of the main search.</p>
+ *
+ * <p>The helpers run on daemon threads kept between moves; {@link #shutdown()} stops them.
+ * Which results reach the table first depends on thread timing, so the chosen move can differ
+ * between runs when several moves score the same.</p>
+ */
+public class LazySmpStrategy implements DepthLimitedStrategy {
+  private static final int DEPTH = 6;
+  private static final int TABLE_MEGABYTES = 64;
+
+  private final int depth;
+  private final TranspositionTable table;
+  private final AlphaBetaStrategy main;
+  private final AlphaBetaStrategy[] helpers;
+  private final ExecutorService executor;
+
+  /**
+   * Creates a strategy searching to the default depth of 6 on one thread per processor, with
+   * a shared 64 MB transposition table.
+   */
+  public LazySmpStrategy() {
+    this(DEPTH, Runtime.getRuntime().availableProcessors(), TABLE_MEGABYTES);
+  }
+
+  /**
+   * Creates a strategy with the given depth, number of threads and table budget.
+   *
+   * @param depth     The number of plies of the main search.
+   * @param threads   The number of searching threads, including the calling thread.
+   * @param megabytes The memory budget of the shared transposition table.
+   * @throws IllegalArgumentException if the depth or the number of threads is less than 1, or
+   *                                  the budget is less than 1 MB.
+   */
+  public LazySmpStrategy(int depth, int threads, int megabytes) {
+    if (depth < 1 || threads < 1) {
+      throw new IllegalArgumentException("Depth and threads must be at least 1.");
+    }
+    this.depth = depth;
+    this.table = new TranspositionTable(megabytes);
+    this.main = new AlphaBetaStrategy(depth, table);
+    this.helpers = new AlphaBetaStrategy[threads - 1];
+    for (int i = 0; i < helpers.length; i++) {
+      helpers[i] = new AlphaBetaStrategy(depth, table);
+    }
+    this.executor = helpers.length == 0 ? null
+            : Executors.newFixedThreadPool(helpers.length, runnable -> {
+              Thread thread = new Thread(runnable, "lazy-smp-helper");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public Move chooseMove(Game game) {
+    return chooseMove(game, depth, Long.MAX_VALUE);
+  }
+
+  /**
+   * Chooses the best move for the current player by searching to the given depth on the
+   * calling thread while the helpers search the same position, giving up when the deadline
+   * passes. The helpers are stopped and waited for before returning, or throwing.
+   *
+   * @param game     the game to choose a move from.
+   * @param depth    The number of plies of the main search.
+   * @param deadline The {@link System#nanoTime()} at which to give up, or
+   *                 {@link Long#MAX_VALUE} for no limit.
+   * @return The best move, or null if the search was abandoned or there is no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game, int depth, long deadline) {
+    if (game.getValidMoves().isEmpty()) {
+      return null;
+    }
+
+    List<Future<?>> running = new ArrayList<>();
+    for (int i = 0; i < helpers.length; i++) {
+      AlphaBetaStrategy helper = helpers[i];
+      Game copy = game.copy();
+      int start = depth + (i & 1);
+      helper.clearStop();
+      running.add(executor.submit(() -> {
+        for (int d = start; helper.chooseMove(copy, d, deadline) != null; d++) {
+          // Keep deepening until stopped.
+        }
+      }));
+    }
+
+    try {
+      return main.chooseMove(game, depth, deadline);
+    } finally {
+      stopHelpers(running);
+    }
+  }
+
+  /**
+   * Gets the number of positions searched by all threads so far.
+   *
+   * @return The node count.
+   */
+  @Override
+  public long getNodeCount() {
+    long nodes = main.getNodeCount();
+    for (AlphaBetaStrategy helper : helpers) {
+      nodes += helper.getNodeCount();
+    }
+    return nodes;
+  }
+
+  /**
+   * Gets the transposition table shared by the threads, for example to read its counters.
+   *
+   * @return The shared transposition table.
+   */
+  public TranspositionTable getTranspositionTable() {
+    return table;
+  }
+
+  /**
+   * Stops the helper threads. The strategy cannot search after this.
+   */
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /*
+   * Stops the helpers of a search and waits for them, also when the main search threw, so that
+   * none of them keeps deepening into the table after the search is over.
+   */
+  private void stopHelpers(List<Future<?>> running) {
+    for (AlphaBetaStrategy helper : helpers) {
+      helper.stop();
+    }
+    for (Future<?> future : running) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Helper search failed.", e.getCause());
+      }
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package strategies;
 
-import model.CellState;
 import model.Game;
 import player.GamePlayers;
 
@@ -8,8 +7,49 @@ import java.util.List;
 
 /**
  * A Reversi strategy that prioritizes moves based on capturing.
+ *
+ * <p>Moves are explored with {@link Game#makeMove(int, int)} and taken back with
+ * {@link Game#unmakeMove()}, so the search never copies the board and leaves the game exactly
+ * as it found it.</p>
+ *
+ * <p>Positions that are reached through different move orders are only searched once: the
+ * value of every searched position is kept in a {@link TranspositionTable} keyed by
+ * {@link Game#getPositionHash()}, and reused whenever the position comes up again at the same
+ * or a smaller remaining depth. The table lives as long as the strategy, so later moves of the
+ * same game benefit from earlier searches.</p>
  */
-public class MinimaxStrategy implements ReversiStrategy {
+public class MinimaxStrategy implements DepthLimitedStrategy {
+  private static final int DEPTH = 3;
+  private static final int TABLE_MEGABYTES = 16;
+  private static final int DEADLINE_CHECK_MASK = 255; // check the clock every 256 nodes
+
+  private final int depth;
+  private final TranspositionTable table;
+  private long nodes;
+  private long deadline;
+  private boolean aborted;
+
+  /**
+   * Creates a strategy searching to the default depth with a 16 MB transposition table.
+   */
+  public MinimaxStrategy() {
+    this(DEPTH, TABLE_MEGABYTES);
+  }
+
+  /**
+   * Creates a strategy with the given search depth and transposition table budget.
+   *
+   * @param depth     The number of plies searched after each candidate move.
+   * @param megabytes The memory budget of the transposition table.
+   * @throws IllegalArgumentException if the depth is negative or the budget is less than 1 MB.
+   */
+  public MinimaxStrategy(int depth, int megabytes) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative.");
+    }
+    this.depth = depth;
+    this.table = new TranspositionTable(megabytes);
+  }
 
   /**
    * Chooses the best move for the AI player using the Minimax algorithm.
@@ -18,20 +58,35 @@ public class MinimaxStrategy implements ReversiStrategy {
    */
   @Override
   public Move chooseMove(Game game) {
+    return chooseMove(game, depth + 1, Long.MAX_VALUE);
+  }
+
+  /**
+   * Chooses the best move for the AI player using the Minimax algorithm, searching the given
+   * number of plies and giving up when the deadline passes.
+   * @param game     the game to choose from.
+   * @param depth    The number of plies to search, counting the move itself.
+   * @param deadline The {@link System#nanoTime()} at which to give up, or
+   *                 {@link Long#MAX_VALUE} for no limit.
+   * @return The best move for the AI player, or null if the search was abandoned.
+   */
+  @Override
+  public Move chooseMove(Game game, int depth, long deadline) {
+    this.deadline = deadline;
+    this.aborted = false;
+    GamePlayers player = game.getCurrentPlayer();
     List<Move> validMoves = game.getValidMoves();
     Move bestMove = null;
     int bestScore = Integer.MIN_VALUE;
 
     for (Move move : validMoves) {
-      int q = move.getQ();
-      int r = move.getR();
-
-      CellState currentPlayerState = game.getCurrentPlayer()
-              == GamePlayers.Black ? CellState.X : CellState.O;
-      game.getBoard().move(q, r, currentPlayerState);
+      game.makeMove(move.getQ(), move.getR());
+      int score = evaluateOpponentMove(game, Math.max(depth - 1, 0), player);
+      game.unmakeMove();
+      if (aborted) {
+        return null;
+      }
 
-      int score = evaluateOpponentMove(game, 3);
-      game.getBoard().move(q, r, CellState.EMPTY);
       if (score > bestScore) {
         bestScore = score;
         bestMove = move;
@@ -41,36 +96,80 @@ public class MinimaxStrategy implements ReversiStrategy {
     return bestMove;
   }
 
+  @Override
+  public long getNodeCount() {
+    return nodes;
+  }
+
   /**
-   * Evaluates the opponent's move in the Minimax algorithm.
-   * @param game  The current state of the game.
-   * @param depth The depth of the recursive evaluation.
-   * @return The score of the opponent's move.
+   * Gets the transposition table of the strategy, for example to read its counters.
+   *
+   * @return The transposition table.
    */
-  private int evaluateOpponentMove(Game game, int depth) {
+  public TranspositionTable getTranspositionTable() {
+    return table;
+  }
+
+  /**
+   * Evaluates the position in the Minimax algorithm. The AI player picks the highest score and
+   * the opponent picks the lowest; a side without valid moves passes.
+   * @param game   The current state of the game.
+   * @param depth  The depth of the recursive evaluation.
+   * @param player The AI player the scores are computed for.
+   * @return The score of the position for the AI player.
+   */
+  private int evaluateOpponentMove(Game game, int depth, GamePlayers player) {
+    nodes++;
+    if ((nodes & DEADLINE_CHECK_MASK) == 0 && deadline != Long.MAX_VALUE
+            && System.nanoTime() - deadline > 0) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
     if (depth == 0 || game.isGameOver()) {
-      return game.score(game.getCurrentPlayer()) - game.score(game.getOpponent());
+      GamePlayers opponent = player == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
+      return game.score(player) - game.score(opponent);
     }
 
-    List<Move> opponentMoves = game.getValidMoves();
-    int minScore = Integer.MAX_VALUE;
-
-    for (Move opponentMove : opponentMoves) {
-      int q = opponentMove.getQ();
-      int r = opponentMove.getR();
-
-      CellState opponentState = game.getCurrentPlayer()
-              == GamePlayers.Black ? CellState.X : CellState.O;
-      game.getBoard().move(q, r, opponentState);
-
-      int score = evaluateOpponentMove(game, depth - 1);
-      minScore = Math.min(minScore, score);
-
-      game.getBoard().move(q, r, CellState.EMPTY);
+    // The table holds scores for the side to move; the scores here are for the AI player.
+    boolean maximizing = game.getCurrentPlayer() == player;
+    long key = game.getPositionHash();
+    long entry = table.probe(key);
+    if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+      int stored = TranspositionTable.score(entry);
+      return maximizing ? stored : -stored;
+    }
 
+    List<Move> moves = game.getValidMoves();
+    int bestScore;
+    Move bestMove = null;
+    if (moves.isEmpty()) {
+      game.makePass();
+      bestScore = evaluateOpponentMove(game, depth - 1, player);
+      game.unmakeMove();
+      if (aborted) {
+        return 0;
+      }
+    } else {
+      bestScore = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+      for (Move move : moves) {
+        game.makeMove(move.getQ(), move.getR());
+        int score = evaluateOpponentMove(game, depth - 1, player);
+        game.unmakeMove();
+        if (aborted) {
+          return 0;
+        }
+
+        if (maximizing ? score > bestScore : score < bestScore) {
+          bestScore = score;
+          bestMove = move;
+        }
+      }
     }
 
-    return minScore;
+    table.store(key, depth, maximizing ? bestScore : -bestScore, TranspositionTable.EXACT,
+            bestMove == null ? -1 : bestMove.getQ(), bestMove == null ? -1 : bestMove.getR());
+    return bestScore;
   }
 }
-
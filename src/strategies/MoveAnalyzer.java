@@ -0,0 +1,102 @@
+package strategies;
+
+import model.Game;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates every valid move of a position, deepening one ply at a time, for example to show
+ * the players how good each move is.
+ *
+ * <p>At every depth, each move is played and the position after it is searched with a full
+ * window by an {@link AlphaBetaStrategy}, so every move gets an exact score and not only the
+ * best one. The evaluations are handed to a listener as soon as they are known, so a caller
+ * sees the shallow scores at once and better ones as the analysis deepens. The moves are
+ * searched best first according to the previous depth, and the transposition table is kept
+ * between depths and analyses.</p>
+ *
+ * <p>{@link #stop()} can be called from any thread to end the running analysis early, and an
+ * analysis also ends after the move it is searching when its thread is interrupted.</p>
+ */
+public class MoveAnalyzer {
+  private static final int TABLE_MEGABYTES = 16;
+
+  private final int maxDepth;
+  private final AlphaBetaStrategy search;
+  private volatile boolean stopped;
+
+  /**
+   * Creates an analyzer searching every move up to the given depth.
+   *
+   * @param maxDepth The deepest number of plies to search, counting the move itself.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public MoveAnalyzer(int maxDepth) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Depth must be at least 1.");
+    }
+    this.maxDepth = maxDepth;
+    this.search = new AlphaBetaStrategy(1, new TranspositionTable(TABLE_MEGABYTES));
+  }
+
+  /**
+   * Evaluates every valid move of the current player at depth 1, 2 and so on up to the
+   * maximum depth, telling the listener each evaluation as it completes. Returns when the
+   * deepest depth is done or the analysis was stopped. The game is left as it was found.
+   *
+   * @param game     The game to analyze. It must not change during the analysis.
+   * @param listener Told every evaluation, on the calling thread.
+   * @return The number of depths completed for all moves.
+   */
+  public int analyze(Game game, Consumer<MoveEvaluation> listener) {
+    stopped = false;
+    search.clearStop();
+    List<Move> validMoves = game.getValidMoves();
+    Move[] moves = validMoves.toArray(new Move[0]);
+    int[] scores = new int[moves.length];
+
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      for (int i = 0; i < moves.length; i++) {
+        game.makeMove(moves[i].getQ(), moves[i].getR());
+        int score = -search.searchPosition(game, depth - 1, -AlphaBetaStrategy.INFINITY,
+                AlphaBetaStrategy.INFINITY, Long.MAX_VALUE);
+        game.unmakeMove();
+        if (stopped || search.wasAborted() || Thread.currentThread().isInterrupted()) {
+          return depth - 1;
+        }
+        scores[i] = score;
+        listener.accept(new MoveEvaluation(moves[i], score, depth));
+      }
+      sortByScore(moves, scores);
+    }
+    return maxDepth;
+  }
+
+  /**
+   * Ends the running analysis soon, within about a thousand searched positions. An analysis
+   * started later runs normally.
+   */
+  public void stop() {
+    stopped = true;
+    search.stop();
+  }
+
+  /*
+   * Sorts the moves by descending score, keeping the order of equal scores.
+   */
+  private static void sortByScore(Move[] moves, int[] scores) {
+    for (int i = 1; i < moves.length; i++) {
+      Move move = moves[i];
+      int score = scores[i];
+      int j = i;
+      while (j > 0 && scores[j - 1] < score) {
+        moves[j] = moves[j - 1];
+        scores[j] = scores[j - 1];
+        j--;
+      }
+      moves[j] = move;
+      scores[j] = score;
+    }
+  }
+}
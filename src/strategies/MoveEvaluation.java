@@ -0,0 +1,46 @@
+package strategies;
+
+/**
+ * The result of searching one move of a position: the score of the move for the player making
+ * it, and the depth it was searched to.
+ */
+public final class MoveEvaluation {
+  private final Move move;
+  private final int score;
+  private final int depth;
+
+  /**
+   * Creates an evaluation of a move.
+   *
+   * @param move  The evaluated move.
+   * @param score The score of the move for the player making it, as a disc difference.
+   * @param depth The number of plies searched, counting the move itself.
+   */
+  public MoveEvaluation(Move move, int score, int depth) {
+    this.move = move;
+    this.score = score;
+    this.depth = depth;
+  }
+
+  public Move getMove() {
+    return move;
+  }
+
+  public int getScore() {
+    return score;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Returns a string representation of the evaluation, such as "(3, 4) +2 at depth 5".
+   *
+   * @return The string representation of the evaluation.
+   */
+  @Override
+  public String toString() {
+    return String.format("%s %+d at depth %d", move, score, depth);
+  }
+}
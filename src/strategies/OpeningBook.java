@@ -0,0 +1,181 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A book of opening moves, read from a file built offline by {@link OpeningBookBuilder}.
+ *
+ * <p>The file is a hash table sorted by key, the position hash of {@link Game#getPositionHash()},
+ * with the move to play in that position. The file is mapped read-only and searched in place,
+ * so opening a book reads nothing but its header and a lookup touches a few entries:</p>
+ *
+ * <pre>
+ *   magic          'R' 'V' 'B' 'K'
+ *   version        1
+ *   kind           0 for a hexagonal board, 1 for a square board
+ *   size           the size of the board
+ *   reserved       0
+ *   count          the number of entries, 8 bytes
+ *   entries        count times: hash (8 bytes), q (2 bytes), r (2 bytes), ascending by hash
+ * </pre>
+ *
+ * <p>Position hashes are spread evenly over the longs, so the search starts where the hash
+ * would be in an even spread and narrows down from there, halving the range every other
+ * step so that an uneven book is still searched in logarithmic time. Lookups only read the
+ * mapping, so a book can be shared between threads.</p>
+ */
+public final class OpeningBook {
+  static final byte[] MAGIC = {'R', 'V', 'B', 'K'};
+  static final int VERSION = 1;
+  static final int HEX = 0;
+  static final int SQUARE = 1;
+  static final int HEADER_LENGTH = 16;
+  static final int ENTRY_LENGTH = 12;
+
+  private final ByteBuffer entries;
+  private final int kind;
+  private final int boardSize;
+  private final int count;
+
+  /**
+   * Opens the book in the given file.
+   *
+   * @param path The file of the book.
+   * @throws IOException if the file cannot be read or is not a book.
+   */
+  public OpeningBook(Path path) throws IOException {
+    ByteBuffer file;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Book is too large to map: " + channel.size() + " bytes.");
+      }
+      file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (file.limit() < HEADER_LENGTH) {
+      throw new IOException("Not an opening book.");
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (file.get(i) != MAGIC[i]) {
+        throw new IOException("Not an opening book.");
+      }
+    }
+    if (file.get(4) != VERSION) {
+      throw new IOException("Unsupported book version " + file.get(4) + ".");
+    }
+    kind = file.get(5);
+    if (kind != HEX && kind != SQUARE) {
+      throw new IOException("Unknown board kind " + kind + ".");
+    }
+    boardSize = file.get(6) & 0xff;
+    long entryCount = file.getLong(8);
+    if (entryCount < 0 || entryCount > Integer.MAX_VALUE / ENTRY_LENGTH
+            || HEADER_LENGTH + entryCount * ENTRY_LENGTH != file.limit()) {
+      throw new IOException("Book has " + entryCount + " entries but "
+              + (file.limit() - HEADER_LENGTH) + " bytes of them.");
+    }
+    count = (int) entryCount;
+    entries = file.position(HEADER_LENGTH).slice();
+  }
+
+  /**
+   * Looks up the move to play in the current position of a game. The move is checked against
+   * the valid moves of the game, so a position that only shares its hash with a position of
+   * the book is not played from the book.
+   *
+   * @param game The game to look up.
+   * @return The move of the book, or null if the position is not in the book.
+   */
+  public Move lookup(Game game) {
+    if (kind != kindOf(game) || boardSize != game.getBoard().getSize()) {
+      return null;
+    }
+    int entry = find(game.getPositionHash());
+    if (entry < 0) {
+      return null;
+    }
+    int offset = entry * ENTRY_LENGTH;
+    Move move = new Move(entries.getShort(offset + 8), entries.getShort(offset + 10));
+    return game.getValidMoves().contains(move) ? move : null;
+  }
+
+  /**
+   * Gets the number of positions in the book.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Checks whether the book is for games on a hexagonal board.
+   *
+   * @return True for a hexagonal board, false for a square one.
+   */
+  public boolean isHexagonal() {
+    return kind == HEX;
+  }
+
+  /**
+   * Gets the size of the board the book is for.
+   *
+   * @return The size of the board.
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+
+  /**
+   * Gets the kind of board a game is played on, as written in books.
+   *
+   * @param game The game.
+   * @return {@link #HEX} or {@link #SQUARE}.
+   */
+  static int kindOf(Game game) {
+    return game instanceof ReversiGame ? HEX : SQUARE;
+  }
+
+  /*
+   * Finds the entry of a hash, alternating between a probe where the hash would be if the
+   * hashes in range were spread evenly and a probe halfway, or returns -1 if it is not there.
+   */
+  private int find(long hash) {
+    int low = 0;
+    int high = count - 1;
+    boolean interpolate = true;
+    while (low <= high) {
+      long lowHash = hashAt(low);
+      long highHash = hashAt(high);
+      if (hash < lowHash || hash > highHash) {
+        return -1;
+      }
+      int probe = low + (high - low) / 2;
+      if (interpolate && highHash != lowHash) {
+        double fraction = ((double) hash - lowHash) / ((double) highHash - lowHash);
+        probe = Math.max(low, Math.min(high, low + (int) (fraction * (high - low))));
+      }
+      interpolate = !interpolate;
+
+      long probeHash = hashAt(probe);
+      if (probeHash == hash) {
+        return probe;
+      } else if (probeHash < hash) {
+        low = probe + 1;
+      } else {
+        high = probe - 1;
+      }
+    }
+    return -1;
+  }
+
+  private long hashAt(int entry) {
+    return entries.getLong(entry * ENTRY_LENGTH);
+  }
+}
@@ -0,0 +1,147 @@
+package strategies;
+
+import model.Game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds an {@link OpeningBook} offline by letting a strategy play every position of the
+ * opening.
+ *
+ * <p>From a starting position, every sequence of valid moves up to the given number of plies
+ * is played, and the strategy chooses its move in every position reached: whichever moves the
+ * opponent picks, the position after them is in the book as long as the game is still in its
+ * first plies. Positions reached again through other move orders are only searched again if
+ * they are reached in fewer plies, as then the book goes deeper past them. The
+ * strategy can be as slow as it needs to be, as it only runs while the book is built.</p>
+ */
+public final class OpeningBookBuilder {
+  private final ReversiStrategy strategy;
+  private final int plies;
+  private final Map<Long, Move> moves = new TreeMap<>();
+  private final Map<Long, Integer> explored = new HashMap<>(); // the earliest ply of each
+  private int kind = -1;
+  private int boardSize;
+
+  /**
+   * Creates a builder that plays the given strategy for the given number of plies.
+   *
+   * @param strategy The strategy that chooses the moves of the book.
+   * @param plies    The number of plies from the starting positions to put in the book.
+   * @throws IllegalArgumentException if the strategy is null or the number of plies is not
+   *                                  positive.
+   */
+  public OpeningBookBuilder(ReversiStrategy strategy, int plies) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null.");
+    }
+    if (plies <= 0) {
+      throw new IllegalArgumentException("Number of plies must be positive.");
+    }
+    this.strategy = strategy;
+    this.plies = plies;
+  }
+
+  /**
+   * Adds the positions within the number of plies of the current position of a game. The moves
+   * are made on the game and taken back, so it is left as it was.
+   *
+   * @param game The starting position.
+   * @return The number of positions added to the book.
+   * @throws IllegalArgumentException if the game is on another board than games added before.
+   */
+  public int add(Game game) {
+    int gameKind = OpeningBook.kindOf(game);
+    int gameSize = game.getBoard().getSize();
+    if (kind < 0) {
+      kind = gameKind;
+      boardSize = gameSize;
+    } else if (kind != gameKind || boardSize != gameSize) {
+      throw new IllegalArgumentException("A book covers games on one kind and size of board.");
+    }
+    int before = moves.size();
+    explore(game, 0, false);
+    return moves.size() - before;
+  }
+
+  /**
+   * Gets the number of positions in the book so far.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    return moves.size();
+  }
+
+  /**
+   * Writes the book to a file, sorted by position hash.
+   *
+   * @param path The file to write.
+   * @throws IOException           if the file cannot be written.
+   * @throws IllegalStateException if no game was added.
+   */
+  public void write(Path path) throws IOException {
+    if (kind < 0) {
+      throw new IllegalStateException("No game was added to the book.");
+    }
+    try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.write(OpeningBook.MAGIC);
+      out.write(new byte[] {OpeningBook.VERSION, (byte) kind, (byte) boardSize, 0});
+      out.writeLong(moves.size());
+      // The map is a TreeMap, so the hashes come in ascending order.
+      for (Map.Entry<Long, Move> entry : moves.entrySet()) {
+        out.writeLong(entry.getKey());
+        out.writeShort(entry.getValue().getQ());
+        out.writeShort(entry.getValue().getR());
+      }
+    }
+  }
+
+  /*
+   * Puts the strategy's move of the current position in the book and goes on through every
+   * valid move, or the pass if there is none, until the number of plies is reached or both
+   * players passed. The strategy is asked once per position, however many times the position
+   * is explored.
+   */
+  private void explore(Game game, int ply, boolean passed) {
+    if (ply >= plies) {
+      return;
+    }
+    Integer earliest = explored.get(game.getPositionHash());
+    if (earliest != null && earliest <= ply) {
+      return;
+    }
+    explored.put(game.getPositionHash(), ply);
+    List<Move> valid = game.getValidMoves();
+    if (valid.isEmpty()) {
+      if (passed) {
+        return;
+      }
+      game.makePass();
+      explore(game, ply + 1, true);
+      game.unmakeMove();
+      return;
+    }
+
+    if (earliest == null) {
+      Move chosen = strategy.chooseMove(game);
+      if (chosen != null && valid.contains(chosen)) {
+        moves.put(game.getPositionHash(), chosen);
+      }
+    }
+    for (Move move : valid) {
+      game.makeMove(move.getQ(), move.getR());
+      explore(game, ply + 1, false);
+      game.unmakeMove();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package strategies;
+
+import model.Game;
+
+/**
+ * A Reversi strategy that plays from an {@link OpeningBook} while the game is in it, and
+ * searches with another strategy once it is not.
+ *
+ * <p>A position of the book is answered at once, without starting the search.</p>
+ */
+public class OpeningBookStrategy implements ReversiStrategy {
+  private final OpeningBook book;
+  private final ReversiStrategy search;
+
+  /**
+   * Creates a strategy that consults the given book before the given strategy.
+   *
+   * @param book   The opening book.
+   * @param search The strategy for positions that are not in the book.
+   * @throws IllegalArgumentException if the book or the strategy is null.
+   */
+  public OpeningBookStrategy(OpeningBook book, ReversiStrategy search) {
+    if (book == null || search == null) {
+      throw new IllegalArgumentException("Book and strategy cannot be null.");
+    }
+    this.book = book;
+    this.search = search;
+  }
+
+  /**
+   * Chooses the move of the book, or the move of the search if the position is not in it.
+   *
+   * @param game the game to choose a move from.
+   * @return The move to play, or null if the current player has no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game) {
+    Move move = book.lookup(game);
+    return move != null ? move : search.chooseMove(game);
+  }
+
+  /**
+   * Gets the strategy that searches positions that are not in the book.
+   *
+   * @return The strategy behind the book.
+   */
+  public ReversiStrategy getSearch() {
+    return search;
+  }
+}
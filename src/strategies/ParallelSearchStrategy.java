@@ -0,0 +1,202 @@
+package strategies;
+
+import model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Reversi strategy that splits the alpha-beta search of the root moves across the threads
+ * of a {@link ForkJoinPool}.
+ *
+ * <p>The first root move (the best move of the previous search of the same position, if
+ * there was one) is searched on its own to get a score to beat, as in young brothers wait. The
+ * remaining root moves are then searched in parallel, each on its own copy of the game made
+ * with {@link Game#copy()} by an {@link AlphaBetaStrategy} owned by the worker thread, so the
+ * threads share no mutable state. Every finished search raises the shared score to beat, which
+ * narrows the windows of the searches that start after it.</p>
+ *
+ * <p>Because the shared score depends on which search finishes first, the chosen move can
+ * differ between runs when several moves score the same. In deterministic mode the window of
+ * every parallel search is fixed to the score of the first move and every worker forgets its
+ * earlier searches before each task, so the same position always gives the same move.</p>
+ */
+public class ParallelSearchStrategy implements DepthLimitedStrategy {
+  private static final int DEPTH = 6;
+  private static final int TABLE_MEGABYTES = 4;
+
+  private final int depth;
+  private final boolean deterministic;
+  private final ForkJoinPool pool;
+  private final ThreadLocal<AlphaBetaStrategy> searchers =
+          ThreadLocal.withInitial(() -> new AlphaBetaStrategy(1, TABLE_MEGABYTES));
+  private final AtomicLong nodes = new AtomicLong();
+
+  private long lastPosition;
+  private Move lastBest;
+
+  /**
+   * Creates a strategy searching to the default depth of 6 on one thread per processor.
+   */
+  public ParallelSearchStrategy() {
+    this(DEPTH, Runtime.getRuntime().availableProcessors(), false);
+  }
+
+  /**
+   * Creates a strategy searching to the given depth on the given number of threads.
+   *
+   * @param depth         The number of plies to search.
+   * @param parallelism   The number of worker threads.
+   * @param deterministic Whether the same position must always give the same move.
+   * @throws IllegalArgumentException if the depth or the parallelism is less than 1.
+   */
+  public ParallelSearchStrategy(int depth, int parallelism, boolean deterministic) {
+    if (depth < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("Depth and parallelism must be at least 1.");
+    }
+    this.depth = depth;
+    this.deterministic = deterministic;
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  @Override
+  public Move chooseMove(Game game) {
+    return chooseMove(game, depth, Long.MAX_VALUE);
+  }
+
+  /**
+   * Chooses the best move for the current player by searching the root moves in parallel to
+   * the given depth, giving up when the deadline passes. The game itself is only read.
+   *
+   * @param game     the game to choose a move from.
+   * @param depth    The number of plies to search.
+   * @param deadline The {@link System#nanoTime()} at which to give up, or
+   *                 {@link Long#MAX_VALUE} for no limit.
+   * @return The best move, or null if the search was abandoned or there is no valid move.
+   */
+  @Override
+  public Move chooseMove(Game game, int depth, long deadline) {
+    List<Move> moves = new ArrayList<>(game.getValidMoves());
+    if (moves.isEmpty()) {
+      return null;
+    }
+    long position = game.getPositionHash();
+    if (position == lastPosition && lastBest != null && moves.remove(lastBest)) {
+      moves.add(0, lastBest);
+    }
+
+    AtomicInteger toBeat = new AtomicInteger(-AlphaBetaStrategy.INFINITY);
+    RootMove first = new RootMove(game, moves.get(0), depth, deadline, toBeat);
+    Result firstResult = pool.invoke(first);
+    if (firstResult == null) {
+      return null;
+    }
+
+    List<RootMove> rest = new ArrayList<>();
+    for (int i = 1; i < moves.size(); i++) {
+      rest.add(new RootMove(game, moves.get(i), depth, deadline, toBeat));
+    }
+    pool.invoke(new RecursiveTask<Void>() {
+      @Override
+      protected Void compute() {
+        ForkJoinTask.invokeAll(rest);
+        return null;
+      }
+    });
+
+    // Only scores above their window are exact; the others are at most the score they failed
+    // to beat, which some exact score reached. Ties go to the earlier move.
+    Move bestMove = moves.get(0);
+    int bestScore = firstResult.score;
+    for (RootMove task : rest) {
+      Result result = task.join();
+      if (result == null) {
+        return null;
+      }
+      if (result.exact && result.score > bestScore) {
+        bestScore = result.score;
+        bestMove = task.move;
+      }
+    }
+
+    lastPosition = position;
+    lastBest = bestMove;
+    return bestMove;
+  }
+
+  @Override
+  public long getNodeCount() {
+    return nodes.get();
+  }
+
+  /**
+   * Stops the worker threads. The strategy cannot search after this.
+   */
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  /**
+   * The score of a root move, and whether it is exact or only an upper bound.
+   */
+  private static final class Result {
+    private final int score;
+    private final boolean exact;
+
+    Result(int score, boolean exact) {
+      this.score = score;
+      this.exact = exact;
+    }
+  }
+
+  /**
+   * Searches one root move on a copy of the game. Returns null if the deadline passed.
+   */
+  private final class RootMove extends RecursiveTask<Result> {
+    private static final long serialVersionUID = 1L;
+
+    private final Game game;
+    private final Move move;
+    private final int depth;
+    private final long deadline;
+    private final AtomicInteger toBeat;
+
+    RootMove(Game game, Move move, int depth, long deadline, AtomicInteger toBeat) {
+      this.game = game;
+      this.move = move;
+      this.depth = depth;
+      this.deadline = deadline;
+      this.toBeat = toBeat;
+    }
+
+    @Override
+    protected Result compute() {
+      AlphaBetaStrategy searcher = searchers.get();
+      if (deterministic) {
+        searcher.reset();
+      }
+      Game copy = game.copy();
+      copy.makeMove(move.getQ(), move.getR());
+
+      int alpha = toBeat.get();
+      long before = searcher.getNodeCount();
+      int score = -searcher.searchPosition(copy, depth - 1, -AlphaBetaStrategy.INFINITY,
+              -alpha, deadline);
+      nodes.addAndGet(searcher.getNodeCount() - before);
+      if (searcher.wasAborted()) {
+        return null;
+      }
+
+      boolean exact = score > alpha;
+      if (exact && !deterministic || alpha == -AlphaBetaStrategy.INFINITY) {
+        toBeat.accumulateAndGet(score, Math::max);
+      }
+      return new Result(score, exact);
+    }
+  }
+}
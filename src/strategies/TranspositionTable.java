@@ -0,0 +1,229 @@
+package strategies;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size transposition table for game tree searches, keyed by position hash.
+ *
+ * <p>The table is a single {@code long[]} holding a power-of-two number of buckets. Each bucket
+ * has two slots of two longs (the position hash and a packed entry): a depth-preferred slot
+ * that is only replaced by searches at least as deep as the one stored, and an always-replace
+ * slot that takes every other store. The number of buckets is the largest power of two that
+ * fits in the memory budget, so a bucket is found by masking the hash.</p>
+ *
+ * <p>An entry packs the score, the searched depth, the kind of bound and the best move into a
+ * single {@code long}; {@link #probe(long)} returns it as is and the static accessors unpack
+ * it, so probing does not allocate. Scores are stored from the point of view of the side to
+ * move in the position.</p>
+ *
+ * <p>A slot holds the hash XORed with the entry rather than the hash itself. A probe only
+ * accepts an entry if XORing it back gives the probed hash, so a read that races with a write
+ * and sees the old half of one long and the new half of the other is rejected as a miss. This
+ * lets several searching threads share one table without locks, as in
+ * {@link LazySmpStrategy}. The replacement decisions of racing stores may overwrite each other,
+ * which only costs an entry, and the counters are then approximate.</p>
+ */
+public class TranspositionTable {
+  /**
+   * The entry returned by {@link #probe(long)} when the position is not in the table.
+   */
+  public static final long MISS = 0L;
+
+  /**
+   * The stored score is the exact value of the position.
+   */
+  public static final int EXACT = 0;
+
+  /**
+   * The stored score is a lower bound: the search failed high.
+   */
+  public static final int LOWER_BOUND = 1;
+
+  /**
+   * The stored score is an upper bound: the search failed low.
+   */
+  public static final int UPPER_BOUND = 2;
+
+  private static final int BUCKET_LONGS = 4;
+  private static final int BUCKET_BYTES = BUCKET_LONGS * Long.BYTES;
+
+  private static final int DEPTH_SHIFT = 32;
+  private static final int BOUND_SHIFT = 40;
+  private static final long USED = 1L << 42;
+  private static final int MOVE_Q_SHIFT = 43;
+  private static final int MOVE_R_SHIFT = 53;
+  private static final long MOVE_MASK = 0x3ff;
+
+  private final long[] slots;
+  private final int mask;
+
+  private long hits;
+  private long misses;
+  private long collisions;
+
+  /**
+   * Creates a table using at most the given number of megabytes.
+   *
+   * @param megabytes The memory budget of the table.
+   * @throws IllegalArgumentException if the budget is less than 1 MB.
+   */
+  public TranspositionTable(int megabytes) {
+    if (megabytes < 1) {
+      throw new IllegalArgumentException("Memory budget must be at least 1 MB.");
+    }
+    long buckets = Long.highestOneBit((long) megabytes * 1024 * 1024 / BUCKET_BYTES);
+    buckets = Math.min(buckets, Integer.highestOneBit(Integer.MAX_VALUE / BUCKET_LONGS));
+    this.slots = new long[(int) buckets * BUCKET_LONGS];
+    this.mask = (int) buckets - 1;
+  }
+
+  /**
+   * Looks up a position.
+   *
+   * @param key The hash of the position.
+   * @return The packed entry of the position, or {@link #MISS} if it is not stored.
+   */
+  public long probe(long key) {
+    int bucket = bucketOf(key);
+    for (int slot = bucket; slot < bucket + BUCKET_LONGS; slot += 2) {
+      long entry = slots[slot + 1];
+      if (entry != MISS && (slots[slot] ^ entry) == key) {
+        hits++;
+        return entry;
+      }
+    }
+    misses++;
+    if (slots[bucket + 1] != MISS || slots[bucket + 3] != MISS) {
+      collisions++;
+    }
+    return MISS;
+  }
+
+  /**
+   * Stores the result of searching a position. The entry goes to the depth-preferred slot if
+   * that slot holds the same position or a search that was not deeper, and to the
+   * always-replace slot otherwise.
+   *
+   * @param key   The hash of the position.
+   * @param depth The depth the position was searched to, from 0 to 255.
+   * @param score The score for the side to move.
+   * @param bound One of {@link #EXACT}, {@link #LOWER_BOUND} and {@link #UPPER_BOUND}.
+   * @param moveQ The q-coordinate of the best move, or -1 if there is none.
+   * @param moveR The r-coordinate of the best move, or -1 if there is none.
+   */
+  public void store(long key, int depth, int score, int bound, int moveQ, int moveR) {
+    long entry = (score & 0xffffffffL)
+            | ((long) Math.min(Math.max(depth, 0), 255) << DEPTH_SHIFT)
+            | ((long) bound << BOUND_SHIFT)
+            | USED
+            | (((moveQ + 1) & MOVE_MASK) << MOVE_Q_SHIFT)
+            | (((moveR + 1) & MOVE_MASK) << MOVE_R_SHIFT);
+
+    int bucket = bucketOf(key);
+    long preferred = slots[bucket + 1];
+    int slot = preferred == MISS || (slots[bucket] ^ preferred) == key
+            || depth >= depth(preferred) ? bucket : bucket + 2;
+    slots[slot] = key ^ entry;
+    slots[slot + 1] = entry;
+  }
+
+  /**
+   * Removes every entry and resets the counters.
+   */
+  public void clear() {
+    Arrays.fill(slots, 0L);
+    hits = 0;
+    misses = 0;
+    collisions = 0;
+  }
+
+  /**
+   * Gets the number of entries the table can hold.
+   *
+   * @return The number of slots.
+   */
+  public int capacity() {
+    return slots.length / 2;
+  }
+
+  /**
+   * Gets the number of probes that found their position.
+   *
+   * @return The number of hits.
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of probes that did not find their position.
+   *
+   * @return The number of misses.
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of misses where the bucket was holding other positions.
+   *
+   * @return The number of collisions.
+   */
+  public long getCollisions() {
+    return collisions;
+  }
+
+  /**
+   * Unpacks the score of an entry.
+   *
+   * @param entry A packed entry.
+   * @return The score for the side to move.
+   */
+  public static int score(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Unpacks the searched depth of an entry.
+   *
+   * @param entry A packed entry.
+   * @return The depth the position was searched to.
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & 0xff;
+  }
+
+  /**
+   * Unpacks the kind of bound of an entry.
+   *
+   * @param entry A packed entry.
+   * @return One of {@link #EXACT}, {@link #LOWER_BOUND} and {@link #UPPER_BOUND}.
+   */
+  public static int bound(long entry) {
+    return (int) (entry >>> BOUND_SHIFT) & 0x3;
+  }
+
+  /**
+   * Unpacks the q-coordinate of the best move of an entry.
+   *
+   * @param entry A packed entry.
+   * @return The q-coordinate, or -1 if no move was stored.
+   */
+  public static int moveQ(long entry) {
+    return (int) ((entry >>> MOVE_Q_SHIFT) & MOVE_MASK) - 1;
+  }
+
+  /**
+   * Unpacks the r-coordinate of the best move of an entry.
+   *
+   * @param entry A packed entry.
+   * @return The r-coordinate, or -1 if no move was stored.
+   */
+  public static int moveR(long entry) {
+    return (int) ((entry >>> MOVE_R_SHIFT) & MOVE_MASK) - 1;
+  }
+
+  private int bucketOf(long key) {
+    return ((int) (key ^ (key >>> 32)) & mask) * BUCKET_LONGS;
+  }
+}
@@ -0,0 +1,183 @@
+package tournament;
+
+import model.Game;
+import player.GamePlayers;
+import strategies.Move;
+import strategies.ReversiStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * A headless round-robin tournament between Reversi strategies, played without any view or
+ * controller on a pool of threads.
+ *
+ * <p>Every pair of entrants plays the same number of games. Games are played in pairs from the
+ * same opening with the colors swapped, and the opening of each pair is a seeded number of
+ * random plies, so deterministic strategies still meet in varied positions and the same seed
+ * always gives the same games. Each game gets its own game and a fresh strategy for each side,
+ * so games share no state and can run on any thread.</p>
+ *
+ * <p>A game ends after two passes in a row or after a maximum number of plies, and is won by
+ * the player with more discs on the board. A strategy that returns null passes; a strategy that
+ * returns an invalid move loses the game.</p>
+ */
+public class Tournament {
+  private static final int MAX_PLIES = 400;
+  private static final long OPENING_MIX = 0x9e3779b97f4a7c15L;
+
+  private final Supplier<Game> newGame;
+  private final int openingPlies;
+  private final int threads;
+  private final List<String> names = new ArrayList<>();
+  private final List<Supplier<ReversiStrategy>> strategies = new ArrayList<>();
+
+  /**
+   * Creates a tournament without entrants.
+   *
+   * @param newGame      Creates the game in its starting position, once per game.
+   * @param openingPlies The number of random plies played before the strategies take over.
+   * @param threads      The number of games played at the same time.
+   * @throws IllegalArgumentException if the game supplier is null, the number of opening plies
+   *                                  is negative or the number of threads is less than 1.
+   */
+  public Tournament(Supplier<Game> newGame, int openingPlies, int threads) {
+    if (newGame == null) {
+      throw new IllegalArgumentException("Game supplier cannot be null.");
+    }
+    if (openingPlies < 0 || threads < 1) {
+      throw new IllegalArgumentException(
+              "Opening plies cannot be negative and threads must be at least 1.");
+    }
+    this.newGame = newGame;
+    this.openingPlies = openingPlies;
+    this.threads = threads;
+  }
+
+  /**
+   * Adds an entrant to the tournament.
+   *
+   * @param name     The name the entrant is reported under.
+   * @param strategy Creates the strategy of the entrant, once per game.
+   * @throws IllegalArgumentException if the name or the strategy supplier is null.
+   */
+  public void addEntrant(String name, Supplier<ReversiStrategy> strategy) {
+    if (name == null || strategy == null) {
+      throw new IllegalArgumentException("Name and strategy cannot be null.");
+    }
+    names.add(name);
+    strategies.add(strategy);
+  }
+
+  /**
+   * Plays the given number of games between every pair of entrants and collects the results.
+   *
+   * @param gamesPerPairing The number of games each pair of entrants plays.
+   * @param seed            The seed of the random openings.
+   * @return The results of the tournament.
+   * @throws IllegalArgumentException if there are fewer than two entrants or the number of
+   *                                  games is less than 1.
+   * @throws IllegalStateException    if a strategy throws during a game.
+   */
+  public TournamentResult run(int gamesPerPairing, long seed) {
+    int count = names.size();
+    if (count < 2 || gamesPerPairing < 1) {
+      throw new IllegalArgumentException("Need two entrants and at least one game per pairing.");
+    }
+
+    List<int[]> pairings = new ArrayList<>();
+    List<Future<GamePlayers>> outcomes = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    long start = System.nanoTime();
+    try {
+      for (int i = 0; i < count; i++) {
+        for (int j = i + 1; j < count; j++) {
+          for (int g = 0; g < gamesPerPairing; g++) {
+            // Games 2k and 2k + 1 share opening k with the colors swapped.
+            int black = g % 2 == 0 ? i : j;
+            int white = g % 2 == 0 ? j : i;
+            long openingSeed = seed ^ (g / 2 + 1) * OPENING_MIX;
+            pairings.add(new int[] {black, white});
+            outcomes.add(executor.submit(() -> play(newGame.get(),
+                    strategies.get(black).get(), strategies.get(white).get(),
+                    new Random(openingSeed), openingPlies)));
+          }
+        }
+      }
+
+      int[][] wins = new int[count][count];
+      int[][] draws = new int[count][count];
+      for (int k = 0; k < outcomes.size(); k++) {
+        int black = pairings.get(k)[0];
+        int white = pairings.get(k)[1];
+        GamePlayers winner = outcomes.get(k).get();
+        if (winner == GamePlayers.Black) {
+          wins[black][white]++;
+        } else if (winner == GamePlayers.White) {
+          wins[white][black]++;
+        } else {
+          draws[black][white]++;
+          draws[white][black]++;
+        }
+      }
+      return new TournamentResult(names, wins, draws, System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Game failed.", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays one game to the end with {@link Game#makeMove(int, int)} and
+   * {@link Game#makePass()}, after the given number of random opening plies.
+   *
+   * @param game         The game in its starting position.
+   * @param black        The strategy of the Black player.
+   * @param white        The strategy of the White player.
+   * @param random       The source of the opening moves.
+   * @param openingPlies The number of random plies to start with.
+   * @return The winner, or null for a draw.
+   */
+  static GamePlayers play(Game game, ReversiStrategy black, ReversiStrategy white,
+                          Random random, int openingPlies) {
+    int passes = 0;
+    for (int ply = 0; passes < 2 && ply < MAX_PLIES; ply++) {
+      List<Move> moves = game.getValidMoves();
+      GamePlayers mover = game.getCurrentPlayer();
+      Move move = null;
+      if (!moves.isEmpty()) {
+        move = ply < openingPlies ? moves.get(random.nextInt(moves.size()))
+                : (mover == GamePlayers.Black ? black : white).chooseMove(game);
+      }
+
+      if (move == null) {
+        game.makePass();
+        passes++;
+        continue;
+      }
+      try {
+        game.makeMove(move.getQ(), move.getR());
+      } catch (IllegalArgumentException e) {
+        return mover == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
+      }
+      passes = 0;
+    }
+
+    int blackDiscs = game.getBoard().getDiscCount(GamePlayers.Black.getCellState());
+    int whiteDiscs = game.getBoard().getDiscCount(GamePlayers.White.getCellState());
+    if (blackDiscs == whiteDiscs) {
+      return null;
+    }
+    return blackDiscs > whiteDiscs ? GamePlayers.Black : GamePlayers.White;
+  }
+}
@@ -0,0 +1,194 @@
+package tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of a {@link Tournament}: the wins, losses and draws of every pair of entrants,
+ * Elo estimates fitted to them, and the speed at which the games were played.
+ *
+ * <p>Entrants are referred to by their index, in the order they were added.</p>
+ */
+public class TournamentResult {
+  private static final int ELO_ITERATIONS = 200;
+
+  private final List<String> names;
+  private final int[][] wins;
+  private final int[][] draws;
+  private final long elapsedNanos;
+
+  /**
+   * Creates the results of a tournament.
+   *
+   * @param names        The names of the entrants.
+   * @param wins         wins[i][j] is the number of games entrant i won against entrant j.
+   * @param draws        draws[i][j] is the number of draws between entrants i and j.
+   * @param elapsedNanos The time the tournament took.
+   */
+  TournamentResult(List<String> names, int[][] wins, int[][] draws, long elapsedNanos) {
+    this.names = Collections.unmodifiableList(new ArrayList<>(names));
+    this.wins = wins;
+    this.draws = draws;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the names of the entrants.
+   *
+   * @return The names, in the order the entrants were added.
+   */
+  public List<String> getEntrants() {
+    return names;
+  }
+
+  /**
+   * Gets the number of games the first entrant won against the second.
+   *
+   * @param entrant  The index of the entrant.
+   * @param opponent The index of the opponent.
+   * @return The number of wins.
+   */
+  public int getWins(int entrant, int opponent) {
+    return wins[entrant][opponent];
+  }
+
+  /**
+   * Gets the number of games the first entrant lost against the second.
+   *
+   * @param entrant  The index of the entrant.
+   * @param opponent The index of the opponent.
+   * @return The number of losses.
+   */
+  public int getLosses(int entrant, int opponent) {
+    return wins[opponent][entrant];
+  }
+
+  /**
+   * Gets the number of draws between two entrants.
+   *
+   * @param entrant  The index of the entrant.
+   * @param opponent The index of the opponent.
+   * @return The number of draws.
+   */
+  public int getDraws(int entrant, int opponent) {
+    return draws[entrant][opponent];
+  }
+
+  /**
+   * Gets the number of games played in the tournament.
+   *
+   * @return The number of games.
+   */
+  public int getGameCount() {
+    int games = 0;
+    for (int i = 0; i < names.size(); i++) {
+      for (int j = 0; j < names.size(); j++) {
+        games += wins[i][j];
+        if (i < j) {
+          games += draws[i][j];
+        }
+      }
+    }
+    return games;
+  }
+
+  /**
+   * Gets the speed of the tournament.
+   *
+   * @return The number of games played per second.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : getGameCount() * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Estimates the Elo rating of every entrant from all the games, centered on 0.
+   *
+   * <p>The ratings are the Bradley-Terry maximum likelihood fit, with a draw counting as half
+   * a win and one extra draw against every opponent played, so that an entrant that won or
+   * lost every game still gets a finite rating.</p>
+   *
+   * @return The ratings, by entrant index.
+   */
+  public double[] getElo() {
+    int count = names.size();
+    double[] strength = new double[count];
+    Arrays.fill(strength, 1.0);
+    for (int iteration = 0; iteration < ELO_ITERATIONS; iteration++) {
+      double[] next = new double[count];
+      for (int i = 0; i < count; i++) {
+        double score = 0;
+        double weight = 0;
+        for (int j = 0; j < count; j++) {
+          int games = wins[i][j] + wins[j][i] + draws[i][j];
+          if (i == j || games == 0) {
+            continue;
+          }
+          score += wins[i][j] + 0.5 * draws[i][j] + 0.5;
+          weight += (games + 1) / (strength[i] + strength[j]);
+        }
+        next[i] = weight == 0 ? 1.0 : score / weight;
+      }
+      double logMean = 0;
+      for (double value : next) {
+        logMean += Math.log(value) / count;
+      }
+      for (int i = 0; i < count; i++) {
+        strength[i] = next[i] / Math.exp(logMean);
+      }
+    }
+
+    double[] elo = new double[count];
+    for (int i = 0; i < count; i++) {
+      elo[i] = 400 * Math.log10(strength[i]);
+    }
+    return elo;
+  }
+
+  /**
+   * Formats the results as a table of wins-losses-draws of each entrant (row) against each
+   * opponent (column), followed by the Elo estimates and the speed.
+   *
+   * @return The formatted results.
+   */
+  @Override
+  public String toString() {
+    int width = 8;
+    for (String name : names) {
+      width = Math.max(width, name.length());
+    }
+    StringBuilder builder = new StringBuilder();
+    builder.append(pad("", width));
+    for (String name : names) {
+      builder.append("  ").append(pad(name, width));
+    }
+    builder.append("  ").append(pad("Elo", width)).append('\n');
+
+    double[] elo = getElo();
+    for (int i = 0; i < names.size(); i++) {
+      builder.append(pad(names.get(i), width));
+      for (int j = 0; j < names.size(); j++) {
+        String cell = i == j ? "-"
+                : getWins(i, j) + "-" + getLosses(i, j) + "-" + getDraws(i, j);
+        builder.append("  ").append(pad(cell, width));
+      }
+      builder.append("  ").append(pad(String.format("%+.0f", elo[i]), width)).append('\n');
+    }
+    builder.append(String.format("%d games in %.2f s (%.1f games/s)%n", getGameCount(),
+            elapsedNanos / 1e9, getGamesPerSecond()));
+    return builder.toString();
+  }
+
+  /*
+   * Right-aligns the text in a column of the given width.
+   */
+  private static String pad(String text, int width) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = text.length(); i < width; i++) {
+      builder.append(' ');
+    }
+    return builder.append(text).toString();
+  }
+}
@@ -0,0 +1,244 @@
+package view;
+
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ModelListener;
+import player.GamePlayers;
+import strategies.MoveAnalyzer;
+import strategies.MoveEvaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Analyzes the moves of the current position in the background while it is enabled, and keeps
+ * the latest evaluation of every move for a panel to draw over its cells.
+ *
+ * <p>Whenever the model changes, the analysis of the old position is stopped and its results
+ * dropped, and once the change is complete a {@link MoveAnalyzer} starts on a copy of the new
+ * position. Its evaluations are sent to the event thread as they deepen, stored there, and the
+ * panel is told which cell to repaint. Everything but the search itself runs on the event
+ * thread.</p>
+ *
+ * <p>The analyzer, with its transposition table, and its thread are only created when the
+ * overlay is enabled, and released when it is disabled, so a panel whose players never look
+ * at the analysis does not pay for it.</p>
+ */
+final class AnalysisOverlay implements ModelListener {
+  private final Game game;
+  private final int maxDepth;
+  private final Executor eventThread;
+  private final Consumer<HexCoordinate> changed;
+  private final MoveEvaluation[][] evaluations; // by q, then r, so paints look up without keys
+  private final List<HexCoordinate> evaluated = new ArrayList<>(); // the cells with one
+
+  private MoveAnalyzer analyzer; // with the executor, only while enabled
+  private ExecutorService executor;
+  private boolean enabled;
+  private boolean shutdown;
+  private boolean restartPending;
+  private Future<?> pending;
+  private long position; // numbers the analysed positions, so that stale results are dropped
+
+  /**
+   * Creates a disabled overlay for the game.
+   *
+   * @param game        The game to analyze.
+   * @param maxDepth    The deepest number of plies to search every move to.
+   * @param eventThread Runs the events that store the evaluations.
+   * @param changed     Told on the event thread the cell whose evaluation changed.
+   */
+  AnalysisOverlay(Game game, int maxDepth, Executor eventThread,
+                  Consumer<HexCoordinate> changed) {
+    this.game = game;
+    this.maxDepth = maxDepth;
+    this.eventThread = eventThread;
+    this.changed = changed;
+    int span = 0;
+    for (HexCoordinate coordinate : game.getBoardMap().keySet()) {
+      span = Math.max(span, Math.max(coordinate.getQ(), coordinate.getR()) + 1);
+    }
+    this.evaluations = new MoveEvaluation[span][span];
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts analyzing the current position, or stops and forgets the analysis and releases the
+   * analyzer and its thread. Does nothing once the overlay is shut down.
+   *
+   * @param enabled Whether to analyze.
+   */
+  void setEnabled(boolean enabled) {
+    if (shutdown || enabled == this.enabled) {
+      return;
+    }
+    this.enabled = enabled;
+    if (enabled) {
+      synchronized (this) {
+        analyzer = new MoveAnalyzer(maxDepth);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "analysis");
+          thread.setDaemon(true);
+          return thread;
+        });
+      }
+      game.addModelListener(this);
+      restart();
+    } else {
+      release();
+      restart();
+    }
+  }
+
+  /**
+   * Returns the latest evaluation of the move on the given cell in the current position. Called
+   * for every cell painted, so it allocates nothing.
+   *
+   * @param q The q-coordinate of the move.
+   * @param r The r-coordinate of the move.
+   * @return The evaluation, or null if the overlay is disabled or the move was not evaluated
+   *         yet.
+   */
+  MoveEvaluation get(int q, int r) {
+    if (!enabled || evaluated.isEmpty() || q < 0 || q >= evaluations.length
+            || r < 0 || r >= evaluations.length) {
+      return null;
+    }
+    return evaluations[q][r];
+  }
+
+  /**
+   * Returns the short text shown for an evaluation: the score for the player to move and the
+   * depth, such as "+2/5".
+   *
+   * @param evaluation The evaluation to show.
+   * @return The text to draw.
+   */
+  static String label(MoveEvaluation evaluation) {
+    return String.format("%+d/%d", evaluation.getScore(), evaluation.getDepth());
+  }
+
+  /**
+   * Stops the analysis and the background thread for good.
+   */
+  void shutdown() {
+    shutdown = true;
+    enabled = false;
+    release();
+  }
+
+  @Override
+  public void discPlaced(int q, int r, CellState state) {
+    positionChanged();
+  }
+
+  @Override
+  public void discsFlipped(List<HexCoordinate> cells, CellState state) {
+    positionChanged();
+  }
+
+  @Override
+  public void turnChanged(GamePlayers player) {
+    positionChanged();
+  }
+
+  /*
+   * Stops the analysis of the old position at once, and restarts on the event thread once the
+   * model has finished changing, so that one move with its flips and player changes only
+   * starts one analysis.
+   */
+  private void positionChanged() {
+    synchronized (this) {
+      stopAnalysis();
+      if (restartPending) {
+        return;
+      }
+      restartPending = true;
+    }
+    eventThread.execute(this::restart);
+  }
+
+  /*
+   * Forgets the evaluations of the old position and starts analyzing the current one if the
+   * overlay is enabled.
+   */
+  private void restart() {
+    long ticket;
+    synchronized (this) {
+      restartPending = false;
+      stopAnalysis();
+      ticket = position;
+    }
+    HexCoordinate[] cleared = evaluated.toArray(new HexCoordinate[0]);
+    evaluated.clear();
+    for (HexCoordinate coordinate : cleared) {
+      evaluations[coordinate.getQ()][coordinate.getR()] = null;
+      changed.accept(coordinate);
+    }
+    if (!enabled) {
+      return;
+    }
+
+    Game copy = game.copy();
+    synchronized (this) {
+      MoveAnalyzer search = analyzer;
+      pending = executor.submit(() -> search.analyze(copy, evaluation ->
+              eventThread.execute(() -> deliver(ticket, evaluation))));
+    }
+  }
+
+  /*
+   * Stops listening to the game and drops the analyzer and its thread.
+   */
+  private void release() {
+    game.removeModelListener(this);
+    synchronized (this) {
+      stopAnalysis();
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+      executor = null;
+      analyzer = null;
+    }
+  }
+
+  /*
+   * Drops the analysis in progress, if any: its later evaluations will not be stored.
+   */
+  private synchronized void stopAnalysis() {
+    position++;
+    if (pending != null) {
+      analyzer.stop();
+      pending.cancel(true);
+      pending = null;
+    }
+  }
+
+  /*
+   * Stores an evaluation on the event thread, unless it belongs to an older position.
+   */
+  private void deliver(long ticket, MoveEvaluation evaluation) {
+    synchronized (this) {
+      if (ticket != position) {
+        return;
+      }
+    }
+    int q = evaluation.getMove().getQ();
+    int r = evaluation.getMove().getR();
+    HexCoordinate coordinate = new HexCoordinate(q, r);
+    if (evaluations[q][r] == null) {
+      evaluated.add(coordinate);
+    }
+    evaluations[q][r] = evaluation;
+    changed.accept(coordinate);
+  }
+}
@@ -0,0 +1,280 @@
+package view;
+
+import model.Cell;
+import model.HexCoordinate;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * The screen geometry of the cells of a hexagonal board: the centre, the hexagon and the
+ * bounding box of every cell, computed once for a board size and panel size instead of on
+ * every paint.
+ *
+ * <p>The cells are numbered from 0 to {@link #getCount()} - 1, and all the arrays of the
+ * geometry use these numbers.</p>
+ *
+ * <p>For hit-testing, the area covered by the board is divided into square buckets the size
+ * of a hexagon, and every bucket lists the cells whose bounding boxes overlap it. A point is
+ * then only tested against the few hexagons of its bucket, whatever the size of the board.</p>
+ */
+final class HexGeometry {
+  static final int HEXAGON_SIZE = 30;
+  private static final int HORIZONTAL_SPACING = (int) (HEXAGON_SIZE * Math.sqrt(3));
+  private static final int STROKE_MARGIN = 2; // the outlines are drawn 2 pixels wide
+  private static final int BUCKET_SIZE = HEXAGON_SIZE;
+
+  private final int boardSize;
+  private final int width;
+  private final int height;
+  private final HexCoordinate[] coordinates;
+  private final Cell[] cells;
+  private final int[] centerX;
+  private final int[] centerY;
+  private final Polygon[] hexagons;
+  private final Rectangle[] bounds;
+  private final Map<HexCoordinate, Integer> indices;
+
+  private int gridX; // the top left corner and size of the bucket grid
+  private int gridY;
+  private int columns;
+  private int rows;
+  private int[] bucketStart; // the cells of bucket b are bucketCells[bucketStart[b]..[b + 1])
+  private int[] bucketCells;
+
+  /**
+   * Computes the geometry of the cells of a board drawn on a panel of the given size.
+   *
+   * @param boardMap  The cells of the board.
+   * @param boardSize The size of the board.
+   * @param width     The width of the panel.
+   * @param height    The height of the panel.
+   */
+  HexGeometry(Map<HexCoordinate, Cell> boardMap, int boardSize, int width, int height) {
+    this.boardSize = boardSize;
+    this.width = width;
+    this.height = height;
+
+    int count = boardMap.size();
+    coordinates = new HexCoordinate[count];
+    cells = new Cell[count];
+    centerX = new int[count];
+    centerY = new int[count];
+    hexagons = new Polygon[count];
+    bounds = new Rectangle[count];
+    indices = new HashMap<>(count * 2);
+
+    int offsetX = offsetX(boardSize, width);
+    int offsetY = offsetY(boardSize, height);
+    int i = 0;
+    for (Map.Entry<HexCoordinate, Cell> entry : boardMap.entrySet()) {
+      HexCoordinate coordinate = entry.getKey();
+      coordinates[i] = coordinate;
+      cells[i] = entry.getValue();
+      centerX[i] = centerX(coordinate.getQ(), coordinate.getR()) + offsetX;
+      centerY[i] = centerY(coordinate.getR()) + offsetY;
+      hexagons[i] = hexagon(centerX[i], centerY[i]);
+      bounds[i] = hexagons[i].getBounds();
+      bounds[i].grow(STROKE_MARGIN, STROKE_MARGIN);
+      indices.put(coordinate, i);
+      i++;
+    }
+    buildBuckets();
+  }
+
+  /**
+   * Checks whether this geometry was computed for the given board and panel size.
+   *
+   * @param boardSize The size of the board.
+   * @param width     The width of the panel.
+   * @param height    The height of the panel.
+   * @return True if the geometry can be reused, false if it must be computed again.
+   */
+  boolean fits(int boardSize, int width, int height) {
+    return this.boardSize == boardSize && this.width == width && this.height == height;
+  }
+
+  int getCount() {
+    return coordinates.length;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  HexCoordinate getCoordinate(int index) {
+    return coordinates[index];
+  }
+
+  Cell getCell(int index) {
+    return cells[index];
+  }
+
+  int getCenterX(int index) {
+    return centerX[index];
+  }
+
+  int getCenterY(int index) {
+    return centerY[index];
+  }
+
+  Polygon getHexagon(int index) {
+    return hexagons[index];
+  }
+
+  /**
+   * Returns the area a cell is drawn in, including its outline.
+   *
+   * @param index The number of the cell.
+   * @return The bounding box of the cell. Callers must not change it.
+   */
+  Rectangle getBounds(int index) {
+    return bounds[index];
+  }
+
+  /**
+   * Returns the number of the cell at the given coordinate.
+   *
+   * @param coordinate The coordinate of the cell.
+   * @return The number of the cell, or -1 if the board has no such cell.
+   */
+  int indexOf(HexCoordinate coordinate) {
+    Integer index = indices.get(coordinate);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the number of the cell whose hexagon contains the given point. If hexagons overlap
+   * at the point, the lowest numbered one is returned.
+   *
+   * @param x The x-coordinate of the point.
+   * @param y The y-coordinate of the point.
+   * @return The number of the cell, or -1 if the point is outside the board.
+   */
+  int indexAt(int x, int y) {
+    int column = Math.floorDiv(x - gridX, BUCKET_SIZE);
+    int row = Math.floorDiv(y - gridY, BUCKET_SIZE);
+    if (column < 0 || column >= columns || row < 0 || row >= rows) {
+      return -1;
+    }
+    int bucket = row * columns + column;
+    for (int k = bucketStart[bucket]; k < bucketStart[bucket + 1]; k++) {
+      int index = bucketCells[k];
+      if (hexagons[index].contains(x, y)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /*
+   * Lists the cells overlapping every bucket, in increasing order of their numbers.
+   */
+  private void buildBuckets() {
+    if (bounds.length == 0) {
+      bucketStart = new int[1];
+      bucketCells = new int[0];
+      return;
+    }
+    Rectangle area = new Rectangle(bounds[0]);
+    for (Rectangle cell : bounds) {
+      area.add(cell);
+    }
+    gridX = area.x;
+    gridY = area.y;
+    columns = area.width / BUCKET_SIZE + 1;
+    rows = area.height / BUCKET_SIZE + 1;
+
+    // Count the cells of every bucket, then fill the buckets in a second pass.
+    bucketStart = new int[columns * rows + 1];
+    for (Rectangle cell : bounds) {
+      forEachBucket(cell, bucket -> bucketStart[bucket + 1]++);
+    }
+    for (int b = 0; b < columns * rows; b++) {
+      bucketStart[b + 1] += bucketStart[b];
+    }
+    bucketCells = new int[bucketStart[columns * rows]];
+    int[] next = bucketStart.clone();
+    for (int i = 0; i < bounds.length; i++) {
+      int index = i;
+      forEachBucket(bounds[i], bucket -> bucketCells[next[bucket]++] = index);
+    }
+  }
+
+  /*
+   * Runs the action for every bucket the rectangle overlaps.
+   */
+  private void forEachBucket(Rectangle rectangle, IntConsumer action) {
+    int firstColumn = (rectangle.x - gridX) / BUCKET_SIZE;
+    int lastColumn = (rectangle.x + rectangle.width - 1 - gridX) / BUCKET_SIZE;
+    int firstRow = (rectangle.y - gridY) / BUCKET_SIZE;
+    int lastRow = (rectangle.y + rectangle.height - 1 - gridY) / BUCKET_SIZE;
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        action.accept(row * columns + column);
+      }
+    }
+  }
+
+  /*
+   * The horizontal position of the centre of a cell, before the panel offset.
+   */
+  private static int centerX(int q, int r) {
+    int xOffset = 0;
+    if (r >= 1 && r <= 10) {
+      xOffset = -2 * ((r + 1) / 2) * (HORIZONTAL_SPACING / 2);
+    }
+    return ((int) (q * HORIZONTAL_SPACING + (r % 2) * (HORIZONTAL_SPACING / 2.0)) + xOffset)
+            - 300;
+  }
+
+  /*
+   * The vertical position of the centre of a cell, before the panel offset.
+   */
+  private static int centerY(int r) {
+    HexUtils.OffsetCoord offsetCoord = HexUtils.axialToEvenR(new HexUtils.HexCoordinate(0, r));
+    int verticalSpacing = (int) (Math.sqrt(3) * offsetCoord.getRow() * HEXAGON_SIZE);
+    int[] rowAdjustments = {0, 5, 13, 20, 27, 34, 40, 46, 52, 60, 67};
+    if (r >= 1 && r < rowAdjustments.length) {
+      verticalSpacing -= rowAdjustments[r];
+    }
+    return verticalSpacing;
+  }
+
+  /*
+   * The hexagon of a cell with the given centre.
+   */
+  private static Polygon hexagon(int centerX, int centerY) {
+    int[] xPoints = new int[6];
+    int[] yPoints = new int[6];
+    for (int i = 0; i < 6; i++) {
+      xPoints[i] = (int) (centerX + HEXAGON_SIZE * Math.cos((i - 0.5) * Math.PI / 3));
+      yPoints[i] = (int) (centerY + HEXAGON_SIZE * Math.sin((i - 0.5) * Math.PI / 3));
+    }
+    return new Polygon(xPoints, yPoints, 6);
+  }
+
+  /*
+   * The horizontal offset of the board in a panel of the given width.
+   */
+  private static int offsetX(int boardSize, int width) {
+    int offsetX = (width - HORIZONTAL_SPACING * (2 * boardSize - 1) - 250) / 2;
+    return HORIZONTAL_SPACING * (2 * boardSize - 1) + HORIZONTAL_SPACING + offsetX;
+  }
+
+  /*
+   * The vertical offset of the board in a panel of the given height.
+   */
+  private static int offsetY(int boardSize, int height) {
+    int verticalSpacing = (int) (1.5 * 30 * boardSize * Math.sqrt(3));
+    int offsetY = (height - verticalSpacing + 100) / 2;
+    return verticalSpacing - offsetY;
+  }
+}
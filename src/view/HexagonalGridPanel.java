@@ -2,11 +2,15 @@ package view;
 
 import controller.IController;
 import model.Board;
+import model.AiTurnHandler;
 import model.Cell;
 import model.CellState;
+import model.Game;
 import model.HexCoordinate;
+import model.ModelListener;
 import model.ReadOnlyReversiModel;
 import player.GamePlayers;
+import strategies.MoveEvaluation;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -15,35 +19,54 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
+import java.awt.Rectangle;
 import java.awt.Stroke;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import javax.swing.JButton;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 /**
  * Represents a graphical panel for displaying a hexagonal grid for a Reversi game.
  * Extends JPanel and implements MouseListener and KeyListener for user interactions.
+ *
+ * <p>The empty grid is drawn once into an image for each panel size. The panel listens to the
+ * model and only repaints the cells whose discs changed, drawing just the discs, hints and
+ * highlights of the cells in the dirty region over the cached grid.</p>
  */
 
-public class HexagonalGridPanel extends JPanel implements MouseListener, KeyListener, IView {
+public class HexagonalGridPanel extends JPanel
+        implements MouseListener, KeyListener, IView, ModelListener {
+  private static final Stroke OUTLINE = new BasicStroke(2);
+  private static final Font HINT_FONT = new Font("Arial", Font.PLAIN, 12);
+  private static final Font ANALYSIS_FONT = new Font("Arial", Font.PLAIN, 9);
+  private static final int ANALYSIS_DEPTH = 6;
 
   private final ReadOnlyReversiModel model; // Change to ReadonlyReversiModel
   private HexCoordinate selectedCell;
-  private final int hexagonSize = 30;
+  private final int hexagonSize = HexGeometry.HEXAGON_SIZE;
   private final Map<HexCoordinate, Cell> boardMap;
   private HexCoordinate selectedCoordinate;
 
   private HexCoordinate highlightedCoordinate;
 
   private final HintManager hintManager;
+  private final List<IController> controllers = new ArrayList<>();
 
   private boolean hintEnabled = false;
 
+  private HexGeometry geometry; // computed for the current panel size
+  private BufferedImage gridImage; // the empty grid drawn with the geometry
+  private final AnalysisOverlay analysis; // null unless the model is a Game
+
   /**
    * Constructs a HexagonalGridPanel with the provided ReadOnlyReversiModel.
    *
@@ -54,7 +77,10 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     this.model = model;
     this.boardMap = model.getBoardMap();
     this.hintManager = new HintManager(model);
+    this.analysis = model instanceof Game ? new AnalysisOverlay((Game) model, ANALYSIS_DEPTH,
+            SwingUtilities::invokeLater, this::repaintCell) : null;
     initializeUI();
+    model.addModelListener(this);
   }
 
   private void initializeUI() {
@@ -84,6 +110,12 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     add(passButton);
     add(hintButton);
 
+    if (analysis != null) {
+      JButton analyzeButton = new JButton("Analyze");
+      analyzeButton.addActionListener(e -> analysis.setEnabled(!analysis.isEnabled()));
+      add(analyzeButton);
+    }
+
   }
 
   private void handleHint() {
@@ -94,6 +126,9 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
 
 
   private void handlePass() {
+    if (isWaitingForAi()) {
+      return;
+    }
     model.pass();
     if (model.isGameOver()) {
       showGameResult();
@@ -107,6 +142,12 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     int result = JOptionPane.showConfirmDialog(this,
             "Are you sure you want to quit?", "Quit Game", JOptionPane.YES_NO_OPTION);
     if (result == JOptionPane.YES_OPTION) {
+      for (IController controller : controllers) {
+        controller.quitGame();
+      }
+      if (analysis != null) {
+        analysis.shutdown();
+      }
       System.exit(0); // Exit the application
     }
   }
@@ -116,85 +157,165 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
     Graphics2D g2d = (Graphics2D) g;
-
-    int offsetX = calculatePanelWidth(model.getBoardSize());
-    int offsetY = calculatePanelHeight(model.getBoardSize());
-
-    int midpointRow = model.getBoardSize() / 2; // Change to ReadonlyReversiModel
-
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-
-      if (r < midpointRow) {
-        drawHexagon(g2d, coordinate.getQ(), r, offsetX, offsetY,
-                coordinate.equals(highlightedCoordinate));
+    HexGeometry geometry = geometry();
+    g2d.drawImage(gridImage, 0, 0, null);
+
+    // Only the cells in the dirty region are drawn over the cached grid.
+    Rectangle clip = g2d.getClipBounds();
+    boolean hints = hintEnabled && model.getCurrentPlayer() == GamePlayers.Black;
+    for (int i = 0; i < geometry.getCount(); i++) {
+      if (clip == null || clip.intersects(geometry.getBounds(i))) {
+        drawCell(g2d, geometry, i, hints);
       }
     }
+  }
 
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
+  /**
+   * Repaints the cell a disc was placed on.
+   *
+   * @param q     The q-coordinate of the cell.
+   * @param r     The r-coordinate of the cell.
+   * @param state The state of the placed disc.
+   */
+  @Override
+  public void discPlaced(int q, int r, CellState state) {
+    repaintCell(new HexCoordinate(q, r));
+  }
 
-      if (r >= midpointRow) {
-        drawHexagon(g2d, coordinate.getQ(), r, offsetX, offsetY,
-                coordinate.equals(highlightedCoordinate));
-      }
+  /**
+   * Repaints the cells whose discs were flipped.
+   *
+   * @param cells The coordinates of the flipped discs.
+   * @param state The state the discs were flipped to.
+   */
+  @Override
+  public void discsFlipped(List<HexCoordinate> cells, CellState state) {
+    for (HexCoordinate cell : cells) {
+      repaintCell(cell);
     }
+  }
 
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-      int q = coordinate.getQ();
-
-      drawHexagon(g2d, q, r, offsetX, offsetY,
-              coordinate.equals(highlightedCoordinate));
-
-      // Check if the cell is empty and a valid move for the current player
-      if (boardMap.get(coordinate).getState() == CellState.EMPTY
-              && model.isValidMove(q, r, model.getCurrentPlayer()) &&
-              model.getCurrentPlayer() == GamePlayers.Black && hintEnabled) {
-        drawHint(g2d, q, r, offsetX, offsetY);
-      }
-
+  /**
+   * Repaints the whole board if hints are shown, since they depend on the player to move.
+   *
+   * @param player The player to move.
+   */
+  @Override
+  public void turnChanged(GamePlayers player) {
+    if (hintEnabled) {
+      repaint();
     }
+  }
 
+  /*
+   * Returns the geometry of the cells for the current panel size, computing it and drawing
+   * the empty grid again when the panel was resized.
+   */
+  private HexGeometry geometry() {
+    int width = Math.max(getWidth(), 1);
+    int height = Math.max(getHeight(), 1);
+    if (geometry == null || !geometry.fits(model.getBoardSize(), width, height)) {
+      geometry = new HexGeometry(boardMap, model.getBoardSize(), width, height);
+      gridImage = drawGrid(geometry);
+    }
+    return geometry;
+  }
 
-    drawInitialOvalPieces(g2d, offsetX, offsetY);
-
+  /*
+   * Draws the empty hexagons of the board, which only change when the panel is resized.
+   */
+  private BufferedImage drawGrid(HexGeometry geometry) {
+    BufferedImage image = new BufferedImage(geometry.getWidth(), geometry.getHeight(),
+            BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    g2d.setColor(getBackground());
+    g2d.fillRect(0, 0, geometry.getWidth(), geometry.getHeight());
+    g2d.setStroke(OUTLINE);
+    for (int i = 0; i < geometry.getCount(); i++) {
+      Polygon hexagon = geometry.getHexagon(i);
+      g2d.setColor(Color.lightGray);
+      g2d.fillPolygon(hexagon);
+      g2d.setColor(Color.BLACK);
+      g2d.drawPolygon(hexagon);
+    }
+    g2d.dispose();
+    return image;
+  }
 
-    if (highlightedCoordinate != null) {
-      int r = highlightedCoordinate.getR();
-      int centerX = calculateCenterX(0, r) + offsetX;
-      int centerY = calculateCenterY(0, r) + offsetY;
+  /*
+   * Draws what differs from the empty grid in a cell: the highlight, the selection, the hint,
+   * the disc and the analysis.
+   */
+  private void drawCell(Graphics2D g2d, HexGeometry geometry, int index, boolean hints) {
+    HexCoordinate coordinate = geometry.getCoordinate(index);
+    Polygon hexagon = geometry.getHexagon(index);
+    CellState state = geometry.getCell(index).getState();
+
+    if (coordinate.equals(highlightedCoordinate)) {
+      g2d.setColor(Color.CYAN);
+      g2d.fillPolygon(hexagon);
+      g2d.setColor(Color.BLACK);
+      Stroke originalStroke = g2d.getStroke();
+      g2d.setStroke(OUTLINE);
+      g2d.drawPolygon(hexagon);
+      g2d.setStroke(originalStroke);
+    }
 
-      int[] xPoints = calculateHexagonXPoints(centerX);
-      int[] yPoints = calculateHexagonYPoints(centerY);
+    if (coordinate.equals(selectedCoordinate)) {
+      g2d.setColor(Color.CYAN);
+      g2d.fillPolygon(hexagon);
+    }
 
-      g2d.setColor(Color.CYAN); // Semi-transparent blue
-      g2d.fillPolygon(xPoints, yPoints, 6);
+    if (hints && state == CellState.EMPTY
+            && model.isValidMove(coordinate.getQ(), coordinate.getR(), GamePlayers.Black)) {
+      drawHint(g2d, geometry, index);
     }
 
+    if (state == CellState.X || state == CellState.O) {
+      drawOval(g2d, geometry.getCenterX(index), geometry.getCenterY(index),
+              state == CellState.X ? Color.BLACK : Color.WHITE);
+    }
 
+    MoveEvaluation evaluation = analysis == null ? null
+            : analysis.get(coordinate.getQ(), coordinate.getR());
+    if (evaluation != null) {
+      // Shown below the disc: the score for the player to move and the depth searched.
+      String text = AnalysisOverlay.label(evaluation);
+      g2d.setColor(Color.BLUE);
+      g2d.setFont(ANALYSIS_FONT);
+      g2d.drawString(text, geometry.getCenterX(index)
+              - g2d.getFontMetrics().stringWidth(text) / 2, geometry.getCenterY(index) + 22);
+    }
   }
 
-  private void drawHint(Graphics2D g2d, int q, int r, int offsetX, int offsetY) {
-    int centerX = calculateCenterX(q, r) + offsetX;
-    int centerY = calculateCenterY(q, r) + offsetY;
+  /*
+   * Asks for the given cell to be painted again, or the whole panel if it was not laid out yet.
+   */
+  private void repaintCell(HexCoordinate coordinate) {
+    int index = geometry == null ? -1 : geometry.indexOf(coordinate);
+    if (index < 0) {
+      repaint();
+    } else {
+      repaint(geometry.getBounds(index));
+    }
+  }
 
-    int[] xPoints = calculateHexagonXPoints(centerX);
-    int[] yPoints = calculateHexagonYPoints(centerY);
+  private void drawHint(Graphics2D g2d, HexGeometry geometry, int index) {
+    int centerX = geometry.getCenterX(index);
+    int centerY = geometry.getCenterY(index);
 
     g2d.setColor(Color.GREEN); // Set the color to green for hints
-    g2d.setStroke(new BasicStroke(2));
-    g2d.drawPolygon(xPoints, yPoints, 6);
+    g2d.setStroke(OUTLINE);
+    g2d.drawPolygon(geometry.getHexagon(index));
     g2d.setStroke(new BasicStroke(1)); // Reset the stroke
 
-    int flippedCount = hintManager.getFlippedPiecesCount(new HexCoordinate(q, r),
+    int flippedCount = hintManager.getFlippedPiecesCount(geometry.getCoordinate(index),
             model.getCurrentPlayer());
 
     if (flippedCount > 1) {
       // Display the count of flipped pieces on the hexagon
       g2d.setColor(Color.BLACK); // Set the color to black for text
-      Font font = new Font("Arial", Font.PLAIN, 12);
-      g2d.setFont(font);
+      g2d.setFont(HINT_FONT);
 
       String countText = String.valueOf(flippedCount);
       int textX = centerX - g2d.getFontMetrics().stringWidth(countText) / 2;
@@ -204,8 +325,7 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     } else if (flippedCount == 0) {
       // Display zero for invalid moves
       g2d.setColor(Color.RED); // Set the color to red for text
-      Font font = new Font("Arial", Font.PLAIN, 12);
-      g2d.setFont(font);
+      g2d.setFont(HINT_FONT);
 
       String countText = "0";
       int textX = centerX - g2d.getFontMetrics().stringWidth(countText) / 2;
@@ -215,21 +335,6 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     }
   }
 
-
-  private void drawInitialOvalPieces(Graphics2D g2d, int offsetX, int offsetY) {
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int q = coordinate.getQ();
-      int r = coordinate.getR();
-      Cell cell = boardMap.get(coordinate);
-
-      if (cell.getState() == CellState.X || cell.getState() == CellState.O) {
-        int centerX = calculateCenterX(q, r) + offsetX;
-        int centerY = calculateCenterY(q, r) + offsetY;
-        drawOval(g2d, centerX, centerY, cell.getState() == CellState.X ? Color.BLACK : Color.WHITE);
-      }
-    }
-  }
-
   private void drawOval(Graphics2D g2d, int centerX, int centerY, Color color) {
     int ovalSize = hexagonSize - 5; // Adjust oval size as needed
     int ovalX = centerX - ovalSize / 2;
@@ -238,154 +343,6 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     g2d.fillOval(ovalX, ovalY, ovalSize, ovalSize);
   }
 
-  private void drawHexagon(Graphics2D g2d, int q, int r, int offsetX,
-                           int offsetY, boolean highlighted) {
-    Cell cell = boardMap.get(new HexCoordinate(q, r));
-
-    int centerX = calculateCenterX(q, r) + offsetX;
-    int centerY = calculateCenterY(q, r) + offsetY;
-
-    int[] xPoints = calculateHexagonXPoints(centerX);
-    int[] yPoints = calculateHexagonYPoints(centerY);
-
-    if (highlighted) {
-      g2d.setColor(Color.CYAN); // Set the color to cyan when highlighted
-      g2d.fillPolygon(xPoints, yPoints, 6);
-    } else {
-      g2d.setColor(Color.lightGray);
-      g2d.fillPolygon(xPoints, yPoints, 6);
-    }
-
-    g2d.setColor(Color.BLACK);
-
-    Stroke originalStroke = g2d.getStroke();
-    g2d.setStroke(new BasicStroke(2));
-
-    g2d.drawPolygon(xPoints, yPoints, 6);
-
-    g2d.setStroke(originalStroke);
-
-    if (cell.getState() == CellState.X || cell.getState() == CellState.O) {
-      drawOval(g2d, centerX, centerY, cell.getState() == CellState.X ? Color.BLACK : Color.WHITE);
-    }
-
-    if (selectedCoordinate != null && selectedCoordinate.equals(new HexCoordinate(q, r))) {
-      g2d.setColor(Color.CYAN); // Set the color to cyan when highlighted
-      g2d.fillPolygon(xPoints, yPoints, 6);
-    }
-  }
-
-
-  private int calculateCenterX(int q, int r) {
-    int horizontalSpacing = (int) (hexagonSize * 1 * Math.sqrt(3));
-    int xOffset = 0;
-
-    if (r == 1) {
-      xOffset = -2 * (horizontalSpacing / 2);
-    } else if (r == 2) {
-      xOffset = -2 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 3) {
-      xOffset = -4 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 4) {
-      xOffset = -4 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 5) {
-      xOffset = -6 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 6) {
-      xOffset = -6 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 7) {
-      xOffset = -8 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 8) {
-      xOffset = -8 * (horizontalSpacing / 2); // Offset for Y coordinate 2
-    } else if (r == 9) {
-      xOffset = -10 * (horizontalSpacing / 2);
-    } else if (r == 10) {
-      xOffset = -10 * (horizontalSpacing / 2);
-    }
-
-
-    return ((int) (q * horizontalSpacing + (r % 2) * (horizontalSpacing / 2.0)) + xOffset) - 300;
-  }
-
-  private int calculateCenterY(int q, int r) {
-    HexUtils.OffsetCoord offsetCoord = HexUtils.axialToEvenR(new HexUtils.HexCoordinate(q, r));
-    int verticalSpacing = (int) (Math.sqrt(3) * offsetCoord.getRow() * 1 * hexagonSize);
-
-    if (r == 1) {
-      verticalSpacing -= 5; // Adjust for row 1
-    }
-
-    if (r == 2) {
-      verticalSpacing -= 13; // Adjust for row 2
-    }
-
-    if (r == 3) {
-      verticalSpacing -= 20; // Adjust for row 3
-    }
-
-    if (r == 4) {
-      verticalSpacing -= 27; // Adjust for row 4
-    }
-
-    if (r == 5) {
-      verticalSpacing -= 34; // Adjust for row 5
-    }
-
-    if (r == 6) {
-      verticalSpacing -= 40; // Adjust for row 6
-    }
-
-    if (r == 7) {
-      verticalSpacing -= 46; // Adjust for row 7
-    }
-
-    if (r == 8) {
-      verticalSpacing -= 52; // Adjust for row 8
-    }
-    if (r == 9) {
-      verticalSpacing -= 60; // Adjust for row 9
-    }
-    if (r == 10) {
-      verticalSpacing -= 67; // Adjust for row 8
-    }
-
-    return verticalSpacing;
-  }
-
-  private int[] calculateHexagonXPoints(int centerX) {
-    int[] xPoints = new int[6];
-    for (int i = 0; i < 6; i++) {
-      xPoints[i] = (int) (centerX + 30 * Math.cos((i - 0.5) * Math.PI / 3));
-    }
-    return xPoints;
-  }
-
-  private int[] calculateHexagonYPoints(int centerY) {
-    int[] yPoints = new int[6];
-    for (int i = 0; i < 6; i++) {
-      yPoints[i] = (int) (centerY + 30 * Math.sin((i - 0.5) * Math.PI / 3));
-    }
-    return yPoints;
-  }
-
-
-  private int calculatePanelWidth(int boardSize) {
-    int horizontalSpacing = (int) (hexagonSize * 1 * Math.sqrt(3));
-    Dimension panelSize = getSize();
-    int panelWidth = panelSize.width;
-
-    int offsetX = (panelWidth - horizontalSpacing * (2 * boardSize - 1) - 250) / 2;
-    return horizontalSpacing * (2 * boardSize - 1) + horizontalSpacing + offsetX;
-  }
-
-  private int calculatePanelHeight(int boardSize) {
-    int verticalSpacing = (int) (1.5 * 30 * boardSize * Math.sqrt(3));
-    Dimension panelSize = getSize();
-    int panelHeight = panelSize.height;
-
-    int offsetY = (panelHeight - verticalSpacing + 100) / 2;
-    return verticalSpacing - offsetY;
-  }
-
 
   /**
    * Invoked when the mouse button has been clicked (pressed
@@ -395,10 +352,14 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
    */
   @Override
   public void mouseClicked(MouseEvent e) {
+    if (isWaitingForAi()) {
+      return;
+    }
     int mouseX = e.getX();
     int mouseY = e.getY();
 
     HexCoordinate clickedCoordinate = getClickedCoordinate(mouseX, mouseY);
+    HexCoordinate previousSelection = selectedCoordinate;
 
     if (clickedCoordinate != null) {
       if (selectedCoordinate != null && selectedCoordinate.equals(clickedCoordinate)) {
@@ -421,7 +382,30 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
       // Case 4: Clicked outside the boundary of the board, deselect the selected cell
       selectedCoordinate = null;
     }
-    repaint();
+    repaintSelection(previousSelection, selectedCoordinate);
+  }
+
+  /*
+   * Repaints the cells that were and are selected or highlighted.
+   */
+  private void repaintSelection(HexCoordinate previous, HexCoordinate current) {
+    if (previous != null) {
+      repaintCell(previous);
+    }
+    if (current != null && !current.equals(previous)) {
+      repaintCell(current);
+    }
+  }
+
+  /*
+   * Checks whether the human player has to wait for a background AI turn: while the handler
+   * is choosing the move or the AI player is to move. Without a handler the AI player moves
+   * within play, so there is never anything to wait for.
+   */
+  private boolean isWaitingForAi() {
+    AiTurnHandler handler = model.getAiTurnHandler();
+    return handler != null
+            && (handler.isThinking() || model.getCurrentPlayer() == GamePlayers.White);
   }
 
   private boolean isPassButtonClicked(int x, int y) {
@@ -438,8 +422,9 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
   private void handleMove(int q, int r) {
     if (model.isValidMove(q, r, model.getCurrentPlayer())) {
       model.play(q, r);
-      repaint();
-      model.switchPlayer();
+      if (model.getAiTurnHandler() == null) {
+        model.switchPlayer();
+      }
     } else if (!model.isValidMove(q, r, model.getCurrentPlayer()) && model.getCurrentPlayer()
             == GamePlayers.Black) {
       model.setCurrentPlayer(GamePlayers.Black);
@@ -476,25 +461,9 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
 
 
   private HexCoordinate getClickedCoordinate(int mouseX, int mouseY) {
-    int offsetX = calculatePanelWidth(model.getBoardSize());
-    int offsetY = calculatePanelHeight(model.getBoardSize());
-
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-      int centerX = calculateCenterX(coordinate.getQ(), r) + offsetX;
-      int centerY = calculateCenterY(coordinate.getQ(), r) + offsetY;
-
-      int[] xPoints = calculateHexagonXPoints(centerX);
-      int[] yPoints = calculateHexagonYPoints(centerY);
-
-      Polygon hexagon = new Polygon(xPoints, yPoints, 6);
-
-      if (hexagon.contains(mouseX, mouseY)) {
-        return coordinate;
-      }
-    }
-
-    return null;
+    HexGeometry geometry = geometry();
+    int index = geometry.indexAt(mouseX, mouseY);
+    return index < 0 ? null : geometry.getCoordinate(index);
   }
 
 
@@ -531,8 +500,9 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
     HexCoordinate clickedCoordinate = getClickedCoordinate(mouseX, mouseY);
 
     if (clickedCoordinate != null) {
+      HexCoordinate previous = highlightedCoordinate;
       highlightedCoordinate = clickedCoordinate;
-      repaint();
+      repaintSelection(previous, highlightedCoordinate);
     }
 
   }
@@ -544,8 +514,9 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
    */
   @Override
   public void mouseExited(MouseEvent e) {
+    HexCoordinate previous = highlightedCoordinate;
     highlightedCoordinate = null;
-    repaint();
+    repaintSelection(previous, null);
   }
 
 
@@ -572,7 +543,7 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
   public void keyPressed(KeyEvent e) {
     int keyCode = e.getKeyCode();
 
-    if (keyCode == KeyEvent.VK_ENTER) {
+    if (keyCode == KeyEvent.VK_ENTER && !isWaitingForAi()) {
       // Handle Enter key (indicating a move or pass)
       if (selectedCell != null) {
         model.play(selectedCell.getQ(), selectedCell.getR());
@@ -637,8 +608,7 @@ public class HexagonalGridPanel extends JPanel implements MouseListener, KeyList
 
   @Override
   public void addPlayerActionListener(IController iController) {
-    // Empty method implemented so interface does not throw error.
-
+    controllers.add(iController);
   }
 
   @Override
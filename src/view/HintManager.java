@@ -1,5 +1,6 @@
 package view;
 
+import model.Board;
 import model.Cell;
 import model.CellState;
 import model.HexCoordinate;
@@ -7,9 +8,7 @@ import model.ReadOnlyReversiModel;
 import player.GamePlayers;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Represents a hint manager for the game.
@@ -19,10 +18,23 @@ import java.util.stream.Collectors;
  * The hint manager is associated with a game.
  * The hint manager can calculate the number of pieces that would be flipped for a given move.
  * The hint manager can display the valid moves with their corresponding flip counts.
+ * The hint manager never changes the board.
  */
 public class HintManager {
+  private static final int[] DIRECTION_Q = {-1, 1, 0, 0, -1, -1, 1, 1};
+  private static final int[] DIRECTION_R = {0, 0, -1, 1, -1, 1, -1, 1};
+  private static final byte EMPTY = (byte) CellState.EMPTY.ordinal();
+  private static final byte NONE = 3; // no cell at the coordinate
+
   private ReadOnlyReversiModel model;
 
+  // The flip counts of every cell for each player, indexed by q * size + r, and the board and
+  // modification count they were computed for.
+  private final int[][] counts = new int[2][];
+  private final Board[] countedBoard = new Board[2];
+  private final long[] countedModification = new long[2];
+  private byte[] states; // scratch copy of the cell states, reused across positions
+
   /**
    * Constructs a new hint manager for the given game.
    *
@@ -33,101 +45,119 @@ public class HintManager {
   }
 
   /**
-   * Calculates the number of pieces that would be flipped for a given move.
+   * Calculates the number of pieces that would be flipped for a given move. The board is not
+   * changed. The counts of all the moves of the player are computed together the first time one
+   * is asked for, and kept until the board changes.
+   *
    * @param hexCoordinate The hexagonal coordinates of the move.
    * @param currentPlayer The current player.
-   * @return The number of pieces that would be flipped for a given move.
+   * @return The number of pieces that would be flipped for a given move, or 0 if the cell is
+   *         outside the board or not empty.
    */
   public int getFlippedPiecesCount(HexCoordinate hexCoordinate, GamePlayers currentPlayer) {
     int q = hexCoordinate.getQ();
     int r = hexCoordinate.getR();
-    int flippedCount = 0;
+    int size = model.getBoard().getSize();
+    if (q < 0 || q >= size || r < 0 || r >= size) {
+      return 0;
+    }
+    return countsFor(currentPlayer)[q * size + r];
+  }
 
-    CellState currentPlayerState = (currentPlayer == GamePlayers.Black) ? CellState.X : CellState.O;
-    CellState opponentState = (currentPlayer == GamePlayers.Black) ? CellState.O : CellState.X;
-    // Check if the cell is empty and a valid move for the current player
-    if (model.getBoard().isValidCell(q, r)
-            && model.getBoard().getCell(q, r).getState() == CellState.EMPTY) {
+  /*
+   * Returns the flip counts of the player for the current position, counting them again only
+   * if the board changed since they were last counted.
+   */
+  private int[] countsFor(GamePlayers player) {
+    Board board = model.getBoard();
+    int p = player == GamePlayers.Black ? 0 : 1;
+    if (counts[p] == null || countedBoard[p] != board
+            || countedModification[p] != board.getModificationCount()) {
+      countedBoard[p] = board;
+      countedModification[p] = board.getModificationCount();
+      counts[p] = countFlips(board, player, counts[p]);
+    }
+    return counts[p];
+  }
 
-      List<Integer> directionQ = Arrays.asList(-1, 1, 0, 0, -1, -1, 1, 1);
-      List<Integer> directionR = Arrays.asList(0, 0, -1, 1, -1, 1, -1, 1);
-      // Check each direction
-      for (int i = 0; i < directionQ.size(); i++) {
-        flippedCount += getFlipDirection(q, r, directionQ.get(i), directionR.get(i),
-                currentPlayerState, opponentState);
+  /*
+   * Counts the pieces each empty cell would flip for the player in one pass over a copy of the
+   * cell states, reusing the given array if it has the right size.
+   */
+  private int[] countFlips(Board board, GamePlayers player, int[] reuse) {
+    int size = board.getSize();
+    int cellCount = size * size;
+    if (states == null || states.length != cellCount) {
+      states = new byte[cellCount];
+    }
+    int[] result = reuse != null && reuse.length == cellCount ? reuse : new int[cellCount];
+
+    for (int q = 0; q < size; q++) {
+      for (int r = 0; r < size; r++) {
+        Cell cell = board.getCell(q, r);
+        states[q * size + r] = cell == null ? NONE : (byte) cell.getState().ordinal();
       }
+    }
 
-      return flippedCount;
-    } else {
-      // The cell is not empty or not a valid move
-      return 0;
+    byte own = (byte) player.getCellState().ordinal();
+    byte opponent = (byte) (player == GamePlayers.Black ? CellState.O : CellState.X).ordinal();
+    for (int q = 0; q < size; q++) {
+      for (int r = 0; r < size; r++) {
+        int index = q * size + r;
+        result[index] = 0;
+        if (states[index] != EMPTY || !board.isValidCell(q, r)) {
+          continue;
+        }
+        for (int d = 0; d < DIRECTION_Q.length; d++) {
+          result[index] += countDirection(size, q, r, DIRECTION_Q[d], DIRECTION_R[d],
+                  own, opponent);
+        }
+      }
     }
+    return result;
   }
 
-  private int getFlipDirection(int q, int r, int directionQ, int directionR,
-                                CellState currentPlayerState, CellState opponentState) {
-    //list of neighbors
-    List<Cell> neighbors = new ArrayList<>();
-    int nextQ = q + directionQ; //next cell to check
+  /*
+   * Counts the opponent's pieces in a row from the cell in one direction that end with one of
+   * the player's pieces.
+   */
+  private int countDirection(int size, int q, int r, int directionQ, int directionR,
+                             byte own, byte opponent) {
+    int run = 0;
+    int nextQ = q + directionQ;
     int nextR = r + directionR;
-    //check if the next cell is valid
-    while (isValidCell(nextQ, nextR)) {
-      Cell cell = model.getBoard().getCell(nextQ, nextR);
-      //if the next cell is the opponent's state, add it to the list of neighbors
-      if (cell != null && cell.getState() == opponentState) {
-        neighbors.add(cell); //add the cell to the list of neighbors
+    while (nextQ >= 0 && nextQ < size && nextR >= 0 && nextR < size) {
+      byte state = states[nextQ * size + nextR];
+      if (state == opponent) {
+        run++;
         nextQ += directionQ;
         nextR += directionR;
       } else {
-        break;
+        return state == own ? run : 0;
       }
     }
-
-    //if the next cell is the current player's state, flip the pieces
-    if (isValidCell(nextQ, nextR) && model.getBoard().getCell(nextQ, nextR) != null
-            && model.getBoard().getCell(nextQ, nextR).getState() == currentPlayerState) {
-      //flip the pieces
-      for (Cell c : neighbors) {
-        c.setState(currentPlayerState);
-      }
-      return neighbors.size(); // Return the count of flipped pieces
-    } else {
-      return 0;  // The sequence is not valid
-    }
-  }
-
-  private boolean isValidCell(int nextQ, int nextR) {
-    int boardSize = model.getBoard().getSize();
-    return (nextQ >= 0 && nextQ < boardSize && nextR >= 0 && nextR < boardSize);
-  }
-
-
-  private List<Cell> calculateValidMoves() {
-    List<Cell> validMoves = model.getBoard().getValidMoves();
-
-    // Filter the valid moves to only include those that would flip at least two pieces
-
-    validMoves = validMoves.stream()
-            .filter(cell -> getFlippedPiecesCount(cell.getHexCoordinate(),
-                    model.getCurrentPlayer()) >= 2)
-            .collect(Collectors.toList());  // Collect the filtered valid moves into a list
-
-    return validMoves;
+    return 0;
   }
 
-
   /**
    * Displays the valid moves with their corresponding flip counts.
    */
   public void handleHint() {
-    List<Cell> validMoves = calculateValidMoves();
+    GamePlayers player = model.getCurrentPlayer();
+    List<Cell> validMoves = new ArrayList<>();
+    // Only the moves that would flip at least two pieces are shown.
+    for (Cell cell : model.getBoard().getValidMoves()) {
+      if (getFlippedPiecesCount(cell.getHexCoordinate(), player) >= 2) {
+        validMoves.add(cell);
+      }
+    }
 
     if (validMoves.isEmpty()) {
       System.out.println("No valid moves.");
     } else {
       System.out.println("Valid moves with flip counts:");
       for (Cell cell : validMoves) {
-        int flipCount = getFlippedPiecesCount(cell.getHexCoordinate(), model.getCurrentPlayer());
+        int flipCount = getFlippedPiecesCount(cell.getHexCoordinate(), player);
         System.out.println("Move at " + cell.getHexCoordinate() + " flips "
                 + flipCount + " pieces.");
       }
@@ -135,4 +165,3 @@ public class HintManager {
   }
 
 }
-
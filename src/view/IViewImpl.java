@@ -90,6 +90,7 @@ public class IViewImpl extends JFrame implements IView {
 
 
   private void addController(IController iController) {
+    this.hexPanel.addPlayerActionListener(iController);
     if (iController instanceof MouseListener) {
       this.hexPanel.addMouseListener((MouseListener) iController);
     }
@@ -1,19 +1,25 @@
 package view;
 
 import controller.IController;
+import model.AiTurnHandler;
 import model.Board;
 import model.Cell;
 import model.CellState;
+import model.Game;
 import model.HexCoordinate;
+import model.ModelListener;
 import model.ReadOnlyReversiModel;
 import player.GamePlayers;
+import strategies.MoveEvaluation;
 
 import javax.swing.JButton;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
@@ -22,12 +28,23 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Represents a SquareGridPanel for the game.
+ *
+ * <p>The empty grid is drawn once into an image for each panel size, and the discs and hints
+ * are drawn from images rendered once. The panel listens to the model and only repaints the
+ * squares whose discs changed.</p>
  */
-public class SquareGridPanel extends JPanel implements MouseListener, KeyListener, IView {
+public class SquareGridPanel extends JPanel
+        implements MouseListener, KeyListener, IView, ModelListener {
+  private static final Stroke OUTLINE = new BasicStroke(2);
+  private static final Font ANALYSIS_FONT = new Font("Arial", Font.PLAIN, 10);
+  private static final int ANALYSIS_DEPTH = 6;
   private final ReadOnlyReversiModel model; // Change to ReadonlyReversiModel
   private HexCoordinate selectedCell;
   private final int squareSize = 80;
@@ -37,6 +54,16 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
   private HexCoordinate highlightedCoordinate;
 
   private boolean hint = false;
+  private final List<IController> controllers = new ArrayList<>();
+
+  private final Cell[][] cells; // the cells of the board by q and r, null where there is none
+  private final BufferedImage blackSprite = renderSprite(Color.BLACK);
+  private final BufferedImage whiteSprite = renderSprite(Color.WHITE);
+  private final BufferedImage hintSprite = renderSprite(Color.GREEN);
+  private BufferedImage gridImage; // the empty grid for the current panel size
+  private int gridX; // the top left corner of the board in the panel
+  private int gridY;
+  private final AnalysisOverlay analysis; // null unless the model is a Game
 
 
   /**
@@ -47,7 +74,16 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
   public SquareGridPanel(ReadOnlyReversiModel model) {
     this.model = model;
     this.boardMap = model.getBoardMap();
+    int size = model.getBoardSize();
+    this.cells = new Cell[size][size];
+    for (Map.Entry<HexCoordinate, Cell> entry : boardMap.entrySet()) {
+      HexCoordinate coordinate = entry.getKey();
+      cells[coordinate.getQ()][coordinate.getR()] = entry.getValue();
+    }
+    this.analysis = model instanceof Game ? new AnalysisOverlay((Game) model, ANALYSIS_DEPTH,
+            SwingUtilities::invokeLater, this::repaintCell) : null;
     initializeUI();
+    model.addModelListener(this);
   }
 
   private void initializeUI() {
@@ -77,6 +113,12 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
     add(passButton);
     add(hintButton);
 
+    if (analysis != null) {
+      JButton analyzeButton = new JButton("Analyze");
+      analyzeButton.addActionListener(e -> analysis.setEnabled(!analysis.isEnabled()));
+      add(analyzeButton);
+    }
+
   }
 
   private void handleHint() {
@@ -90,7 +132,9 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
   }
 
   private void handlePass() {
-    model.pass();
+    if (!isWaitingForAi()) {
+      model.pass();
+    }
   }
 
   private void showGameResult() {
@@ -114,108 +158,212 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
     int result = JOptionPane.showConfirmDialog(this,
             "Are you sure you want to quit?", "Quit Game", JOptionPane.YES_NO_OPTION);
     if (result == JOptionPane.YES_OPTION) {
+      for (IController controller : controllers) {
+        controller.quitGame();
+      }
+      if (analysis != null) {
+        analysis.shutdown();
+      }
       System.exit(0); // Exit the application
     }
   }
 
+  /**
+   * Repaints the square a disc was placed on.
+   *
+   * @param q     The q-coordinate of the square.
+   * @param r     The r-coordinate of the square.
+   * @param state The state of the placed disc.
+   */
   @Override
-  protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
-    Graphics2D g2d = (Graphics2D) g;
-
-    int offsetX = calculatePanelWidth(model.getBoardSize(), squareSize);
-    int offsetY = calculatePanelHeight(model.getBoardSize());
-
-    int midpointRow = model.getBoardSize() / 2; // Change to ReadonlyReversiModel
-
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
+  public void discPlaced(int q, int r, CellState state) {
+    repaintCell(new HexCoordinate(q, r));
+  }
 
-      if (r < midpointRow) {
-        drawSquare(g2d, coordinate.getQ(), r, offsetX, offsetY,
-                coordinate.equals(highlightedCoordinate));
-      }
+  /**
+   * Repaints the squares whose discs were flipped.
+   *
+   * @param cells The coordinates of the flipped discs.
+   * @param state The state the discs were flipped to.
+   */
+  @Override
+  public void discsFlipped(List<HexCoordinate> cells, CellState state) {
+    for (HexCoordinate cell : cells) {
+      repaintCell(cell);
     }
+  }
 
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
+  /**
+   * Repaints the whole board if hints are shown, since they depend on the player to move.
+   *
+   * @param player The player to move.
+   */
+  @Override
+  public void turnChanged(GamePlayers player) {
+    if (hint) {
+      repaint();
+    }
+  }
 
-      if (r >= midpointRow) {
-        drawSquare(g2d, coordinate.getQ(), r, offsetX, offsetY,
-                coordinate.equals(highlightedCoordinate));
+  @Override
+  protected void paintComponent(Graphics g) {
+    super.paintComponent(g);
+    Graphics2D g2d = (Graphics2D) g;
+    updateLayout();
+    g2d.drawImage(gridImage, 0, 0, null);
+
+    // Only the squares in the dirty region are drawn over the cached grid.
+    Rectangle clip = g2d.getClipBounds();
+    int size = model.getBoardSize();
+    int firstQ = 0;
+    int lastQ = size - 1;
+    int firstR = 0;
+    int lastR = size - 1;
+    if (clip != null) {
+      firstQ = Math.max(firstQ, Math.floorDiv(clip.x - gridX, squareSize));
+      lastQ = Math.min(lastQ, Math.floorDiv(clip.x + clip.width - gridX, squareSize));
+      firstR = Math.max(firstR, Math.floorDiv(clip.y - gridY, squareSize));
+      lastR = Math.min(lastR, Math.floorDiv(clip.y + clip.height - gridY, squareSize));
+    }
+    boolean hints = hint && model.getCurrentPlayer() == GamePlayers.Black;
+    for (int q = firstQ; q <= lastQ; q++) {
+      for (int r = firstR; r <= lastR; r++) {
+        if (cells[q][r] != null) {
+          drawSquare(g2d, q, r, hints);
+        }
       }
     }
+  }
 
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-      int q = coordinate.getQ();
-
-      drawSquare(g2d, q, r, offsetX, offsetY,
-              coordinate.equals(highlightedCoordinate));
-
-      if (boardMap.get(coordinate).getState() == CellState.EMPTY
-              && model.isValidMove(q, r, model.getCurrentPlayer()) &&
-              model.getCurrentPlayer() == GamePlayers.Black && hint) {
-        g2d.setColor(Color.GREEN);
-        drawOval(g2d, calculateCenterX(q, r) + offsetX,
-                calculateCenterY(q, r) + offsetY, Color.GREEN, squareSize);
+  /*
+   * Works out where the board is drawn for the current panel size, and draws the empty grid
+   * again when the panel was resized.
+   */
+  private void updateLayout() {
+    int width = Math.max(getWidth(), 1);
+    int height = Math.max(getHeight(), 1);
+    if (gridImage != null && gridImage.getWidth() == width && gridImage.getHeight() == height) {
+      return;
+    }
+    int size = model.getBoardSize();
+    gridX = calculateCenterX(0, 0) + calculatePanelWidth(size, squareSize) - squareSize / 2;
+    gridY = calculateCenterY(0, 0) + calculatePanelHeight(size) - squareSize / 2;
+
+    gridImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = gridImage.createGraphics();
+    g2d.setColor(getBackground());
+    g2d.fillRect(0, 0, width, height);
+    g2d.setStroke(OUTLINE);
+    for (int q = 0; q < size; q++) {
+      for (int r = 0; r < size; r++) {
+        if (cells[q][r] != null) {
+          int x = gridX + q * squareSize;
+          int y = gridY + r * squareSize;
+          g2d.setColor(Color.lightGray);
+          g2d.fillRect(x, y, squareSize, squareSize);
+          g2d.setColor(Color.BLACK);
+          g2d.drawRect(x, y, squareSize, squareSize);
+        }
       }
-
     }
-    drawInitialOvalPieces(g2d, offsetX, offsetY);
-    if (highlightedCoordinate != null) {
-      int r = highlightedCoordinate.getR();
-      int centerX = calculateCenterX(0, r) + offsetX;
-      int centerY = calculateCenterY(0, r) + offsetY;
-
-      int[] xPoints = calculateHexagonXPoints(centerX);
-      int[] yPoints = calculateHexagonYPoints(centerY);
+    g2d.dispose();
+  }
 
-      int x = centerX - squareSize / 2;
-      int y = centerY - squareSize / 2;
+  /*
+   * Draws what differs from the empty grid in a square: the highlight, the selection, the hint,
+   * the disc and the analysis.
+   */
+  private void drawSquare(Graphics2D g2d, int q, int r, boolean hints) {
+    int x = gridX + q * squareSize;
+    int y = gridY + r * squareSize;
+    CellState state = cells[q][r].getState();
 
-      g2d.setColor(Color.CYAN); // Semi-transparent blue
+    if (isAt(highlightedCoordinate, q, r)) {
+      g2d.setColor(Color.CYAN);
       g2d.fillRect(x, y, squareSize, squareSize);
+      g2d.setColor(Color.BLACK);
+      Stroke originalStroke = g2d.getStroke();
+      g2d.setStroke(OUTLINE);
+      g2d.drawRect(x, y, squareSize, squareSize);
+      g2d.setStroke(originalStroke);
+    }
+    if (isAt(selectedCoordinate, q, r)) {
+      g2d.setColor(Color.CYAN);
+      g2d.fillRect(x, y, squareSize, squareSize);
+    }
+    if (hints && state == CellState.EMPTY && model.isValidMove(q, r, GamePlayers.Black)) {
+      drawSprite(g2d, hintSprite, x, y);
+    }
+    if (state == CellState.X) {
+      drawSprite(g2d, blackSprite, x, y);
+    } else if (state == CellState.O) {
+      drawSprite(g2d, whiteSprite, x, y);
     }
 
-
+    MoveEvaluation evaluation = analysis == null ? null : analysis.get(q, r);
+    if (evaluation != null) {
+      // Shown under the disc: the score for the player to move and the depth searched.
+      g2d.setColor(Color.BLUE);
+      g2d.setFont(ANALYSIS_FONT);
+      g2d.drawString(AnalysisOverlay.label(evaluation), x + 4, y + squareSize - 2);
+    }
   }
 
-  private int[] calculateHexagonYPoints(int centerY) {
-    int[] yPoints = new int[6];
-    yPoints[0] = centerY - squareSize;
-    yPoints[1] = centerY - squareSize / 2;
-    yPoints[2] = centerY;
-    yPoints[3] = centerY + squareSize / 2;
-    yPoints[4] = centerY + squareSize;
-    yPoints[5] = centerY + squareSize / 2;
-    return yPoints;
+  /*
+   * Draws a pre-rendered disc in the square whose top left corner is given.
+   */
+  private void drawSprite(Graphics2D g2d, BufferedImage sprite, int x, int y) {
+    int centerX = x + squareSize / 2;
+    int centerY = y + squareSize / 2;
+    int ovalSize = sprite.getWidth();
+    int ovalX = (centerX + (squareSize - ovalSize) / 2) - 45;
+    int ovalY = (centerY + (squareSize - ovalSize) / 2) - 40;
+    g2d.drawImage(sprite, ovalX, ovalY, null);
   }
 
-  private int[] calculateHexagonXPoints(int centerX) {
-    int[] xPoints = new int[6];
-    xPoints[0] = centerX - squareSize / 2;
-    xPoints[1] = centerX + squareSize / 2;
-    xPoints[2] = centerX + squareSize;
-    xPoints[3] = centerX + squareSize / 2;
-    xPoints[4] = centerX - squareSize / 2;
-    xPoints[5] = centerX - squareSize;
-    return xPoints;
+  /*
+   * Renders a disc of the given colour once, to be drawn as an image afterwards.
+   */
+  private BufferedImage renderSprite(Color color) {
+    int ovalSize = (int) (squareSize * 0.8);
+    BufferedImage sprite = new BufferedImage(ovalSize, ovalSize, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2d = sprite.createGraphics();
+    g2d.setColor(color);
+    g2d.fillOval(0, 0, ovalSize, ovalSize);
+    g2d.dispose();
+    return sprite;
   }
 
-  private void drawHint(Graphics2D g2d, int q, int r, int offsetX, int offsetY) {
-
-    int centerX = calculateCenterX(q, r) + offsetX;
-    int centerY = calculateCenterY(q, r) + offsetY;
-
-    int[] xPoints = calculateHexagonXPoints(centerX);
-    int[] yPoints = calculateHexagonYPoints(centerY);
-
-    drawSquare(g2d, q, r, offsetX, offsetY, false); // Draw the square
-    g2d.setColor(Color.GREEN); // Set the color to green
+  private static boolean isAt(HexCoordinate coordinate, int q, int r) {
+    return coordinate != null && coordinate.getQ() == q && coordinate.getR() == r;
+  }
 
+  /*
+   * Asks for the given square to be painted again, or the whole panel if it was not laid out
+   * yet.
+   */
+  private void repaintCell(HexCoordinate coordinate) {
+    if (gridImage == null) {
+      repaint();
+      return;
+    }
+    int x = gridX + coordinate.getQ() * squareSize;
+    int y = gridY + coordinate.getR() * squareSize;
+    // The outline is drawn 2 pixels wide around the square.
+    repaint(x - 1, y - 1, squareSize + 3, squareSize + 3);
   }
 
+  /*
+   * Repaints the squares that were and are selected or highlighted.
+   */
+  private void repaintSelection(HexCoordinate previous, HexCoordinate current) {
+    if (previous != null) {
+      repaintCell(previous);
+    }
+    if (current != null && !current.equals(previous)) {
+      repaintCell(current);
+    }
+  }
 
   private int calculateCenterY(int i, int r) {
     return (r * squareSize) - 500;
@@ -225,62 +373,6 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
     return (i * squareSize) - 500;
   }
 
-  private void drawInitialOvalPieces(Graphics2D g2d, int offsetX, int offsetY) {
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-      int q = coordinate.getQ();
-
-      if (boardMap.get(coordinate).getState() == CellState.X) {
-        drawOval(g2d, calculateCenterX(q, r) + offsetX,
-                calculateCenterY(q, r) + offsetY, Color.BLACK, squareSize);
-      } else if (boardMap.get(coordinate).getState() == CellState.O) {
-        drawOval(g2d, calculateCenterX(q, r) + offsetX,
-                calculateCenterY(q, r) + offsetY, Color.WHITE, squareSize);
-      }
-    }
-  }
-
-  private void drawOval(Graphics2D g2d, int centerX, int centerY, Color color, int squareSize) {
-    int ovalSize = (int) (squareSize * 0.8);
-    int ovalX = (centerX + (squareSize - ovalSize) / 2) - 45;
-    int ovalY = (centerY + (squareSize - ovalSize) / 2) - 40;
-    g2d.setColor(color);
-    g2d.fillOval(ovalX, ovalY, ovalSize, ovalSize);
-  }
-
-  private void drawSquare(Graphics2D g2d, int q, int r, int offsetX, int offsetY, boolean equals) {
-    Cell cell = boardMap.get(new HexCoordinate(q, r));
-    int centerX = calculateCenterX(q, r) + offsetX;
-    int centerY = calculateCenterY(q, r) + offsetY;
-
-    int x = centerX - squareSize / 2;
-    int y = centerY - squareSize / 2;
-
-    if (equals) {
-      g2d.setColor(Color.CYAN); // Semi-transparent blue
-      g2d.fillRect(x, y, squareSize, squareSize);
-    } else {
-      g2d.setColor(Color.lightGray);
-      g2d.fillRect(x, y, squareSize, squareSize);
-    }
-    g2d.setColor(Color.BLACK);
-
-
-    Stroke originalStroke = g2d.getStroke();
-    g2d.setStroke(new BasicStroke(2));
-    g2d.drawRect(x, y, squareSize, squareSize);
-    g2d.setStroke(originalStroke);
-
-    if (cell.getState() == CellState.X || cell.getState() == CellState.O) {
-      drawOval(g2d, centerX, centerY, cell.getState() == CellState.X ? Color.BLACK : Color.WHITE,
-              squareSize);
-    }
-    if (selectedCoordinate != null && selectedCoordinate.equals(new HexCoordinate(q, r))) {
-      g2d.setColor(Color.CYAN); // Set the color to cyan when highlighted
-      g2d.fillRect(x, y, squareSize, squareSize);
-    }
-  }
-
   private int calculatePanelHeight(int boardSize) {
     return boardSize * squareSize;
   }
@@ -317,7 +409,7 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
   public void keyPressed(KeyEvent e) {
     int keyCode = e.getKeyCode();
 
-    if (keyCode == KeyEvent.VK_ENTER) {
+    if (keyCode == KeyEvent.VK_ENTER && !isWaitingForAi()) {
       // Handle Enter key (indicating a move or pass)
       if (selectedCell != null) {
         model.play(selectedCell.getQ(), selectedCell.getR());
@@ -356,10 +448,14 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
    */
   @Override
   public void mouseClicked(MouseEvent e) {
+    if (isWaitingForAi()) {
+      return;
+    }
     int mouseX = e.getX();
     int mouseY = e.getY();
 
     HexCoordinate clickedCoordinate = getClickedCoordinate(mouseX, mouseY);
+    HexCoordinate previousSelection = selectedCoordinate;
     if (clickedCoordinate != null) {
       if (selectedCoordinate != null && selectedCoordinate.equals(clickedCoordinate)) {
         // Case 1: Clicked on the selected cell again, deselect it
@@ -381,15 +477,16 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
       // Case 4: Clicked outside the boundary of the board, deselect the selected cell
       selectedCoordinate = null;
     }
-    model.switchPlayer();
-    repaint();
+    if (model.getAiTurnHandler() == null) {
+      model.switchPlayer();
+    }
+    repaintSelection(previousSelection, selectedCoordinate);
 
   }
 
   private void handleMove(int q, int r) {
     if (model.isValidMove(q, r, model.getCurrentPlayer())) {
       model.play(q, r);
-      repaint();
     } else if (!model.isValidMove(q, r, model.getCurrentPlayer())
             && model.getCurrentPlayer() == GamePlayers.Black) {
       showMessageDialog("Invalid move. Please select a valid cell.");
@@ -397,6 +494,17 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
     }
   }
 
+  /*
+   * Checks whether the human player has to wait for a background AI turn: while the handler
+   * is choosing the move or the AI player is to move. Without a handler the AI player moves
+   * within play, so there is never anything to wait for.
+   */
+  private boolean isWaitingForAi() {
+    AiTurnHandler handler = model.getAiTurnHandler();
+    return handler != null
+            && (handler.isThinking() || model.getCurrentPlayer() == GamePlayers.White);
+  }
+
   private boolean isPassButtonClicked(int x, int y) {
     int passButtonX = 10; // Adjust the position as needed
     int passButtonY = getHeight() - 40; // Adjust the position as needed
@@ -408,25 +516,14 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
   }
 
   private HexCoordinate getClickedCoordinate(int mouseX, int mouseY) {
-    int offsetX = calculatePanelWidth(model.getBoardSize(), squareSize);
-    int offsetY = calculatePanelHeight(model.getBoardSize());
-
-    for (HexCoordinate coordinate : boardMap.keySet()) {
-      int r = coordinate.getR();
-      int centerX = calculateCenterX(coordinate.getQ(), r) + offsetX;
-      int centerY = calculateCenterY(coordinate.getQ(), r) + offsetY;
-
-      int x = centerX - squareSize / 2;
-      int y = centerY - squareSize / 2;
-
-      Rectangle boundingBox = new Rectangle(x, y, squareSize, squareSize);
-
-      if (boundingBox.contains(mouseX, mouseY)) {
-        return coordinate;
-      }
+    updateLayout();
+    int q = Math.floorDiv(mouseX - gridX, squareSize);
+    int r = Math.floorDiv(mouseY - gridY, squareSize);
+    int size = model.getBoardSize();
+    if (q < 0 || q >= size || r < 0 || r >= size || cells[q][r] == null) {
+      return null;
     }
-
-    return null;
+    return new HexCoordinate(q, r);
   }
 
   /**
@@ -461,8 +558,9 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
     HexCoordinate clickedCoordinate = getClickedCoordinate(mouseX, mouseY);
 
     if (clickedCoordinate != null) {
+      HexCoordinate previous = highlightedCoordinate;
       highlightedCoordinate = clickedCoordinate;
-      repaint();
+      repaintSelection(previous, highlightedCoordinate);
     }
   }
 
@@ -473,8 +571,9 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
    */
   @Override
   public void mouseExited(MouseEvent e) {
+    HexCoordinate previous = highlightedCoordinate;
     highlightedCoordinate = null;
-    repaint();
+    repaintSelection(previous, null);
   }
 
   /**
@@ -517,7 +616,7 @@ public class SquareGridPanel extends JPanel implements MouseListener, KeyListene
    */
   @Override
   public void addPlayerActionListener(IController iController) {
-    //TODO: Implement this method
+    controllers.add(iController);
   }
 
   /**
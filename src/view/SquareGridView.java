@@ -105,6 +105,7 @@ public class SquareGridView extends JFrame implements IView {
   }
 
   private void addController(IController iController) {
+    this.squarePanel.addPlayerActionListener(iController);
     if (iController instanceof MouseListener) {
       this.squarePanel.addMouseListener((MouseListener) iController);
     }
@@ -0,0 +1,175 @@
+package controller;
+
+import model.CellState;
+import model.Game;
+import model.SquareReversiGame;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.CaptureStrategy;
+import strategies.Move;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the AiTurnScheduler class.
+ */
+public class AiTurnSchedulerTest {
+  private final BlockingQueue<Runnable> events = new LinkedBlockingQueue<>();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private SquareReversiGame game;
+  private AiTurnScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    game = new SquareReversiGame();
+    // Waits for the test to release it, then plays like CaptureStrategy.
+    scheduler = new AiTurnScheduler(copy -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new CaptureStrategy().chooseMove(copy);
+    }, events::add);
+    game.setAiTurnHandler(scheduler);
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void testPlayReturnsBeforeAiMoves() throws InterruptedException {
+    playBlack();
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    Assert.assertTrue(scheduler.isThinking());
+    long before = game.getPositionHash();
+
+    release.countDown();
+    Runnable event = events.poll(5, TimeUnit.SECONDS);
+    Assert.assertNotNull(event);
+    Assert.assertEquals(before, game.getPositionHash());
+
+    event.run();
+    Assert.assertFalse(scheduler.isThinking());
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    Assert.assertNotEquals(before, game.getBoard().getHash());
+  }
+
+  @Test
+  public void testMoveListenersAreToldOnTheEventThread() throws InterruptedException {
+    int[] told = new int[1];
+    scheduler.addMoveListener(() -> told[0]++);
+    playBlack();
+    release.countDown();
+    events.poll(5, TimeUnit.SECONDS).run();
+    Assert.assertEquals(1, told[0]);
+  }
+
+  @Test
+  public void testCancelledTurnIsDropped() throws InterruptedException {
+    playBlack();
+    long board = game.getBoard().getHash();
+    scheduler.cancel();
+    Assert.assertFalse(scheduler.isThinking());
+
+    release.countDown();
+    Runnable event = events.poll(5, TimeUnit.SECONDS);
+    if (event != null) {
+      event.run();
+    }
+    Assert.assertEquals(board, game.getBoard().getHash());
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+  }
+
+  @Test
+  public void testMoveIsDroppedWhenTheBoardChanged() throws InterruptedException {
+    playBlack();
+    release.countDown();
+    Runnable event = events.poll(5, TimeUnit.SECONDS);
+
+    Move other = game.getValidMoves().get(0);
+    game.makeMove(other.getQ(), other.getR());
+    long board = game.getBoard().getHash();
+    event.run();
+    Assert.assertEquals(board, game.getBoard().getHash());
+  }
+
+  @Test
+  public void testTurnStartsAgainWhenTheBoardChangedBeforeTheMove()
+          throws InterruptedException {
+    playBlack();
+    release.countDown();
+    Runnable event = events.poll(5, TimeUnit.SECONDS);
+
+    // Changes the board while White is still to move, so the chosen move is stale.
+    game.getBoard().move(0, 0, CellState.X);
+    event.run();
+    Assert.assertTrue(scheduler.isThinking());
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+
+    events.poll(5, TimeUnit.SECONDS).run();
+    Assert.assertFalse(scheduler.isThinking());
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    playBlack();
+    Assert.assertTrue(scheduler.isThinking());
+  }
+
+  @Test
+  public void testAiPassesWhenTheStrategyFails() throws InterruptedException {
+    AiTurnScheduler failing = new AiTurnScheduler(copy -> {
+      throw new IllegalStateException("search failed");
+    }, events::add);
+    game.setAiTurnHandler(failing);
+    try {
+      playBlack();
+      try {
+        events.poll(5, TimeUnit.SECONDS).run();
+        Assert.fail("The failure of the strategy was not reported.");
+      } catch (IllegalStateException e) {
+        Assert.assertEquals("search failed", e.getCause().getMessage());
+      }
+      Assert.assertFalse(failing.isThinking());
+      Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+      playBlack();
+      Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    } finally {
+      failing.shutdown();
+    }
+  }
+
+  @Test
+  public void testShutdownIgnoresLaterTurns() {
+    scheduler.shutdown();
+    playBlack();
+    Assert.assertFalse(scheduler.isThinking());
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+  }
+
+  @Test
+  public void testPlayAiMoveWithoutMovePasses() {
+    Game square = new SquareReversiGame();
+    square.playAiMove(null);
+    Assert.assertEquals(GamePlayers.Black, square.getCurrentPlayer());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlayAiMoveRejectsInvalidMove() {
+    new SquareReversiGame().playAiMove(new Move(0, 0));
+  }
+
+  /*
+   * Plays the first valid move for Black, which hands the turn to the scheduler.
+   */
+  private void playBlack() {
+    Move move = game.getValidMoves().get(0);
+    game.play(move.getQ(), move.getR());
+  }
+}
@@ -1,10 +1,12 @@
 package controller;
 
+import model.AiTurnHandler;
 import model.Board;
 import model.BoardImpl;
 import model.Cell;
 import model.CellState;
 import model.HexCoordinate;
+import model.ModelListener;
 import model.ReadOnlyReversiModel;
 import model.ReversiGame;
 import org.junit.Assert;
@@ -197,6 +199,31 @@ public class ControllerSquareTest {
       // Not needed for testing
     }
 
+    @Override
+    public void addModelListener(ModelListener listener) {
+      // Not needed for testing
+    }
+
+    @Override
+    public void removeModelListener(ModelListener listener) {
+      // Not needed for testing
+    }
+
+    @Override
+    public void setAiTurnHandler(AiTurnHandler handler) {
+      // Not needed for testing
+    }
+
+    @Override
+    public AiTurnHandler getAiTurnHandler() {
+      return null;
+    }
+
+    @Override
+    public void playAiMove(Move move) {
+      // Not needed for testing
+    }
+
     @Override
     public void switchPlayer() {
       // Not needed for testing
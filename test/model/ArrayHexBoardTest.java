@@ -0,0 +1,127 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import strategies.Move;
+
+import java.util.Random;
+
+/**
+ * Tests for the ArrayHexBoard class.
+ */
+public class ArrayHexBoardTest {
+  private ArrayHexBoard board;
+
+  @Before
+  public void setUp() {
+    board = new ArrayHexBoard(6);
+  }
+
+  @Test
+  public void testSameCellsAsBoardImpl() {
+    Board reference = new BoardImpl(6);
+    Assert.assertEquals(reference.getBoardMap().size(), board.cellCount());
+    Assert.assertEquals(3 * 6 * 6 - 3 * 6 + 1, board.cellCount());
+    for (HexCoordinate hex : reference.getBoardMap().keySet()) {
+      Cell cell = board.getCell(hex.getQ(), hex.getR());
+      Assert.assertNotNull(cell);
+      Assert.assertEquals(reference.getCellStateAt(hex), cell.getState());
+    }
+    Assert.assertNull(board.getCell(0, 6));
+    Assert.assertFalse(board.isValidCell(10, 0));
+  }
+
+  @Test
+  public void testSameBoundsAndValidMovesAsBoardImpl() {
+    Board reference = new BoardImpl(6);
+    for (int q = -7; q <= 12; q++) {
+      for (int r = -7; r <= 12; r++) {
+        Assert.assertEquals(reference.isValidCell(q, r), board.isValidCell(q, r));
+      }
+    }
+    Assert.assertEquals(reference.getValidMoves().size(), board.getValidMoves().size());
+    Assert.assertEquals(new ReversiGame(reference).getValidMoves(),
+            new ReversiGame(board).getValidMoves());
+  }
+
+  @Test
+  public void testIndexRoundTrip() {
+    for (int i = 0; i < board.cellCount(); i++) {
+      Assert.assertEquals(i, board.indexOf(board.getQ(i), board.getR(i)));
+    }
+    Assert.assertEquals(-1, board.indexOf(-1, 0));
+  }
+
+  @Test
+  public void testOpeningLegalMoves() {
+    int[] moves = new int[board.cellCount()];
+    int count = board.legalMoves(CellState.X, moves);
+    Assert.assertEquals(6, count);
+    for (int i = 0; i < count; i++) {
+      Assert.assertEquals(1, board.flipCount(moves[i], CellState.X));
+    }
+  }
+
+  @Test
+  public void testPlaceFlipsAlongRay() {
+    // X at (4, 4), O at (5, 4); placing X at (6, 4) closes the run along the q axis.
+    Assert.assertEquals(1, board.place(6, 4, CellState.X));
+    Assert.assertEquals(CellState.X, board.getCell(5, 4).getState());
+    Assert.assertThrows(IllegalArgumentException.class, () -> board.place(6, 4, CellState.O));
+    Assert.assertThrows(IllegalArgumentException.class, () -> board.place(0, 9, CellState.O));
+  }
+
+  @Test
+  public void testCellViewsAndCopy() {
+    Board copy = board.copy();
+    board.getCell(0, 0).setState(CellState.O);
+    Assert.assertEquals(CellState.O, board.getCellStateAt(new HexCoordinate(0, 0)));
+    Assert.assertEquals(CellState.EMPTY, copy.getCell(0, 0).getState());
+    Assert.assertEquals(CellState.X, copy.getCell(4, 4).getState());
+  }
+
+  @Test
+  public void testDiscCountsFollowWrites() {
+    BoardImpl cellBoard = new BoardImpl(6);
+    for (CellState state : CellState.values()) {
+      Assert.assertEquals(cellBoard.getDiscCount(state), board.getDiscCount(state));
+    }
+    board.place(6, 4, CellState.X);
+    board.getCell(0, 0).setState(CellState.O);
+    board.copy().move(0, 1, CellState.X);
+    Assert.assertEquals(5, board.getDiscCount(CellState.X));
+    Assert.assertEquals(3, board.getDiscCount(CellState.O));
+    Assert.assertEquals(board.cellCount() - 8, board.getDiscCount(CellState.EMPTY));
+    Assert.assertEquals(5, board.copy().getDiscCount(CellState.X));
+  }
+
+  @Test
+  public void testReversiGameOnArrayHexBoard() {
+    ReversiGame game = new ReversiGame(new ArrayHexBoard(6));
+    Assert.assertEquals(6, game.getBoardSize());
+    Assert.assertEquals(CellState.X, game.getCellState(4, 4));
+  }
+
+  @Test
+  public void testGameOnArrayHexBoardPlaysLikeOnBoardImpl() {
+    Random random = new Random(23);
+    for (int game = 0; game < 20; game++) {
+      ReversiGame array = new ReversiGame(new ArrayHexBoard(6));
+      ReversiGame cells = new ReversiGame(new BoardImpl(6));
+      int plies = 0;
+      for (; plies < 40 && !cells.getValidMoves().isEmpty(); plies++) {
+        Assert.assertEquals(cells.getValidMoves(), array.getValidMoves());
+        Move move = cells.getValidMoves().get(random.nextInt(cells.getValidMoves().size()));
+        cells.makeMove(move.getQ(), move.getR());
+        array.makeMove(move.getQ(), move.getR());
+        Assert.assertEquals(cells.getPositionHash(), array.getPositionHash());
+      }
+      for (; plies > 0; plies--) {
+        cells.unmakeMove();
+        array.unmakeMove();
+        Assert.assertEquals(cells.getPositionHash(), array.getPositionHash());
+      }
+    }
+  }
+}
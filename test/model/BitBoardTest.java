@@ -0,0 +1,175 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import strategies.Move;
+
+import java.util.Random;
+
+/**
+ * Tests for the BitBoard class.
+ */
+public class BitBoardTest {
+  private BitBoard board;
+
+  @Before
+  public void setUp() {
+    board = new BitBoard();
+  }
+
+  @Test
+  public void testInitialPositionMatchesSquareBoard() {
+    Board square = new SquareBoard(8);
+    Assert.assertEquals(square.getSize(), board.getSize());
+    for (int q = 0; q < 8; q++) {
+      for (int r = 0; r < 8; r++) {
+        Assert.assertEquals(square.getCell(q, r).getState(), board.getCell(q, r).getState());
+      }
+    }
+    Assert.assertEquals(64, board.getBoardMap().size());
+    Assert.assertNull(board.getCell(8, 0));
+    Assert.assertNull(board.getCellStateAt(new HexCoordinate(-1, 3)));
+  }
+
+  @Test
+  public void testInitialLegalMoves() {
+    long expected = bit(4, 2) | bit(5, 3) | bit(2, 4) | bit(3, 5);
+    Assert.assertEquals(expected, board.legalMoves(CellState.X));
+    Assert.assertEquals(4, Long.bitCount(board.legalMoves(CellState.O)));
+  }
+
+  @Test
+  public void testPlaceFlipsOutflankedDisc() {
+    long flipped = board.place(4, 2, CellState.X);
+    Assert.assertEquals(bit(4, 3), flipped);
+    Assert.assertEquals(CellState.X, board.getCell(4, 3).getState());
+    Assert.assertEquals(4, Long.bitCount(board.getBits(CellState.X)));
+    Assert.assertEquals(1, Long.bitCount(board.getBits(CellState.O)));
+    Assert.assertThrows(IllegalArgumentException.class, () -> board.place(4, 2, CellState.O));
+  }
+
+  @Test
+  public void testCellViewsWriteThrough() {
+    Cell cell = board.getCell(0, 0);
+    cell.setState(CellState.O);
+    Assert.assertEquals(CellState.O, board.getCellStateAt(new HexCoordinate(0, 0)));
+    Assert.assertFalse(cell.isEmpty());
+    Assert.assertEquals(bit(0, 0), board.getBits(CellState.O) & bit(0, 0));
+    board.move(0, 0, CellState.EMPTY);
+    Assert.assertTrue(cell.isEmpty());
+  }
+
+  @Test
+  public void testDiscCountsMatchSquareBoard() {
+    SquareBoard cellBoard = new SquareBoard(8);
+    board.place(4, 2, CellState.X);
+    cellBoard.move(4, 2, CellState.X);
+    cellBoard.getCell(4, 3).setState(CellState.X);
+    for (CellState state : CellState.values()) {
+      Assert.assertEquals(cellBoard.getDiscCount(state), board.getDiscCount(state));
+    }
+    Assert.assertEquals(4, board.getDiscCount(CellState.X));
+    Assert.assertEquals(59, board.getDiscCount(CellState.EMPTY));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    Board copy = board.copy();
+    board.place(4, 2, CellState.X);
+    Assert.assertEquals(CellState.EMPTY, copy.getCell(4, 2).getState());
+    Assert.assertEquals(CellState.O, copy.getCell(4, 3).getState());
+  }
+
+  @Test
+  public void testRandomGamesMatchRayWalk() {
+    Random random = new Random(42);
+    for (int game = 0; game < 50; game++) {
+      BitBoard bits = new BitBoard();
+      CellState toMove = CellState.X;
+      int passes = 0;
+      while (passes < 2) {
+        long moves = bits.legalMoves(toMove);
+        if (moves == 0) {
+          passes++;
+        } else {
+          passes = 0;
+          int index = pick(moves, random);
+          int q = index % 8;
+          int r = index / 8;
+          long expected = walkFlips(bits, q, r, toMove);
+          Assert.assertNotEquals(0L, expected);
+          Assert.assertEquals(expected, bits.place(q, r, toMove));
+        }
+        toMove = toMove == CellState.X ? CellState.O : CellState.X;
+      }
+    }
+  }
+
+  @Test
+  public void testSquareReversiGameOnBitBoard() {
+    SquareReversiGame game = new SquareReversiGame(new BitBoard());
+    Assert.assertTrue(game.getBoard() instanceof BitBoard);
+    Assert.assertTrue(game.isValidMove(2, 3, game.getCurrentPlayer()));
+    game.getBoard().move(2, 3, CellState.X);
+    Assert.assertEquals(CellState.X, game.getCellState(2, 3));
+  }
+
+  @Test
+  public void testGameOnBitBoardPlaysLikeOnSquareBoard() {
+    Random random = new Random(21);
+    for (int game = 0; game < 20; game++) {
+      SquareReversiGame bits = new SquareReversiGame(new BitBoard());
+      SquareReversiGame cells = new SquareReversiGame(new SquareBoard(8));
+      int plies = 0;
+      for (; plies < 40 && !cells.getValidMoves().isEmpty(); plies++) {
+        Assert.assertEquals(cells.getValidMoves(), bits.getValidMoves());
+        Move move = cells.getValidMoves().get(random.nextInt(cells.getValidMoves().size()));
+        cells.makeMove(move.getQ(), move.getR());
+        bits.makeMove(move.getQ(), move.getR());
+        Assert.assertEquals(cells.getPositionHash(), bits.getPositionHash());
+      }
+      for (; plies > 0; plies--) {
+        cells.unmakeMove();
+        bits.unmakeMove();
+        Assert.assertEquals(cells.getPositionHash(), bits.getPositionHash());
+      }
+    }
+  }
+
+  private static long bit(int q, int r) {
+    return 1L << BitBoard.index(q, r);
+  }
+
+  private static int pick(long moves, Random random) {
+    int skip = random.nextInt(Long.bitCount(moves));
+    for (int i = 0; i < skip; i++) {
+      moves &= moves - 1;
+    }
+    return Long.numberOfTrailingZeros(moves);
+  }
+
+  private static long walkFlips(Board board, int q, int r, CellState own) {
+    long flipped = 0L;
+    for (int dq = -1; dq <= 1; dq++) {
+      for (int dr = -1; dr <= 1; dr++) {
+        if (dq == 0 && dr == 0) {
+          continue;
+        }
+        long run = 0L;
+        int nq = q + dq;
+        int nr = r + dr;
+        while (board.isValidCell(nq, nr) && board.getCell(nq, nr).getState() != own
+                && !board.getCell(nq, nr).isEmpty()) {
+          run |= bit(nq, nr);
+          nq += dq;
+          nr += dr;
+        }
+        if (board.isValidCell(nq, nr) && board.getCell(nq, nr).getState() == own) {
+          flipped |= run;
+        }
+      }
+    }
+    return flipped;
+  }
+}
@@ -0,0 +1,142 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the snapshot and restore methods of the boards.
+ */
+public class BoardSnapshotTest {
+  private static final CellState[] STATES = {CellState.EMPTY, CellState.X, CellState.O};
+
+  @Test
+  public void testSnapshotsRestoreAnyPosition() {
+    for (Board board : boards()) {
+      Board original = scramble(board.copy(), new Random(7));
+      long[] snapshot = original.snapshot();
+      Assert.assertEquals((original.getBoardMap().size() + 31) / 32, snapshot.length);
+
+      board.restore(snapshot);
+      assertSamePosition(original, board);
+      Assert.assertArrayEquals(snapshot, board.snapshot());
+    }
+  }
+
+  @Test
+  public void testCopiesOfLaterPositionsAreEqualAndIndependent() {
+    for (Board board : boards()) {
+      scramble(board, new Random(11));
+      Board copy = board.copy();
+      assertSamePosition(board, copy);
+
+      Map.Entry<HexCoordinate, Cell> first = board.getBoardMap().entrySet().iterator().next();
+      HexCoordinate coordinate = first.getKey();
+      CellState before = first.getValue().getState();
+      board.move(coordinate.getQ(), coordinate.getR(),
+              before == CellState.X ? CellState.O : CellState.X);
+      Assert.assertEquals(before, copy.getCell(coordinate.getQ(), coordinate.getR()).getState());
+    }
+  }
+
+  @Test
+  public void testSnapshotsMoveBetweenImplementationsOfTheSameShape() {
+    Board square = scramble(new SquareBoard(8), new Random(3));
+    Board bits = new BitBoard();
+    bits.restore(square.snapshot());
+    assertSamePosition(square, bits);
+    Assert.assertArrayEquals(square.snapshot(), bits.snapshot());
+
+    Board hex = scramble(new BoardImpl(6), new Random(5));
+    Board array = new ArrayHexBoard(6);
+    array.restore(hex.snapshot());
+    assertSamePosition(hex, array);
+    Assert.assertArrayEquals(hex.snapshot(), array.snapshot());
+  }
+
+  @Test
+  public void testRestoreCountsItsChanges() {
+    for (Board board : boards()) {
+      long[] opening = board.snapshot();
+      long modifications = board.getModificationCount();
+      board.restore(opening);
+      Assert.assertEquals(modifications, board.getModificationCount());
+
+      Board changed = scramble(board.copy(), new Random(13));
+      board.restore(changed.snapshot());
+      Assert.assertTrue(board.getModificationCount() > modifications);
+    }
+  }
+
+  @Test
+  public void testSnapshotsThatDoNotFitAreRejected() {
+    for (Board board : boards()) {
+      long[] opening = board.snapshot();
+      int cells = board.getBoardMap().size();
+      List<long[]> snapshots = new ArrayList<>();
+      snapshots.add(new long[opening.length + 1]);
+      long[] invalid = opening.clone();
+      invalid[0] |= 3L << 10;
+      snapshots.add(invalid);
+      if (cells % 32 != 0) {
+        long[] pastTheEnd = opening.clone();
+        pastTheEnd[pastTheEnd.length - 1] |= 1L << (cells % 32 * 2);
+        snapshots.add(pastTheEnd);
+      }
+
+      for (long[] snapshot : snapshots) {
+        try {
+          board.restore(snapshot);
+          Assert.fail("Restored a snapshot that does not fit.");
+        } catch (IllegalArgumentException e) {
+          Assert.assertArrayEquals(opening, board.snapshot());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSpreadAndGatherAreInverse() {
+    Random random = new Random(17);
+    for (int i = 0; i < 100; i++) {
+      long bits = random.nextLong() & 0xffffffffL;
+      long spread = PackedCells.spread(bits);
+      Assert.assertEquals(0, spread & 0xaaaaaaaaaaaaaaaaL);
+      Assert.assertEquals(Long.bitCount(bits), Long.bitCount(spread));
+      Assert.assertEquals(bits, PackedCells.gather(spread));
+    }
+  }
+
+  private static List<Board> boards() {
+    List<Board> boards = new ArrayList<>();
+    boards.add(new BoardImpl(6));
+    boards.add(new ArrayHexBoard(6));
+    boards.add(new SquareBoard(8));
+    boards.add(new BitBoard());
+    return boards;
+  }
+
+  /*
+   * Gives every cell a random state.
+   */
+  private static Board scramble(Board board, Random random) {
+    for (HexCoordinate coordinate : board.getBoardMap().keySet()) {
+      board.move(coordinate.getQ(), coordinate.getR(), STATES[random.nextInt(STATES.length)]);
+    }
+    return board;
+  }
+
+  private static void assertSamePosition(Board expected, Board actual) {
+    for (HexCoordinate coordinate : expected.getBoardMap().keySet()) {
+      Assert.assertEquals(expected.getCellStateAt(coordinate), actual.getCellStateAt(coordinate));
+    }
+    Assert.assertEquals(expected.getHash(), actual.getHash());
+    for (CellState state : STATES) {
+      Assert.assertEquals(expected.getDiscCount(state), actual.getDiscCount(state));
+    }
+  }
+}
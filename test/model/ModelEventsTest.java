@@ -0,0 +1,115 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the events games publish to their model listeners.
+ */
+public class ModelEventsTest {
+  private final List<String> received = new ArrayList<>();
+  private final ModelListener recorder = new ModelListener() {
+    @Override
+    public void discPlaced(int q, int r, CellState state) {
+      received.add("placed " + q + "," + r + " " + state);
+    }
+
+    @Override
+    public void discsFlipped(List<HexCoordinate> cells, CellState state) {
+      received.add("flipped " + cells + " " + state);
+    }
+
+    @Override
+    public void passed(GamePlayers player) {
+      received.add("passed " + player);
+    }
+
+    @Override
+    public void turnChanged(GamePlayers player) {
+      received.add("turn " + player);
+    }
+
+    @Override
+    public void gameOver(GamePlayers winner) {
+      received.add("over " + winner);
+    }
+  };
+
+  private SquareReversiGame game;
+
+  @Before
+  public void setUp() {
+    game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> received.add("ai turn"));
+    game.addModelListener(recorder);
+  }
+
+  @Test
+  public void testPlayPublishesPlacedFlippedAndTurn() {
+    // X at (3, 3), O at (4, 3): X on (5, 3) flips (4, 3).
+    game.getBoard().move(5, 4, CellState.X);
+    game.play(5, 3);
+
+    Assert.assertEquals("placed 5,3 X", received.get(0));
+    Assert.assertEquals("flipped [(4, 3)] X", received.get(1));
+    Assert.assertTrue(received.contains("turn White"));
+  }
+
+  @Test
+  public void testSearchMovesAreNotPublished() {
+    Move move = game.getValidMoves().get(0);
+    game.makeMove(move.getQ(), move.getR());
+    game.makePass();
+    game.unmakeMove();
+    game.unmakeMove();
+    game.perft(2);
+    Assert.assertTrue(received.isEmpty());
+  }
+
+  @Test
+  public void testAiMoveAndPlayerChangesArePublished() {
+    game.setCurrentPlayer(GamePlayers.White);
+    Move move = game.getValidMoves().get(0);
+    game.playAiMove(move);
+    Assert.assertEquals("placed " + move.getQ() + "," + move.getR() + " O", received.get(1));
+    Assert.assertEquals("turn Black", received.get(received.size() - 1));
+
+    received.clear();
+    game.switchPlayer();
+    game.setCurrentPlayer(GamePlayers.White);
+    Assert.assertEquals(List.of("turn White"), received);
+  }
+
+  @Test
+  public void testGameOverIsPublishedOnce() {
+    Board board = game.getBoard();
+    for (int q = 0; q < board.getSize(); q++) {
+      for (int r = 0; r < board.getSize(); r++) {
+        board.move(q, r, CellState.EMPTY);
+      }
+    }
+    game.pass();
+    game.pass();
+    Assert.assertEquals(List.of("passed Black", "turn White", "over null", "passed White",
+            "turn Black"), received);
+  }
+
+  @Test
+  public void testAiPassIsPublished() {
+    game.playAiMove(null);
+    Assert.assertEquals(List.of("passed White"), received);
+  }
+
+  @Test
+  public void testRemovedListenerHearsNothing() {
+    game.removeModelListener(recorder);
+    game.pass();
+    Assert.assertTrue(received.isEmpty());
+  }
+}
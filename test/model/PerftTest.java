@@ -0,0 +1,122 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import strategies.Move;
+
+import java.util.List;
+
+/**
+ * Tests for perft on both games and all board implementations.
+ */
+public class PerftTest {
+
+  @Test
+  public void testDepthZeroAndOne() {
+    Game hex = new ReversiGame();
+    Assert.assertEquals(1, hex.perft(0));
+    Assert.assertEquals(hex.getValidMoves().size(), hex.perft(1));
+
+    Game square = new SquareReversiGame();
+    Assert.assertEquals(1, square.perft(0));
+    Assert.assertEquals(square.getValidMoves().size(), square.perft(1));
+  }
+
+  @Test
+  public void testBulkCountingMatchesFullExpansion() {
+    for (int depth = 0; depth <= 3; depth++) {
+      Assert.assertEquals(reference(new ReversiGame(), depth, false),
+              new ReversiGame().perft(depth));
+      Assert.assertEquals(reference(new SquareReversiGame(), depth, false),
+              new SquareReversiGame().perft(depth));
+    }
+  }
+
+  @Test
+  public void testBoardImplementationsAgree() {
+    for (int depth = 1; depth <= 3; depth++) {
+      Assert.assertEquals(new ReversiGame().perft(depth),
+              new ReversiGame(new ArrayHexBoard(6)).perft(depth));
+      Assert.assertEquals(new SquareReversiGame().perft(depth),
+              new SquareReversiGame(new BitBoard()).perft(depth));
+    }
+  }
+
+  @Test
+  public void testParallelMatchesSequential() {
+    Game hex = new ReversiGame(new ArrayHexBoard(6));
+    Game square = new SquareReversiGame(new BitBoard());
+    Assert.assertEquals(hex.perft(3), hex.perft(3, 4));
+    Assert.assertEquals(square.perft(4), square.perft(4, 4));
+    Assert.assertEquals(square.perft(1), square.perft(1, 4));
+  }
+
+  @Test
+  public void testGameIsUnchanged() {
+    Game game = new SquareReversiGame();
+    long hash = game.getPositionHash();
+    game.perft(3);
+    game.perft(3, 2);
+    Assert.assertEquals(hash, game.getPositionHash());
+    Assert.assertEquals(4, game.getBoard().getDiscCount(CellState.X)
+            + game.getBoard().getDiscCount(CellState.O));
+  }
+
+  @Test
+  public void testPassesAndGameEnd() {
+    // On an empty board no cell has a neighbouring disc: both players pass and the game ends,
+    // so every depth counts one leaf.
+    SquareReversiGame game = new SquareReversiGame(new BitBoard());
+    clear(game.getBoard());
+    Assert.assertEquals(1, game.perft(1));
+    Assert.assertEquals(1, game.perft(5));
+
+    // With only a White disc Black must pass, and the pass takes a ply.
+    game.getBoard().move(3, 3, CellState.O);
+    Assert.assertTrue(game.getValidMoves().isEmpty());
+    Assert.assertEquals(1, game.perft(1));
+    game.makePass();
+    long whiteMoves = game.getValidMoves().size();
+    game.unmakeMove();
+    Assert.assertTrue(whiteMoves > 0);
+    Assert.assertEquals(whiteMoves, game.perft(2));
+    Assert.assertEquals(reference(game, 4, false), game.perft(4));
+    Assert.assertEquals(game.perft(4), game.perft(4, 3));
+  }
+
+  /*
+   * Empties every cell of the board.
+   */
+  private static void clear(Board board) {
+    for (int q = 0; q < board.getSize(); q++) {
+      for (int r = 0; r < board.getSize(); r++) {
+        board.move(q, r, CellState.EMPTY);
+      }
+    }
+  }
+
+  /*
+   * Counts leaves by playing every move on a copy, without bulk counting.
+   */
+  private static long reference(Game game, int depth, boolean passed) {
+    if (depth == 0) {
+      return 1;
+    }
+    List<Move> moves = game.getValidMoves();
+    if (moves.isEmpty()) {
+      if (passed) {
+        return 1;
+      }
+      Game copy = game.copy();
+      copy.makePass();
+      return reference(copy, depth - 1, true);
+    }
+    long leaves = 0;
+    for (Move move : moves) {
+      Game copy = game.copy();
+      copy.makeMove(move.getQ(), move.getR());
+      leaves += reference(copy, depth - 1, false);
+    }
+    return leaves;
+  }
+}
@@ -0,0 +1,118 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for makeMove, makePass and unmakeMove on both games.
+ */
+public class UndoStackTest {
+
+  @Test
+  public void testHexGameUnmakesToStart() {
+    makeAndUnmake(new ReversiGame(), new Random(3));
+  }
+
+  @Test
+  public void testSquareGameUnmakesToStart() {
+    makeAndUnmake(new SquareReversiGame(), new Random(3));
+  }
+
+  @Test
+  public void testArrayBoardsUnmakeToStart() {
+    makeAndUnmake(new ReversiGame(new ArrayHexBoard(6)), new Random(5));
+    makeAndUnmake(new SquareReversiGame(new BitBoard()), new Random(5));
+  }
+
+  @Test
+  public void testMakeMoveFlipsAndSwitchesWithoutAi() {
+    SquareReversiGame game = new SquareReversiGame();
+    game.getBoard().move(5, 3, CellState.X);
+    game.makeMove(5, 2);
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    Assert.assertEquals(CellState.X, game.getCellState(5, 2));
+
+    game.unmakeMove();
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    Assert.assertEquals(CellState.EMPTY, game.getCellState(5, 2));
+  }
+
+  @Test
+  public void testUnmakeRestoresFlippedDiscs() {
+    SquareReversiGame game = new SquareReversiGame();
+    // X at (3, 3), O at (4, 3): X on (5, 3) flips (4, 3).
+    game.getBoard().move(5, 4, CellState.X);
+    game.makeMove(5, 3);
+    Assert.assertEquals(CellState.X, game.getCellState(4, 3));
+    game.unmakeMove();
+    Assert.assertEquals(CellState.O, game.getCellState(4, 3));
+    Assert.assertEquals(CellState.EMPTY, game.getCellState(5, 3));
+  }
+
+  @Test
+  public void testMakePassAndErrors() {
+    ReversiGame game = new ReversiGame();
+    game.makePass();
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    game.unmakeMove();
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    Assert.assertThrows(IllegalStateException.class, game::unmakeMove);
+    Assert.assertThrows(IllegalArgumentException.class, () -> game.makeMove(11, 11));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    for (Game game : new Game[] {new ReversiGame(), new SquareReversiGame(),
+        new ReversiGame(new ArrayHexBoard(6)), new SquareReversiGame(new BitBoard())}) {
+      game.makePass();
+      Game copy = game.copy();
+      Assert.assertEquals(snapshot(game), snapshot(copy));
+      Assert.assertEquals(game.getPositionHash(), copy.getPositionHash());
+      Assert.assertEquals(GamePlayers.White, copy.getCurrentPlayer());
+      Assert.assertThrows(IllegalStateException.class, copy::unmakeMove);
+
+      Move move = copy.getValidMoves().get(0);
+      copy.makeMove(move.getQ(), move.getR());
+      Assert.assertNotEquals(game.getPositionHash(), copy.getPositionHash());
+      game.unmakeMove();
+      Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    }
+  }
+
+  private static void makeAndUnmake(Game game, Random random) {
+    Map<HexCoordinate, CellState> start = snapshot(game);
+    List<Move> startMoves = game.getValidMoves();
+    int made = 0;
+    for (int ply = 0; ply < 30; ply++) {
+      List<Move> moves = game.getValidMoves();
+      if (moves.isEmpty() || random.nextInt(10) == 0) {
+        game.makePass();
+      } else {
+        Move move = moves.get(random.nextInt(moves.size()));
+        game.makeMove(move.getQ(), move.getR());
+      }
+      made++;
+    }
+    for (int i = 0; i < made; i++) {
+      game.unmakeMove();
+    }
+    Assert.assertEquals(start, snapshot(game));
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    Assert.assertEquals(startMoves, game.getValidMoves());
+  }
+
+  private static Map<HexCoordinate, CellState> snapshot(Game game) {
+    Map<HexCoordinate, CellState> states = new HashMap<>();
+    for (Map.Entry<HexCoordinate, Cell> entry : game.getBoardMap().entrySet()) {
+      states.put(entry.getKey(), entry.getValue().getState());
+    }
+    return states;
+  }
+}
@@ -0,0 +1,78 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the incrementally maintained valid moves of the games.
+ */
+public class ValidMoveCacheTest {
+
+  @Test
+  public void testHexGameMatchesFullScan() {
+    playAndCompare(new ReversiGame(), new Random(7));
+  }
+
+  @Test
+  public void testSquareGameMatchesFullScan() {
+    playAndCompare(new SquareReversiGame(), new Random(7));
+  }
+
+  @Test
+  public void testSquareGameOnBitBoardMatchesFullScan() {
+    playAndCompare(new SquareReversiGame(new BitBoard()), new Random(11));
+  }
+
+  @Test
+  public void testSnapshotIsSharedUntilChange() {
+    ReversiGame game = new ReversiGame();
+    List<Move> first = game.getValidMoves();
+    Assert.assertSame(first, game.getValidMoves());
+
+    game.play(first.get(0).getQ(), first.get(0).getR());
+    Assert.assertEquals(fullScan(game, game.getCurrentPlayer()), game.getValidMoves());
+    Assert.assertThrows(UnsupportedOperationException.class,
+        () -> game.getValidMoves().add(new Move(0, 0)));
+  }
+
+  @Test
+  public void testDirectBoardWritesAreDetected() {
+    SquareReversiGame game = new SquareReversiGame();
+    game.getValidMoves();
+    game.getBoard().move(0, 0, CellState.X);
+    game.getBoard().getCell(7, 7).setState(CellState.X);
+    Assert.assertEquals(fullScan(game, GamePlayers.Black), game.getValidMoves());
+    Assert.assertTrue(game.getValidMoves().contains(new Move(0, 1)));
+    Assert.assertTrue(game.getValidMoves().contains(new Move(6, 7)));
+  }
+
+  private static void playAndCompare(Game game, Random random) {
+    for (int turn = 0; turn < 20; turn++) {
+      List<Move> moves = game.getValidMoves();
+      Assert.assertEquals(fullScan(game, game.getCurrentPlayer()), moves);
+      if (moves.isEmpty()) {
+        return;
+      }
+      Move move = moves.get(random.nextInt(moves.size()));
+      game.play(move.getQ(), move.getR());
+    }
+  }
+
+  private static List<Move> fullScan(Game game, GamePlayers player) {
+    List<Move> moves = new ArrayList<>();
+    for (int q = 0; q < game.getBoardSize(); q++) {
+      for (int r = 0; r < game.getBoardSize(); r++) {
+        if (game.isValidMove(q, r, player)) {
+          moves.add(new Move(q, r));
+        }
+      }
+    }
+    return moves;
+  }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import strategies.Move;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the Zobrist hashes kept by the boards and games.
+ */
+public class ZobristTest {
+
+  @Test
+  public void testHashesMatchRecomputationDuringPlay() {
+    playAndCheck(new ReversiGame(), new Random(1));
+    playAndCheck(new SquareReversiGame(), new Random(1));
+    playAndCheck(new ReversiGame(new ArrayHexBoard(6)), new Random(2));
+    playAndCheck(new SquareReversiGame(new BitBoard()), new Random(2));
+  }
+
+  @Test
+  public void testArrayBoardsMatchCellBoards() {
+    Assert.assertEquals(new BoardImpl(6).getHash(), new ArrayHexBoard(6).getHash());
+    Assert.assertEquals(new SquareBoard(8).getHash(), new BitBoard().getHash());
+    Assert.assertNotEquals(0L, new BitBoard().getHash());
+  }
+
+  @Test
+  public void testPlaceUpdatesHash() {
+    BitBoard bitBoard = new BitBoard();
+    bitBoard.place(5, 3, CellState.X);
+    Assert.assertEquals(recompute(bitBoard), bitBoard.getHash());
+
+    ArrayHexBoard hexBoard = new ArrayHexBoard(6);
+    hexBoard.place(3, 5, CellState.X);
+    Assert.assertEquals(recompute(hexBoard), hexBoard.getHash());
+  }
+
+  @Test
+  public void testCellViewsAndCopiesKeepHash() {
+    Board board = new BitBoard();
+    board.getCell(0, 0).setState(CellState.O);
+    Assert.assertEquals(recompute(board), board.getHash());
+    Assert.assertEquals(board.getHash(), board.copy().getHash());
+
+    board = new ArrayHexBoard(4);
+    board.getCell(3, 3).setState(CellState.EMPTY);
+    Assert.assertEquals(recompute(board), board.getHash());
+    Assert.assertEquals(board.getHash(), board.copy().getHash());
+  }
+
+  @Test
+  public void testSideToMoveAndUnmake() {
+    SquareReversiGame game = new SquareReversiGame();
+    long start = game.getPositionHash();
+    game.makePass();
+    Assert.assertEquals(start ^ Zobrist.WHITE_TO_MOVE, game.getPositionHash());
+    game.unmakeMove();
+    Assert.assertEquals(start, game.getPositionHash());
+
+    List<Move> moves = game.getValidMoves();
+    game.makeMove(moves.get(0).getQ(), moves.get(0).getR());
+    game.unmakeMove();
+    Assert.assertEquals(start, game.getPositionHash());
+  }
+
+  @Test
+  public void testKeysAreDistinct() {
+    Assert.assertEquals(0L, Zobrist.key(1, 2, CellState.EMPTY));
+    Assert.assertNotEquals(Zobrist.key(1, 2, CellState.X), Zobrist.key(1, 2, CellState.O));
+    Assert.assertNotEquals(Zobrist.key(1, 2, CellState.X), Zobrist.key(2, 1, CellState.X));
+  }
+
+  private static void playAndCheck(Game game, Random random) {
+    for (int turn = 0; turn < 20; turn++) {
+      Assert.assertEquals(recompute(game.getBoard()), game.getBoard().getHash());
+      List<Move> moves = game.getValidMoves();
+      if (moves.isEmpty()) {
+        return;
+      }
+      Move move = moves.get(random.nextInt(moves.size()));
+      game.makeMove(move.getQ(), move.getR());
+    }
+  }
+
+  private static long recompute(Board board) {
+    long hash = 0;
+    for (Map.Entry<HexCoordinate, Cell> entry : board.getBoardMap().entrySet()) {
+      hash ^= Zobrist.key(entry.getKey().getQ(), entry.getKey().getR(),
+              entry.getValue().getState());
+    }
+    return hash;
+  }
+}
@@ -1,11 +1,13 @@
 package player;
 
 import controller.IControllerImpl;
+import model.AiTurnHandler;
 import model.Board;
 import model.Cell;
 import model.CellState;
 import model.Game;
 import model.HexCoordinate;
+import model.ModelListener;
 import model.ReadOnlyReversiModel;
 import org.junit.Before;
 import org.junit.Test;
@@ -155,6 +157,31 @@ public class PlayerTest {
       //TODO: Implement this
     }
 
+    @Override
+    public void addModelListener(ModelListener listener) {
+      // Not needed for testing
+    }
+
+    @Override
+    public void removeModelListener(ModelListener listener) {
+      // Not needed for testing
+    }
+
+    @Override
+    public void setAiTurnHandler(AiTurnHandler handler) {
+      // Not needed for testing
+    }
+
+    @Override
+    public AiTurnHandler getAiTurnHandler() {
+      return null;
+    }
+
+    @Override
+    public void playAiMove(Move move) {
+      // Not needed for testing
+    }
+
     @Override
     public void switchPlayer() {
       //TODO: Implement this
@@ -196,6 +223,41 @@ public class PlayerTest {
     public boolean hasValidMovesForPlayer(GamePlayers currentPlayer) {
       return false;
     }
+
+    @Override
+    public void makeMove(int q, int r) {
+      // Simulate making a move
+    }
+
+    @Override
+    public void makePass() {
+      // Simulate passing
+    }
+
+    @Override
+    public void unmakeMove() {
+      // Simulate taking back a move
+    }
+
+    @Override
+    public long getPositionHash() {
+      return 0;
+    }
+
+    @Override
+    public Game copy() {
+      return this;
+    }
+
+    @Override
+    public long perft(int depth) {
+      return 0;
+    }
+
+    @Override
+    public long perft(int depth, int parallelism) {
+      return 0;
+    }
   }
 
   private class MockStrategy implements ReversiStrategy {
@@ -0,0 +1,196 @@
+package records;
+
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the GameArchive, GameArchiveWriter and ArchivedGame classes.
+ */
+public class GameArchiveTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path path;
+  private final List<Game> games = new ArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    path = folder.getRoot().toPath().resolve("games.rva");
+    try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+      for (int i = 0; i < 20; i++) {
+        Game game = i % 3 == 0 ? new ReversiGame() : new SquareReversiGame();
+        game.setAiTurnHandler(g -> { });
+        writer.start(game);
+        playOut(game, 10 + i, i);
+        writer.finish();
+        games.add(game);
+      }
+    }
+  }
+
+  @Test
+  public void testEveryGameCanBeReachedByItsNumber() throws IOException {
+    // Small segments, so that records lie across the ends of segments.
+    GameArchive archive = new GameArchive(path, 6);
+    Assert.assertEquals(games.size(), archive.size());
+    for (int i = games.size() - 1; i >= 0; i--) {
+      ArchivedGame archived = archive.get(i);
+      Assert.assertEquals(i, archived.getIndex());
+      Assert.assertEquals(games.get(i).getPositionHash(), archived.replay().getPositionHash());
+    }
+  }
+
+  @Test
+  public void testIterationReadsTheRecordsInPlace() throws IOException {
+    GameArchive archive = new GameArchive(path);
+    List<Long> indexes = new ArrayList<>();
+    archive.forEach(archived -> {
+      Game game = games.get((int) archived.getIndex());
+      indexes.add(archived.getIndex());
+      Assert.assertEquals(game instanceof ReversiGame, archived.isHexagonal());
+      Assert.assertEquals(game.getBoard().getBoardMap().size(), archived.getCellCount());
+      Assert.assertEquals(GamePlayers.Black, archived.getFirstPlayer());
+
+      // Replaying the moves by their cell numbers gives the same position.
+      Game replayed = game instanceof ReversiGame ? new ReversiGame() : new SquareReversiGame();
+      HexCoordinate[] order = GameRecord.cellOrder(replayed.getBoard());
+      for (int move = 0; move < archived.getMoveCount(); move++) {
+        replayed.setCurrentPlayer(archived.getMovePlayer(move));
+        if (archived.isPass(move)) {
+          replayed.makePass();
+        } else {
+          HexCoordinate cell = order[archived.getMoveCell(move)];
+          replayed.makeMove(cell.getQ(), cell.getR());
+        }
+      }
+      Assert.assertEquals(game.getPositionHash(), replayed.getPositionHash());
+    });
+    Assert.assertEquals(games.size(), indexes.size());
+    Assert.assertEquals(0L, (long) indexes.get(0));
+    Assert.assertEquals(games.size() - 1L, (long) indexes.get(games.size() - 1));
+  }
+
+  @Test
+  public void testStartingPositionIsReadByCell() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.getBoard().move(0, 0, CellState.O);
+    game.setCurrentPlayer(GamePlayers.White);
+    try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+      writer.start(game);
+      writer.finish();
+    }
+
+    ArchivedGame archived = new GameArchive(path).get(games.size());
+    HexCoordinate[] order = GameRecord.cellOrder(game.getBoard());
+    for (int cell = 0; cell < order.length; cell++) {
+      Assert.assertEquals(game.getBoard().getCell(order[cell].getQ(), order[cell].getR())
+              .getState(), archived.getCellState(cell));
+    }
+    Assert.assertEquals(GamePlayers.White, archived.getFirstPlayer());
+    Assert.assertEquals(0, archived.getMoveCount());
+  }
+
+  @Test
+  public void testAppendedRecordsAreCopiedExactly() throws IOException {
+    GameArchive archive = new GameArchive(path);
+    Path copy = folder.getRoot().toPath().resolve("copy.rva");
+    try (GameArchiveWriter writer = new GameArchiveWriter(copy)) {
+      archive.forEach(archived -> {
+        try {
+          writer.append(archived.toRecord());
+        } catch (IOException e) {
+          throw new AssertionError(e);
+        }
+      });
+    }
+    Assert.assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(copy));
+    Assert.assertArrayEquals(Files.readAllBytes(GameArchive.indexPath(path)),
+            Files.readAllBytes(GameArchive.indexPath(copy)));
+  }
+
+  @Test
+  public void testUnfinishedWritesAreIgnoredAndCutOff() throws IOException {
+    long length = Files.size(path);
+    // Half a record without its entry, and an entry and a half without their record.
+    Files.write(path, new byte[] {'R', 'V', 1}, StandardOpenOption.APPEND);
+    byte[] entries = new byte[12];
+    entries[0] = 0x7f;
+    Files.write(GameArchive.indexPath(path), entries, StandardOpenOption.APPEND);
+
+    Assert.assertEquals(games.size(), new GameArchive(path).size());
+
+    try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+      Assert.assertEquals(length, Files.size(path));
+      Assert.assertEquals(8L * games.size(), Files.size(GameArchive.indexPath(path)));
+      SquareReversiGame game = new SquareReversiGame();
+      game.setAiTurnHandler(g -> { });
+      writer.start(game);
+      playOut(game, 5, 0);
+      writer.finish();
+      games.add(game);
+    }
+    GameArchive archive = new GameArchive(path);
+    Assert.assertEquals(games.size(), archive.size());
+    Assert.assertEquals(games.get(games.size() - 1).getPositionHash(),
+            archive.get(games.size() - 1).replay().getPositionHash());
+  }
+
+  @Test
+  public void testRecordsThatDoNotFitTheirBoardAreRejected() throws IOException {
+    // A header and an end marker without cells, and a record of a board too small to exist.
+    byte[][] records = {
+        {'R', 'V', GameRecord.VERSION, GameRecord.HEX, 6, 0, GameRecord.END},
+        {'R', 'V', GameRecord.VERSION, GameRecord.HEX, 2, 0, 0, 0, GameRecord.END}};
+    for (byte[] record : records) {
+      Path corrupt = folder.newFile().toPath();
+      Files.write(corrupt, record);
+      Files.write(GameArchive.indexPath(corrupt),
+              ByteBuffer.allocate(Long.BYTES).putLong(record.length).array());
+      GameArchive archive = new GameArchive(corrupt);
+
+      Assert.assertThrows(IllegalStateException.class, () -> archive.get(0));
+      Assert.assertThrows(IllegalStateException.class, () -> archive.forEach(game -> { }));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testMissingGameIsRejected() throws IOException {
+    new GameArchive(path).get(games.size());
+  }
+
+  /*
+   * Plays up to the given number of moves through the game's actions, choosing moves by the
+   * seed, Black with play and White with playAiMove, passing when a player has no move.
+   */
+  private static void playOut(Game game, int moves, int seed) {
+    for (int i = 0; i < moves && !game.isGameOver(); i++) {
+      List<Move> valid = game.getValidMoves();
+      Move move = valid.isEmpty() ? null : valid.get((seed + i) % valid.size());
+      if (game.getCurrentPlayer() == GamePlayers.White) {
+        game.playAiMove(move);
+      } else if (move == null) {
+        game.pass();
+      } else {
+        game.play(move.getQ(), move.getR());
+      }
+    }
+  }
+}
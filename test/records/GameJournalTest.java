@@ -0,0 +1,204 @@
+package records;
+
+import model.CellState;
+import model.Game;
+import model.ModelListener;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the GameJournal class.
+ */
+public class GameJournalTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path path;
+
+  @Before
+  public void setUp() {
+    path = folder.getRoot().toPath().resolve("game.journal");
+  }
+
+  @Test
+  public void testUnfinishedGameIsRecovered() throws IOException {
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      game.setAiTurnHandler(g -> { });
+      GameJournal journal = new GameJournal(path);
+      journal.start(game);
+      playTurns(game, 6);
+
+      // The moves are in the file without closing the journal.
+      Game recovered = GameJournal.recover(path);
+      Assert.assertEquals(game.getClass(), recovered.getClass());
+      Assert.assertEquals(game.getPositionHash(), recovered.getPositionHash());
+      Assert.assertEquals(GamePlayers.Black, recovered.getCurrentPlayer());
+      journal.close();
+    }
+  }
+
+  @Test
+  public void testUnansweredTurnIsTakenBack() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    GameJournal journal = new GameJournal(path);
+    journal.start(game);
+    playTurns(game, 2);
+    long hash = game.getPositionHash();
+
+    Move move = game.getValidMoves().get(0);
+    game.play(move.getQ(), move.getR());
+    Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    journal.close();
+
+    Game recovered = GameJournal.recover(path);
+    Assert.assertEquals(hash, recovered.getPositionHash());
+    Assert.assertEquals(GamePlayers.Black, recovered.getCurrentPlayer());
+  }
+
+  @Test
+  public void testResumedGameStartsANewJournal() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    GameJournal journal = new GameJournal(path);
+    journal.start(game);
+    playTurns(game, 3);
+    journal.close();
+
+    Game resumed = GameJournal.recover(path);
+    resumed.setAiTurnHandler(g -> { });
+    GameJournal next = new GameJournal(path);
+    next.start(resumed);
+    long started = Files.size(path);
+    playTurns(resumed, 2);
+    next.close();
+
+    Assert.assertEquals(started + 4, Files.size(path));
+    Assert.assertEquals(resumed.getPositionHash(), GameJournal.recover(path).getPositionHash());
+    Assert.assertFalse(Files.exists(path.resolveSibling("game.journal.new")));
+  }
+
+  @Test
+  public void testResumeTakesUpOnlyGamesOfItsKind() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    GameJournal journal = new GameJournal(path);
+    journal.start(game);
+    playTurns(game, 2);
+    journal.close();
+
+    SquareReversiGame resumed = GameJournal.resume(path, SquareReversiGame.class,
+            SquareReversiGame::new);
+    Assert.assertEquals(game.getPositionHash(), resumed.getPositionHash());
+
+    ReversiGame other = GameJournal.resume(path, ReversiGame.class, ReversiGame::new);
+    Assert.assertEquals(new ReversiGame().getPositionHash(), other.getPositionHash());
+    Assert.assertTrue(GameJournal.recover(path) instanceof ReversiGame);
+  }
+
+  @Test
+  public void testResumeReplacesAJournalThatCannotBeReplayed() throws IOException {
+    new GameJournal(path).start(new SquareReversiGame());
+    byte[] bytes = Files.readAllBytes(path);
+    bytes[GameRecord.HEADER_LENGTH] = (byte) 0xff; // cells in no state
+    Files.write(path, bytes);
+
+    SquareReversiGame game = GameJournal.resume(path, SquareReversiGame.class,
+            SquareReversiGame::new);
+    Assert.assertEquals(new SquareReversiGame().getPositionHash(), game.getPositionHash());
+    Assert.assertEquals(game.getPositionHash(), GameJournal.recover(path).getPositionHash());
+  }
+
+  @Test
+  public void testGameGoesOnWhenTheJournalCannotBeWritten() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    new GameJournal(path, 1).start(game);
+    int[] told = new int[1];
+    game.addModelListener(new ModelListener() {
+      @Override
+      public void discPlaced(int q, int r, CellState state) {
+        told[0]++;
+      }
+    });
+    playTurns(game, 1);
+    long kept = game.getPositionHash();
+
+    // An interrupted thread closes the journal's channel on its next write.
+    Thread.currentThread().interrupt();
+    int before = told[0];
+    try {
+      playTurns(game, 1);
+    } finally {
+      Thread.interrupted();
+    }
+    Assert.assertTrue(told[0] > before);
+    playTurns(game, 1);
+    Assert.assertEquals(kept, GameJournal.recover(path).getPositionHash());
+  }
+
+  @Test
+  public void testFinishedGameIsNotRecovered() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    // A full board but for (0, 0), where X flips (1, 0) and ends the game.
+    for (int q = 0; q < 8; q++) {
+      for (int r = 0; r < 8; r++) {
+        game.getBoard().move(q, r, CellState.X);
+      }
+    }
+    game.getBoard().move(0, 0, CellState.EMPTY);
+    game.getBoard().move(1, 0, CellState.O);
+    GameJournal journal = new GameJournal(path, 1);
+    journal.start(game);
+    game.play(0, 0);
+    Assert.assertTrue(game.isGameOver());
+
+    Assert.assertNull(GameJournal.recover(path));
+    byte[] bytes = Files.readAllBytes(path);
+    Assert.assertEquals(GameRecord.END, bytes[bytes.length - 1]);
+  }
+
+  @Test
+  public void testMissingOrCutOffJournalIsNotRecovered() throws IOException {
+    Assert.assertNull(GameJournal.recover(path));
+
+    new GameJournal(path).start(new SquareReversiGame());
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+    Assert.assertNull(GameJournal.recover(path));
+  }
+
+  /*
+   * Plays whole turns through the game's actions: a move or pass of Black with play or pass,
+   * then one of White with playAiMove.
+   */
+  private static void playTurns(Game game, int turns) {
+    for (int i = 0; i < turns && !game.isGameOver(); i++) {
+      List<Move> valid = game.getValidMoves();
+      if (valid.isEmpty()) {
+        game.pass();
+      } else {
+        Move move = valid.get(valid.size() - 1);
+        game.play(move.getQ(), move.getR());
+      }
+      if (!game.isGameOver()) {
+        valid = game.getValidMoves();
+        game.playAiMove(valid.isEmpty() ? null : valid.get(0));
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package records;
+
+import model.BoardImpl;
+import model.CellState;
+import model.Game;
+import model.ReversiGame;
+import model.SquareBoard;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.Move;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tests for the GameRecord, GameRecordWriter and GameRecordReader classes.
+ */
+public class GameRecordTest {
+
+  @Test
+  public void testRecordedGamesReplayToTheSamePosition() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    Game[] games = {new SquareReversiGame(), new ReversiGame()};
+    for (Game game : games) {
+      game.setAiTurnHandler(g -> { });
+      writer.start(game);
+      playOut(game, 40);
+      writer.finish();
+    }
+
+    GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()));
+    for (Game game : games) {
+      Game replayed = reader.next();
+      Assert.assertEquals(game.getClass(), replayed.getClass());
+      Assert.assertEquals(game.getPositionHash(), replayed.getPositionHash());
+      Assert.assertEquals(game.getCurrentPlayer(), replayed.getCurrentPlayer());
+    }
+    Assert.assertNull(reader.next());
+  }
+
+  @Test
+  public void testRecordStartsFromTheCurrentPosition() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    playOut(game, 6);
+    game.getBoard().move(0, 0, CellState.O);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    writer.start(game);
+    playOut(game, 4);
+    writer.finish();
+
+    GameRecord record = GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+    Assert.assertFalse(record.isHexagonal());
+    Assert.assertEquals(8, record.getBoardSize());
+    Assert.assertEquals(4, record.getMoveCount());
+    Assert.assertEquals(game.getPositionHash(), record.replay().getPositionHash());
+  }
+
+  @Test
+  public void testMovesAndPassesTakeOneByteEach() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    writer.start(game);
+    int header = bytes.size();
+
+    Move move = game.getValidMoves().get(0);
+    game.play(move.getQ(), move.getR());
+    game.playAiMove(null);
+    game.pass();
+    writer.finish();
+
+    // 6 header bytes and 64 cells at 2 bits each.
+    Assert.assertEquals(6 + 16, header);
+    Assert.assertEquals(header + 3 + 1, bytes.size());
+    GameRecord record = GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+    Assert.assertEquals(3, record.getMoveCount());
+    Assert.assertEquals(game.getPositionHash(), record.replay().getPositionHash());
+    Assert.assertEquals(GamePlayers.White, record.replay().getCurrentPlayer());
+  }
+
+  @Test
+  public void testWrittenRecordIsCopiedExactly() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    ReversiGame game = new ReversiGame();
+    game.setAiTurnHandler(g -> { });
+    writer.start(game);
+    playOut(game, 10);
+    writer.finish();
+
+    GameRecord record = GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    record.write(copy);
+    Assert.assertArrayEquals(bytes.toByteArray(), copy.toByteArray());
+  }
+
+  @Test(expected = IOException.class)
+  public void testTruncatedRecordIsRejected() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    SquareReversiGame game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    writer.start(game);
+    playOut(game, 4);
+
+    GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+  }
+
+  @Test
+  public void testCellCountMatchesTheBoards() throws IOException {
+    for (int size = 4; size <= 6; size++) {
+      Assert.assertEquals(new BoardImpl(size).getBoardMap().size(),
+              GameRecord.cellCount(GameRecord.HEX, size));
+    }
+    for (int size = 5; size <= 11; size++) {
+      Assert.assertEquals(new SquareBoard(size).getBoardMap().size(),
+              GameRecord.cellCount(GameRecord.SQUARE, size));
+    }
+  }
+
+  @Test
+  public void testHeaderOfABoardThatCannotBeRecordedIsRejected() {
+    int[][] headers = {{GameRecord.HEX, 2}, {GameRecord.HEX, 3}, {GameRecord.HEX, 7},
+                       {GameRecord.SQUARE, 4}, {GameRecord.SQUARE, 12}};
+    for (int[] header : headers) {
+      byte[] bytes = new byte[GameRecord.HEADER_LENGTH + 64];
+      bytes[0] = GameRecord.MAGIC_R;
+      bytes[1] = GameRecord.MAGIC_V;
+      bytes[2] = GameRecord.VERSION;
+      bytes[3] = (byte) header[0];
+      bytes[4] = (byte) header[1];
+      bytes[bytes.length - 1] = GameRecord.END;
+      try {
+        GameRecord.read(new ByteArrayInputStream(bytes));
+        Assert.fail("Read a record of size " + header[1] + ".");
+      } catch (IOException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testOnlyOneGameIsRecordedAtATime() throws IOException {
+    GameRecordWriter writer = new GameRecordWriter(new ByteArrayOutputStream());
+    writer.start(new SquareReversiGame());
+    writer.start(new SquareReversiGame());
+  }
+
+  /*
+   * Plays up to the given number of moves through the game's actions, Black with play and
+   * White with playAiMove, passing when a player has no move.
+   */
+  private static void playOut(Game game, int moves) {
+    for (int i = 0; i < moves && !game.isGameOver(); i++) {
+      List<Move> valid = game.getValidMoves();
+      Move move = valid.isEmpty() ? null : valid.get(valid.size() / 2);
+      if (game.getCurrentPlayer() == GamePlayers.White) {
+        game.playAiMove(move);
+      } else if (move == null) {
+        game.pass();
+      } else {
+        game.play(move.getQ(), move.getR());
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package strategies;
+
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the AlphaBetaStrategy class.
+ */
+public class AlphaBetaStrategyTest {
+
+  @Test
+  public void testMatchesFullNegamax() {
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      AlphaBetaStrategy strategy = new AlphaBetaStrategy(3, 1);
+      for (int turn = 0; turn < 4; turn++) {
+        Move move = strategy.chooseMove(game);
+        int best = Integer.MIN_VALUE;
+        for (Move candidate : game.getValidMoves()) {
+          best = Math.max(best, valueOf(game, candidate, 2));
+        }
+        Assert.assertEquals(best, valueOf(game, move, 2));
+        game.makeMove(move.getQ(), move.getR());
+      }
+    }
+  }
+
+  @Test
+  public void testChooseMoveLeavesGameUnchanged() {
+    SquareReversiGame game = new SquareReversiGame();
+    Map<HexCoordinate, CellState> before = new HashMap<>();
+    game.getBoardMap().forEach((hex, cell) -> before.put(hex, cell.getState()));
+
+    Move move = new AlphaBetaStrategy(4, 1).chooseMove(game);
+
+    Assert.assertTrue(game.getValidMoves().contains(move));
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    game.getBoardMap().forEach((hex, cell) -> Assert.assertEquals(before.get(hex),
+            cell.getState()));
+  }
+
+  @Test
+  public void testPruningSearchesFewerNodes() {
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(4, 1);
+    strategy.chooseMove(new SquareReversiGame());
+    long full = countNodes(new SquareReversiGame(), 4);
+
+    Assert.assertTrue(strategy.getNodeCount() > 0);
+    Assert.assertTrue(strategy.getNodeCount() < full);
+  }
+
+  @Test
+  public void testInvalidDepth() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new AlphaBetaStrategy(0));
+  }
+
+  /*
+   * The negamax value of the move for the player making it, searched to the given depth
+   * without pruning.
+   */
+  private static int valueOf(Game game, Move move, int depth) {
+    game.makeMove(move.getQ(), move.getR());
+    int value = -negamax(game, depth, false);
+    game.unmakeMove();
+    return value;
+  }
+
+  private static int negamax(Game game, int depth, boolean passed) {
+    List<Move> moves = game.getValidMoves();
+    if (depth == 0 || moves.isEmpty() && passed) {
+      GamePlayers player = game.getCurrentPlayer();
+      GamePlayers opponent = player == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
+      return game.getBoard().getDiscCount(player.getCellState())
+              - game.getBoard().getDiscCount(opponent.getCellState());
+    }
+    if (moves.isEmpty()) {
+      game.makePass();
+      int value = -negamax(game, depth - 1, true);
+      game.unmakeMove();
+      return value;
+    }
+    int best = Integer.MIN_VALUE;
+    for (Move move : moves) {
+      game.makeMove(move.getQ(), move.getR());
+      best = Math.max(best, -negamax(game, depth - 1, false));
+      game.unmakeMove();
+    }
+    return best;
+  }
+
+  private static long countNodes(Game game, int depth) {
+    if (depth == 0) {
+      return 1;
+    }
+    long nodes = 1;
+    for (Move move : game.getValidMoves()) {
+      game.makeMove(move.getQ(), move.getR());
+      nodes += countNodes(game, depth - 1);
+      game.unmakeMove();
+    }
+    return nodes;
+  }
+}
@@ -0,0 +1,70 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the IterativeDeepeningStrategy class.
+ */
+public class IterativeDeepeningStrategyTest {
+
+  @Test
+  public void testStopsAtMaxDepthWithSameMoveAsFixedDepth() {
+    SquareReversiGame game = new SquareReversiGame();
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new AlphaBetaStrategy(4, 1), 60_000, 4);
+
+    Move move = strategy.chooseMove(game);
+
+    Assert.assertEquals(4, strategy.getLastDepth());
+    Assert.assertTrue(strategy.getLastNodeCount() > 0);
+    Assert.assertEquals(new AlphaBetaStrategy(4, 1).chooseMove(game), move);
+  }
+
+  @Test
+  public void testReturnsCompletedMoveWhenBudgetRunsOut() {
+    ReversiGame game = new ReversiGame();
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new AlphaBetaStrategy(), 50);
+
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(game);
+    long millis = (System.nanoTime() - start) / 1_000_000L;
+
+    Assert.assertTrue(game.getValidMoves().contains(move));
+    Assert.assertTrue(strategy.getLastDepth() >= 1);
+    Assert.assertTrue(strategy.getLastDepth() < 64);
+    Assert.assertTrue("took " + millis + " ms", millis < 2_000);
+    Assert.assertTrue(strategy.getLastNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void testAbandonedSearchLeavesGameUnchanged() {
+    Game game = new SquareReversiGame();
+    long hash = game.getPositionHash();
+    AlphaBetaStrategy search = new AlphaBetaStrategy(1, 1);
+
+    Assert.assertNull(search.chooseMove(game, 12, System.nanoTime()));
+    Assert.assertEquals(hash, game.getPositionHash());
+    Assert.assertNotNull(search.chooseMove(game, 2, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testWrapsMinimax() {
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new MinimaxStrategy(), 60_000, 2);
+    Assert.assertNotNull(strategy.chooseMove(new SquareReversiGame()));
+    Assert.assertEquals(2, strategy.getLastDepth());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new IterativeDeepeningStrategy(null, 10));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new IterativeDeepeningStrategy(new AlphaBetaStrategy(), 0));
+  }
+}
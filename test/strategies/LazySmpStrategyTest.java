@@ -0,0 +1,73 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the LazySmpStrategy class.
+ */
+public class LazySmpStrategyTest {
+
+  @Test
+  public void testChoosesValidMoveAndLeavesGameUnchanged() {
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      LazySmpStrategy strategy = new LazySmpStrategy(4, 4, 4);
+      for (int turn = 0; turn < 3; turn++) {
+        long hash = game.getPositionHash();
+        Move move = strategy.chooseMove(game);
+        Assert.assertEquals(hash, game.getPositionHash());
+        Assert.assertTrue(game.getValidMoves().contains(move));
+        game.makeMove(move.getQ(), move.getR());
+      }
+      Assert.assertTrue(strategy.getTranspositionTable().getHits() > 0);
+      strategy.shutdown();
+    }
+  }
+
+  @Test
+  public void testSingleThreadMatchesAlphaBeta() {
+    LazySmpStrategy strategy = new LazySmpStrategy(4, 1, 1);
+    Game game = new SquareReversiGame();
+    Assert.assertEquals(new AlphaBetaStrategy(4, 1).chooseMove(game), strategy.chooseMove(game));
+  }
+
+  @Test
+  public void testHelpersAddNodesAndStopWithDeadline() {
+    LazySmpStrategy strategy = new LazySmpStrategy(1, 3, 4);
+    IterativeDeepeningStrategy deepening = new IterativeDeepeningStrategy(strategy, 100);
+    Game game = new SquareReversiGame();
+
+    long start = System.nanoTime();
+    Assert.assertNotNull(deepening.chooseMove(game));
+    Assert.assertTrue((System.nanoTime() - start) / 1_000_000L < 2_000);
+    Assert.assertTrue(strategy.getNodeCount() > 0);
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testHelpersStopWhenTheMainSearchFails() throws InterruptedException {
+    LazySmpStrategy strategy = new LazySmpStrategy(4, 3, 4);
+    // Fails in the main search only: the helpers search copies, which are plain games.
+    Game game = new SquareReversiGame() {
+      @Override
+      public void makeMove(int q, int r) {
+        throw new IllegalStateException("main search failed");
+      }
+    };
+
+    Assert.assertThrows(IllegalStateException.class, () -> strategy.chooseMove(game));
+    long nodes = strategy.getNodeCount();
+    Thread.sleep(100);
+    Assert.assertEquals(nodes, strategy.getNodeCount());
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LazySmpStrategy(0, 2, 1));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LazySmpStrategy(3, 0, 1));
+  }
+}
@@ -5,13 +5,19 @@ package strategies;
 import model.Board;
 import model.BoardImpl;
 import model.CellState;
+import model.HexCoordinate;
 import model.Mock;
+import model.ReversiGame;
+import model.SquareReversiGame;
 import org.junit.Assert;
 import org.junit.Test;
+import player.GamePlayers;
 
 import java.util.ArrayList;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -27,6 +33,33 @@ public class MinimaxStrategyTest {
     Assert.assertNotNull(selectedMove);
   }
 
+  @Test
+  public void testChooseMoveLeavesGameUnchanged() {
+    ReversiGame game = new ReversiGame();
+    Map<HexCoordinate, CellState> before = new HashMap<>();
+    game.getBoardMap().forEach((hex, cell) -> before.put(hex, cell.getState()));
+
+    Move selectedMove = new MinimaxStrategy().chooseMove(game);
+
+    Assert.assertTrue(game.getValidMoves().contains(selectedMove));
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+    game.getBoardMap().forEach((hex, cell) -> Assert.assertEquals(before.get(hex),
+            cell.getState()));
+  }
+
+  @Test
+  public void testTranspositionTableIsReused() {
+    SquareReversiGame game = new SquareReversiGame();
+    MinimaxStrategy minimaxStrategy = new MinimaxStrategy(3, 1);
+
+    Move first = minimaxStrategy.chooseMove(game);
+    long hits = minimaxStrategy.getTranspositionTable().getHits();
+    Move second = minimaxStrategy.chooseMove(game);
+
+    Assert.assertEquals(first, second);
+    Assert.assertTrue(minimaxStrategy.getTranspositionTable().getHits() > hits);
+  }
+
   private Board createBoardWithState() {
     Board board = new BoardImpl(8);
     board.setState(3, 2, CellState.X);
@@ -0,0 +1,94 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the MoveAnalyzer class.
+ */
+public class MoveAnalyzerTest {
+
+  @Test
+  public void testEveryMoveGetsItsExactScoreAtEveryDepth() {
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      List<MoveEvaluation> evaluations = new ArrayList<>();
+      int depths = new MoveAnalyzer(3).analyze(game, evaluations::add);
+
+      Assert.assertEquals(3, depths);
+      Assert.assertEquals(3 * game.getValidMoves().size(), evaluations.size());
+      for (MoveEvaluation evaluation : evaluations) {
+        Assert.assertEquals(valueOf(game, evaluation.getMove(), evaluation.getDepth() - 1),
+                evaluation.getScore());
+      }
+    }
+  }
+
+  @Test
+  public void testEvaluationsDeepenInOrderAndLeaveTheGameUnchanged() {
+    SquareReversiGame game = new SquareReversiGame();
+    long hash = game.getPositionHash();
+    List<Integer> depths = new ArrayList<>();
+    new MoveAnalyzer(4).analyze(game, evaluation -> depths.add(evaluation.getDepth()));
+
+    for (int i = 1; i < depths.size(); i++) {
+      Assert.assertTrue(depths.get(i - 1) <= depths.get(i));
+    }
+    Assert.assertEquals(4, (int) depths.get(depths.size() - 1));
+    Assert.assertEquals(hash, game.getPositionHash());
+    Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+  }
+
+  @Test
+  public void testStopEndsTheAnalysis() {
+    SquareReversiGame game = new SquareReversiGame();
+    MoveAnalyzer analyzer = new MoveAnalyzer(2);
+    List<MoveEvaluation> evaluations = new ArrayList<>();
+    int depths = analyzer.analyze(game, evaluation -> {
+      evaluations.add(evaluation);
+      analyzer.stop();
+    });
+
+    Assert.assertEquals(0, depths);
+    Assert.assertEquals(1, evaluations.size());
+
+    // A later analysis runs normally.
+    Assert.assertEquals(2, analyzer.analyze(new SquareReversiGame(), evaluation -> { }));
+  }
+
+  private static int valueOf(Game game, Move move, int depth) {
+    game.makeMove(move.getQ(), move.getR());
+    int value = -negamax(game, depth, false);
+    game.unmakeMove();
+    return value;
+  }
+
+  private static int negamax(Game game, int depth, boolean passed) {
+    List<Move> moves = game.getValidMoves();
+    if (depth == 0 || moves.isEmpty() && passed) {
+      GamePlayers player = game.getCurrentPlayer();
+      GamePlayers opponent = player == GamePlayers.Black ? GamePlayers.White : GamePlayers.Black;
+      return game.getBoard().getDiscCount(player.getCellState())
+              - game.getBoard().getDiscCount(opponent.getCellState());
+    }
+    if (moves.isEmpty()) {
+      game.makePass();
+      int value = -negamax(game, depth - 1, true);
+      game.unmakeMove();
+      return value;
+    }
+    int best = Integer.MIN_VALUE;
+    for (Move move : moves) {
+      game.makeMove(move.getQ(), move.getR());
+      best = Math.max(best, -negamax(game, depth - 1, false));
+      game.unmakeMove();
+    }
+    return best;
+  }
+}
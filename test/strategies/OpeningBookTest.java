@@ -0,0 +1,140 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import player.AIPlayer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the OpeningBook, OpeningBookBuilder and OpeningBookStrategy classes.
+ */
+public class OpeningBookTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testEveryPositionWithinThePliesIsInTheBook() throws IOException {
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      int plies = game instanceof ReversiGame ? 3 : 5;
+      OpeningBook book = build(game, plies);
+      CaptureStrategy capture = new CaptureStrategy();
+      Random random = new Random(3);
+
+      for (int walk = 0; walk < 20; walk++) {
+        Game position = game.copy();
+        for (int ply = 0; ply < plies; ply++) {
+          List<Move> valid = position.getValidMoves();
+          Assert.assertEquals(capture.chooseMove(position), book.lookup(position));
+          Move move = valid.get(random.nextInt(valid.size()));
+          position.makeMove(move.getQ(), move.getR());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testBuildingLeavesTheGameAsItWas() {
+    SquareReversiGame game = new SquareReversiGame();
+    long hash = game.getPositionHash();
+    OpeningBookBuilder builder = new OpeningBookBuilder(new CaptureStrategy(), 2);
+    Assert.assertEquals(1 + game.getValidMoves().size(), builder.add(game));
+    Assert.assertEquals(hash, game.getPositionHash());
+
+    builder = new OpeningBookBuilder(new CaptureStrategy(), 5);
+    int added = builder.add(game);
+    Assert.assertEquals(hash, game.getPositionHash());
+    Assert.assertEquals(added, builder.size());
+    Assert.assertEquals(0, builder.add(game));
+  }
+
+  @Test
+  public void testStrategyOnlySearchesOutOfTheBook() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    OpeningBook book = build(game, 2);
+    int[] searches = new int[1];
+    ReversiStrategy capture = new CaptureStrategy();
+    OpeningBookStrategy strategy = new OpeningBookStrategy(book, g -> {
+      searches[0]++;
+      return capture.chooseMove(g);
+    });
+
+    for (int ply = 0; ply < 4; ply++) {
+      Move move = strategy.chooseMove(game);
+      Assert.assertEquals(capture.chooseMove(game), move);
+      Assert.assertEquals(Math.max(0, ply - 1), searches[0]);
+      game.makeMove(move.getQ(), move.getR());
+    }
+  }
+
+  @Test
+  public void testBookOfAnotherBoardIsNotUsed() throws IOException {
+    OpeningBook book = build(new SquareReversiGame(), 3);
+    Assert.assertFalse(book.isHexagonal());
+    Assert.assertEquals(8, book.getBoardSize());
+    Assert.assertNull(book.lookup(new ReversiGame()));
+  }
+
+  @Test
+  public void testAiPlayerConsultsTheBook() throws IOException {
+    SquareReversiGame game = new SquareReversiGame();
+    ReversiStrategy search = new CaptureStrategy();
+    AIPlayer player = new AIPlayer(game, search, build(game, 2));
+
+    Assert.assertTrue(player.getStrategy() instanceof OpeningBookStrategy);
+    Assert.assertSame(search, ((OpeningBookStrategy) player.getStrategy()).getSearch());
+  }
+
+  @Test
+  public void testFilesThatAreNotBooksAreRejected() throws IOException {
+    build(new SquareReversiGame(), 2);
+    Path path = folder.getRoot().toPath().resolve("opening.book");
+    byte[] bytes = Files.readAllBytes(path);
+
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+    assertRejected(path);
+    bytes[0] = 'X';
+    Files.write(path, bytes);
+    assertRejected(path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBuilderRejectsAnotherBoard() {
+    OpeningBookBuilder builder = new OpeningBookBuilder(new CaptureStrategy(), 1);
+    builder.add(new SquareReversiGame());
+    builder.add(new ReversiGame());
+  }
+
+  /*
+   * Builds a book of the capture strategy from the position of the game and opens it.
+   */
+  private OpeningBook build(Game game, int plies) throws IOException {
+    OpeningBookBuilder builder = new OpeningBookBuilder(new CaptureStrategy(), plies);
+    builder.add(game);
+    Path path = folder.getRoot().toPath().resolve("opening.book");
+    builder.write(path);
+
+    OpeningBook book = new OpeningBook(path);
+    Assert.assertEquals(builder.size(), book.size());
+    return book;
+  }
+
+  private static void assertRejected(Path path) {
+    try {
+      new OpeningBook(path);
+      Assert.fail("Opened a file that is not a book.");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+}
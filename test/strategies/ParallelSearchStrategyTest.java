@@ -0,0 +1,90 @@
+package strategies;
+
+import model.Game;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the ParallelSearchStrategy class.
+ */
+public class ParallelSearchStrategyTest {
+
+  @Test
+  public void testFindsSameScoreAsSequentialSearch() {
+    // A fresh strategy per move: tables kept from earlier moves hold deeper results, which
+    // may legitimately change the scores of a fixed-depth search.
+    for (Game game : new Game[] {new SquareReversiGame(), new ReversiGame()}) {
+      for (int turn = 0; turn < 3; turn++) {
+        ParallelSearchStrategy parallel = new ParallelSearchStrategy(4, 4, false);
+        Move move = parallel.chooseMove(game);
+        parallel.shutdown();
+        Assert.assertEquals(bestScore(game, 4), scoreOf(game, move, 4));
+        game.makeMove(move.getQ(), move.getR());
+      }
+    }
+  }
+
+  @Test
+  public void testDeterministicModeRepeatsMoves() {
+    ParallelSearchStrategy first = new ParallelSearchStrategy(4, 4, true);
+    ParallelSearchStrategy second = new ParallelSearchStrategy(4, 3, true);
+    Game game = new SquareReversiGame();
+    for (int turn = 0; turn < 4; turn++) {
+      Move move = first.chooseMove(game);
+      Assert.assertEquals(move, second.chooseMove(game));
+      game.makeMove(move.getQ(), move.getR());
+    }
+    first.shutdown();
+    second.shutdown();
+  }
+
+  @Test
+  public void testGameIsOnlyRead() {
+    Game game = new SquareReversiGame();
+    long hash = game.getPositionHash();
+    ParallelSearchStrategy parallel = new ParallelSearchStrategy(3, 2, false);
+
+    Assert.assertTrue(game.getValidMoves().contains(parallel.chooseMove(game)));
+    Assert.assertEquals(hash, game.getPositionHash());
+    Assert.assertTrue(parallel.getNodeCount() > 0);
+    parallel.shutdown();
+  }
+
+  @Test
+  public void testWorksUnderIterativeDeepening() {
+    ParallelSearchStrategy parallel = new ParallelSearchStrategy(1, 2, false);
+    IterativeDeepeningStrategy strategy = new IterativeDeepeningStrategy(parallel, 100);
+    Game game = new ReversiGame();
+    Assert.assertTrue(game.getValidMoves().contains(strategy.chooseMove(game)));
+    parallel.shutdown();
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelSearchStrategy(0, 2, false));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelSearchStrategy(3, 0, false));
+  }
+
+  private static int bestScore(Game game, int depth) {
+    int best = Integer.MIN_VALUE;
+    for (Move move : game.getValidMoves()) {
+      best = Math.max(best, scoreOf(game, move, depth));
+    }
+    return best;
+  }
+
+  /*
+   * The score of the move for the player making it, from a fresh sequential search.
+   */
+  private static int scoreOf(Game game, Move move, int depth) {
+    game.makeMove(move.getQ(), move.getR());
+    int score = -new AlphaBetaStrategy(1, 1).searchPosition(game, depth - 1,
+            -AlphaBetaStrategy.INFINITY, AlphaBetaStrategy.INFINITY, Long.MAX_VALUE);
+    game.unmakeMove();
+    return score;
+  }
+}
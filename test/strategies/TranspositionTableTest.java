@@ -0,0 +1,110 @@
+package strategies;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the TranspositionTable class.
+ */
+public class TranspositionTableTest {
+
+  @Test
+  public void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(1);
+    table.store(42L, 5, -17, TranspositionTable.LOWER_BOUND, 3, 9);
+
+    long entry = table.probe(42L);
+    Assert.assertNotEquals(TranspositionTable.MISS, entry);
+    Assert.assertEquals(-17, TranspositionTable.score(entry));
+    Assert.assertEquals(5, TranspositionTable.depth(entry));
+    Assert.assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+    Assert.assertEquals(3, TranspositionTable.moveQ(entry));
+    Assert.assertEquals(9, TranspositionTable.moveR(entry));
+    Assert.assertEquals(1, table.getHits());
+  }
+
+  @Test
+  public void testMissingMove() {
+    TranspositionTable table = new TranspositionTable(1);
+    table.store(7L, 0, 0, TranspositionTable.EXACT, -1, -1);
+    long entry = table.probe(7L);
+    Assert.assertNotEquals(TranspositionTable.MISS, entry);
+    Assert.assertEquals(-1, TranspositionTable.moveQ(entry));
+    Assert.assertEquals(-1, TranspositionTable.moveR(entry));
+  }
+
+  @Test
+  public void testCapacityIsPowerOfTwoWithinBudget() {
+    TranspositionTable table = new TranspositionTable(3);
+    int capacity = table.capacity();
+    Assert.assertEquals(Integer.bitCount(capacity), 1);
+    Assert.assertTrue((long) capacity * 2 * Long.BYTES <= 3L * 1024 * 1024);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+  }
+
+  @Test
+  public void testDepthPreferredAndAlwaysReplace() {
+    TranspositionTable table = new TranspositionTable(1);
+    long buckets = table.capacity() / 2;
+    long deep = 1L;
+    long shallow = deep + buckets;
+    long other = deep + 2 * buckets;
+
+    table.store(deep, 8, 1, TranspositionTable.EXACT, -1, -1);
+    table.store(shallow, 2, 2, TranspositionTable.EXACT, -1, -1);
+    table.store(other, 3, 3, TranspositionTable.EXACT, -1, -1);
+
+    // The deep entry keeps its slot; the always-replace slot holds the latest shallow store.
+    Assert.assertEquals(1, TranspositionTable.score(table.probe(deep)));
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(shallow));
+    Assert.assertEquals(3, TranspositionTable.score(table.probe(other)));
+    Assert.assertEquals(1, table.getMisses());
+    Assert.assertEquals(1, table.getCollisions());
+
+    table.clear();
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(deep));
+    Assert.assertEquals(0, table.getCollisions());
+  }
+
+  @Test
+  public void testSharedTableNeverReturnsMismatchedEntries() throws InterruptedException {
+    TranspositionTable table = new TranspositionTable(1);
+    AtomicInteger mismatches = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      long seed = t;
+      threads.add(new Thread(() -> {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 200_000; i++) {
+          // Many keys over 64 buckets, so that threads keep writing the same slots.
+          long key = random.nextInt(64) | (long) random.nextInt(1 << 10) << 52;
+          if (random.nextBoolean()) {
+            table.store(key, random.nextInt(8), scoreFor(key), TranspositionTable.EXACT, -1, -1);
+          } else {
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.MISS
+                    && TranspositionTable.score(entry) != scoreFor(key)) {
+              mismatches.incrementAndGet();
+            }
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(0, mismatches.get());
+  }
+
+  private static int scoreFor(long key) {
+    return (int) (key * 0x9e3779b97f4a7c15L >>> 40);
+  }
+}
@@ -0,0 +1,102 @@
+package tournament;
+
+import model.BitBoard;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.CaptureStrategy;
+import strategies.GoForCornersStrategy;
+import strategies.MinimaxStrategy;
+import strategies.Move;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for the Tournament and TournamentResult classes.
+ */
+public class TournamentTest {
+
+  @Test
+  public void testEveryPairingPlaysAllGames() {
+    TournamentResult result = squareTournament(2).run(6, 7);
+
+    Assert.assertEquals(3 * 6, result.getGameCount());
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        if (i != j) {
+          Assert.assertEquals(6, result.getWins(i, j) + result.getLosses(i, j)
+                  + result.getDraws(i, j));
+          Assert.assertEquals(result.getWins(i, j), result.getLosses(j, i));
+        }
+      }
+    }
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testSameSeedGivesSameResultsOnAnyNumberOfThreads() {
+    TournamentResult one = squareTournament(1).run(8, 3);
+    TournamentResult four = squareTournament(4).run(8, 3);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        Assert.assertEquals(one.getWins(i, j), four.getWins(i, j));
+        Assert.assertEquals(one.getDraws(i, j), four.getDraws(i, j));
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidMoveLosesTheGame() {
+    Move offBoard = new Move(-5, -5);
+    Assert.assertEquals(GamePlayers.White, Tournament.play(new SquareReversiGame(),
+            game -> offBoard, new CaptureStrategy(), new Random(1), 0));
+    Assert.assertEquals(GamePlayers.Black, Tournament.play(new ReversiGame(),
+            new CaptureStrategy(), game -> offBoard, new Random(1), 1));
+  }
+
+  @Test
+  public void testGameEndsAfterTwoPasses() {
+    // Both sides always pass, so the opening position is scored: two discs each.
+    Assert.assertNull(Tournament.play(new SquareReversiGame(), game -> null, game -> null,
+            new Random(1), 0));
+  }
+
+  @Test
+  public void testEloFollowsResults() {
+    String[] names = {"a", "b", "c"};
+    int[][] wins = {{0, 8, 10}, {2, 0, 6}, {0, 4, 0}};
+    int[][] draws = new int[3][3];
+    TournamentResult result = new TournamentResult(Arrays.asList(names), wins, draws,
+            1_000_000_000L);
+
+    double[] elo = result.getElo();
+    Assert.assertTrue(elo[0] > elo[1]);
+    Assert.assertTrue(elo[1] > elo[2]);
+    Assert.assertEquals(0, elo[0] + elo[1] + elo[2], 1e-6);
+    Assert.assertEquals(30, result.getGameCount());
+    Assert.assertEquals(30.0, result.getGamesPerSecond(), 1e-9);
+    Assert.assertTrue(result.toString().contains("10-0-0"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNeedsTwoEntrants() {
+    Tournament tournament = new Tournament(SquareReversiGame::new, 0, 1);
+    tournament.addEntrant("capture", CaptureStrategy::new);
+    tournament.run(2, 1);
+  }
+
+  /*
+   * Creates a tournament of three strategies on the 8x8 bit board.
+   */
+  private static Tournament squareTournament(int threads) {
+    Tournament tournament = new Tournament(() -> new SquareReversiGame(new BitBoard()), 4,
+            threads);
+    tournament.addEntrant("capture", CaptureStrategy::new);
+    tournament.addEntrant("corners", GoForCornersStrategy::new);
+    tournament.addEntrant("minimax", () -> new MinimaxStrategy(1, 1));
+    return tournament;
+  }
+}
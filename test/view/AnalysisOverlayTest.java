@@ -0,0 +1,106 @@
+package view;
+
+import model.HexCoordinate;
+import model.SquareReversiGame;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import strategies.Move;
+import strategies.MoveEvaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the AnalysisOverlay class.
+ */
+public class AnalysisOverlayTest {
+  private final BlockingQueue<Runnable> events = new LinkedBlockingQueue<>();
+  private final List<HexCoordinate> changed = new ArrayList<>();
+  private SquareReversiGame game;
+  private AnalysisOverlay overlay;
+
+  @Before
+  public void setUp() {
+    game = new SquareReversiGame();
+    game.setAiTurnHandler(g -> { });
+    overlay = new AnalysisOverlay(game, 2, events::add, changed::add);
+  }
+
+  @After
+  public void tearDown() {
+    overlay.shutdown();
+  }
+
+  @Test
+  public void testEvaluationsAreStreamedForEveryMove() throws InterruptedException {
+    overlay.setEnabled(true);
+    int expected = 2 * game.getValidMoves().size();
+    for (int i = 0; i < expected; i++) {
+      events.poll(5, TimeUnit.SECONDS).run();
+    }
+
+    for (Move move : game.getValidMoves()) {
+      MoveEvaluation evaluation = overlay.get(move.getQ(), move.getR());
+      Assert.assertEquals(move, evaluation.getMove());
+      Assert.assertEquals(2, evaluation.getDepth());
+    }
+    Assert.assertEquals(expected, changed.size());
+  }
+
+  @Test
+  public void testChangedPositionDropsTheOldAnalysis() throws InterruptedException {
+    overlay.setEnabled(true);
+    Runnable stale = events.poll(5, TimeUnit.SECONDS);
+
+    Move move = game.getValidMoves().get(0);
+    game.play(move.getQ(), move.getR());
+    stale.run();
+    Assert.assertTrue(changed.isEmpty());
+
+    // Runs the restart and the analysis of the new position until it is complete.
+    for (Runnable event = events.poll(5, TimeUnit.SECONDS); event != null;
+         event = events.poll(1, TimeUnit.SECONDS)) {
+      event.run();
+    }
+    for (Move next : game.getValidMoves()) {
+      MoveEvaluation evaluation = overlay.get(next.getQ(), next.getR());
+      Assert.assertEquals(2, evaluation.getDepth());
+    }
+  }
+
+  @Test
+  public void testDisablingForgetsTheEvaluations() throws InterruptedException {
+    overlay.setEnabled(true);
+    events.poll(5, TimeUnit.SECONDS).run();
+    Assert.assertEquals(1, changed.size());
+
+    overlay.setEnabled(false);
+    Assert.assertNull(overlay.get(changed.get(0).getQ(), changed.get(0).getR()));
+    Assert.assertEquals(2, changed.size());
+  }
+
+  @Test
+  public void testDisabledOverlayDoesNoWorkUntilEnabledAgain() throws InterruptedException {
+    Move move = game.getValidMoves().get(0);
+    game.play(move.getQ(), move.getR());
+    Assert.assertTrue(events.isEmpty());
+
+    overlay.setEnabled(true);
+    overlay.setEnabled(false);
+    events.clear();
+    game.playAiMove(null);
+    Assert.assertTrue(events.isEmpty());
+
+    overlay.setEnabled(true);
+    Runnable event = events.poll(5, TimeUnit.SECONDS);
+    Assert.assertNotNull(event);
+    event.run();
+    Move next = game.getValidMoves().get(0);
+    Assert.assertEquals(1, overlay.get(next.getQ(), next.getR()).getDepth());
+  }
+}
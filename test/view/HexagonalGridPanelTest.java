@@ -0,0 +1,186 @@
+package view;
+
+import controller.AiTurnScheduler;
+import model.Board;
+import model.CellState;
+import model.HexCoordinate;
+import model.ReversiGame;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.CaptureStrategy;
+import strategies.Move;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the incremental painting and the clicks of the HexagonalGridPanel class.
+ */
+public class HexagonalGridPanelTest {
+  private static final int WIDTH = 800;
+  private static final int HEIGHT = 1000;
+
+  private ReversiGame game;
+  private HexagonalGridPanel panel;
+  private HexGeometry geometry;
+
+  @Before
+  public void setUp() {
+    game = new ReversiGame();
+    panel = new HexagonalGridPanel(game);
+    panel.setSize(WIDTH, HEIGHT);
+    geometry = new HexGeometry(game.getBoardMap(), game.getBoardSize(), WIDTH, HEIGHT);
+  }
+
+  @Test
+  public void testGeometryNumbersEveryCell() {
+    Assert.assertEquals(game.getBoardMap().size(), geometry.getCount());
+    for (HexCoordinate coordinate : game.getBoardMap().keySet()) {
+      int index = geometry.indexOf(coordinate);
+      Assert.assertEquals(coordinate, geometry.getCoordinate(index));
+      Assert.assertTrue(geometry.getBounds(index)
+              .contains(geometry.getHexagon(index).getBounds()));
+    }
+    Assert.assertEquals(-1, geometry.indexOf(new HexCoordinate(-5, -5)));
+    Assert.assertTrue(geometry.fits(game.getBoardSize(), WIDTH, HEIGHT));
+    Assert.assertFalse(geometry.fits(game.getBoardSize(), WIDTH + 1, HEIGHT));
+  }
+
+  @Test
+  public void testHitTestingMatchesScanningEveryHexagon() {
+    for (int x = -20; x < WIDTH + 20; x += 3) {
+      for (int y = -20; y < HEIGHT + 20; y += 3) {
+        int expected = -1;
+        for (int i = 0; i < geometry.getCount() && expected < 0; i++) {
+          if (geometry.getHexagon(i).contains(x, y)) {
+            expected = i;
+          }
+        }
+        Assert.assertEquals(expected, geometry.indexAt(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testHitTestingFindsEveryCentre() {
+    for (int i = 0; i < geometry.getCount(); i++) {
+      Assert.assertEquals(i, geometry.indexAt(geometry.getCenterX(i), geometry.getCenterY(i)));
+    }
+  }
+
+  @Test
+  public void testPaintDrawsTheDiscs() {
+    Board board = game.getBoard();
+    board.move(2, 3, CellState.X);
+    board.move(3, 3, CellState.O);
+    board.move(4, 4, CellState.EMPTY);
+    BufferedImage image = paint(null);
+
+    Assert.assertEquals(Color.BLACK.getRGB(), pixelAt(image, new HexCoordinate(2, 3)));
+    Assert.assertEquals(Color.WHITE.getRGB(), pixelAt(image, new HexCoordinate(3, 3)));
+    Assert.assertEquals(Color.lightGray.getRGB(), pixelAt(image, new HexCoordinate(4, 4)));
+  }
+
+  @Test
+  public void testRepaintingTheDirtyCellMatchesAFullPaint() {
+    Board board = game.getBoard();
+    board.move(2, 3, CellState.X);
+    BufferedImage image = paint(null);
+
+    HexCoordinate changed = new HexCoordinate(3, 3);
+    board.move(3, 3, CellState.O);
+    Rectangle dirty = geometry.getBounds(geometry.indexOf(changed));
+    paintOver(image, dirty);
+
+    BufferedImage expected = paint(null);
+    for (int x = 0; x < WIDTH; x++) {
+      for (int y = 0; y < HEIGHT; y++) {
+        Assert.assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testClicksWaitForTheBackgroundAiTurn() throws InterruptedException {
+    BlockingQueue<Runnable> events = new LinkedBlockingQueue<>();
+    CountDownLatch release = new CountDownLatch(1);
+    AiTurnScheduler scheduler = new AiTurnScheduler(copy -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new CaptureStrategy().chooseMove(copy);
+    }, events::add);
+    game.setAiTurnHandler(scheduler);
+    try {
+      List<Move> moves = game.getValidMoves();
+      click(moves.get(0));
+      Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+      Assert.assertTrue(scheduler.isThinking());
+
+      // Black cannot move again while the AI player is thinking.
+      long afterBlack = game.getPositionHash();
+      click(moves.get(moves.size() - 1));
+      Assert.assertEquals(afterBlack, game.getPositionHash());
+      Assert.assertTrue(scheduler.isThinking());
+
+      release.countDown();
+      events.poll(5, TimeUnit.SECONDS).run();
+      Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+      Assert.assertNotEquals(afterBlack, game.getPositionHash());
+
+      long afterWhite = game.getPositionHash();
+      click(game.getValidMoves().get(0));
+      Assert.assertNotEquals(afterWhite, game.getPositionHash());
+      Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  /*
+   * Clicks the middle of the cell of a move.
+   */
+  private void click(Move move) {
+    int index = geometry.indexOf(new HexCoordinate(move.getQ(), move.getR()));
+    panel.mouseClicked(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED, 0, 0,
+            geometry.getCenterX(index), geometry.getCenterY(index), 1, false));
+  }
+
+  /*
+   * Paints the panel into a new image, clipped to the given region if it is not null.
+   */
+  private BufferedImage paint(Rectangle clip) {
+    BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    paintOver(image, clip);
+    return image;
+  }
+
+  /*
+   * Paints the panel over the given image, clipped to the given region if it is not null.
+   */
+  private void paintOver(BufferedImage image, Rectangle clip) {
+    Graphics2D g2d = image.createGraphics();
+    if (clip != null) {
+      g2d.setClip(clip);
+    }
+    panel.paintComponent(g2d);
+    g2d.dispose();
+  }
+
+  private int pixelAt(BufferedImage image, HexCoordinate coordinate) {
+    int index = geometry.indexOf(coordinate);
+    return image.getRGB(geometry.getCenterX(index), geometry.getCenterY(index));
+  }
+}
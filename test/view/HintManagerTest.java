@@ -0,0 +1,88 @@
+package view;
+
+import model.Board;
+import model.CellState;
+import model.Game;
+import model.HexCoordinate;
+import model.ReversiGame;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.Move;
+
+/**
+ * Tests for the HintManager class.
+ */
+public class HintManagerTest {
+
+  @Test
+  public void testCountsMatchTheFlipsOfPlayingTheMove() {
+    Game game = new SquareReversiGame();
+    HintManager hints = new HintManager(game);
+    for (int ply = 0; ply < 12 && !game.getValidMoves().isEmpty(); ply++) {
+      GamePlayers player = game.getCurrentPlayer();
+      CellState own = player.getCellState();
+      for (Move move : game.getValidMoves()) {
+        if (game.getCellState(move.getQ(), move.getR()) != CellState.EMPTY) {
+          continue;
+        }
+        Game copy = game.copy();
+        int before = copy.getBoard().getDiscCount(own);
+        copy.makeMove(move.getQ(), move.getR());
+        int flipped = copy.getBoard().getDiscCount(own) - before - 1;
+        Assert.assertEquals(flipped, hints.getFlippedPiecesCount(
+                new HexCoordinate(move.getQ(), move.getR()), player));
+      }
+      Move first = game.getValidMoves().get(0);
+      game.makeMove(first.getQ(), first.getR());
+    }
+  }
+
+  @Test
+  public void testCountingDoesNotChangeTheBoard() {
+    ReversiGame game = new ReversiGame();
+    Board board = game.getBoard();
+    board.move(2, 3, CellState.O);
+    board.move(2, 4, CellState.X);
+    long hash = board.getHash();
+    long modifications = board.getModificationCount();
+
+    HintManager hints = new HintManager(game);
+    Assert.assertEquals(1, hints.getFlippedPiecesCount(new HexCoordinate(2, 2),
+            GamePlayers.Black));
+    hints.handleHint();
+
+    Assert.assertEquals(hash, board.getHash());
+    Assert.assertEquals(modifications, board.getModificationCount());
+    Assert.assertEquals(1, hints.getFlippedPiecesCount(new HexCoordinate(2, 2),
+            GamePlayers.Black));
+  }
+
+  @Test
+  public void testCountsFollowTheBoard() {
+    Game game = new SquareReversiGame();
+    Board board = game.getBoard();
+    HintManager hints = new HintManager(game);
+    HexCoordinate corner = new HexCoordinate(0, 0);
+    Assert.assertEquals(0, hints.getFlippedPiecesCount(corner, GamePlayers.Black));
+
+    board.move(1, 1, CellState.O);
+    board.move(2, 2, CellState.O);
+    board.move(3, 3, CellState.X);
+    Assert.assertEquals(2, hints.getFlippedPiecesCount(corner, GamePlayers.Black));
+    Assert.assertEquals(0, hints.getFlippedPiecesCount(corner, GamePlayers.White));
+  }
+
+  @Test
+  public void testCellsOffTheBoardOrOccupiedFlipNothing() {
+    Game game = new SquareReversiGame();
+    HintManager hints = new HintManager(game);
+    Assert.assertEquals(0, hints.getFlippedPiecesCount(new HexCoordinate(-1, 3),
+            GamePlayers.Black));
+    Assert.assertEquals(0, hints.getFlippedPiecesCount(new HexCoordinate(3, 8),
+            GamePlayers.Black));
+    Assert.assertEquals(0, hints.getFlippedPiecesCount(new HexCoordinate(3, 3),
+            GamePlayers.Black));
+  }
+}
@@ -0,0 +1,163 @@
+package view;
+
+import controller.AiTurnScheduler;
+import model.Board;
+import model.CellState;
+import model.SquareReversiGame;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import player.GamePlayers;
+import strategies.CaptureStrategy;
+import strategies.Move;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the cached painting and the clicks of the SquareGridPanel class.
+ */
+public class SquareGridPanelTest {
+  private static final int WIDTH = 800;
+  private static final int HEIGHT = 800;
+  private static final int SQUARE = 80;
+  // Where the panel puts the top left square in an 800 pixel wide panel.
+  private static final int GRID_X = 180;
+  private static final int GRID_Y = 100;
+
+  private SquareReversiGame game;
+  private SquareGridPanel panel;
+
+  @Before
+  public void setUp() {
+    game = new SquareReversiGame();
+    panel = new SquareGridPanel(game);
+    panel.setSize(WIDTH, HEIGHT);
+  }
+
+  @Test
+  public void testPaintDrawsTheDiscs() {
+    Board board = game.getBoard();
+    board.move(2, 3, CellState.X);
+    board.move(3, 5, CellState.O);
+    board.move(6, 6, CellState.EMPTY);
+    BufferedImage image = paint(null);
+
+    Assert.assertEquals(Color.BLACK.getRGB(), discPixel(image, 2, 3));
+    Assert.assertEquals(Color.WHITE.getRGB(), discPixel(image, 3, 5));
+    Assert.assertEquals(Color.lightGray.getRGB(), discPixel(image, 6, 6));
+  }
+
+  @Test
+  public void testRepaintingTheDirtySquareMatchesAFullPaint() {
+    Board board = game.getBoard();
+    BufferedImage image = paint(null);
+
+    board.move(5, 1, CellState.O);
+    paintOver(image, new Rectangle(GRID_X + 5 * SQUARE - 1, GRID_Y + SQUARE - 1,
+            SQUARE + 3, SQUARE + 3));
+
+    BufferedImage expected = paint(null);
+    for (int x = 0; x < WIDTH; x++) {
+      for (int y = 0; y < HEIGHT; y++) {
+        Assert.assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testHoveredSquareIsHighlighted() {
+    int x = GRID_X + 7 * SQUARE + 10;
+    int y = GRID_Y + 2 * SQUARE + 5;
+    paint(null);
+    panel.mouseEntered(new MouseEvent(panel, MouseEvent.MOUSE_ENTERED, 0, 0, x, y, 0, false));
+    BufferedImage image = paint(null);
+
+    Assert.assertEquals(Color.CYAN.getRGB(), image.getRGB(x, y));
+    Assert.assertEquals(Color.lightGray.getRGB(), image.getRGB(x - SQUARE, y));
+  }
+
+  @Test
+  public void testClicksWaitForTheBackgroundAiTurn() throws InterruptedException {
+    BlockingQueue<Runnable> events = new LinkedBlockingQueue<>();
+    CountDownLatch release = new CountDownLatch(1);
+    AiTurnScheduler scheduler = new AiTurnScheduler(copy -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new CaptureStrategy().chooseMove(copy);
+    }, events::add);
+    game.setAiTurnHandler(scheduler);
+    try {
+      List<Move> moves = game.getValidMoves();
+      click(moves.get(0));
+      Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+      Assert.assertTrue(scheduler.isThinking());
+
+      // Black cannot move again while the AI player is thinking.
+      long afterBlack = game.getPositionHash();
+      click(moves.get(moves.size() - 1));
+      Assert.assertEquals(afterBlack, game.getPositionHash());
+      Assert.assertTrue(scheduler.isThinking());
+
+      release.countDown();
+      events.poll(5, TimeUnit.SECONDS).run();
+      Assert.assertEquals(GamePlayers.Black, game.getCurrentPlayer());
+      Assert.assertNotEquals(afterBlack, game.getPositionHash());
+
+      long afterWhite = game.getPositionHash();
+      click(game.getValidMoves().get(0));
+      Assert.assertNotEquals(afterWhite, game.getPositionHash());
+      Assert.assertEquals(GamePlayers.White, game.getCurrentPlayer());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  /*
+   * Clicks the middle of the square of a move.
+   */
+  private void click(Move move) {
+    panel.mouseClicked(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED, 0, 0,
+            GRID_X + move.getQ() * SQUARE + SQUARE / 2, GRID_Y + move.getR() * SQUARE + SQUARE / 2,
+            1, false));
+  }
+
+  /*
+   * Paints the panel into a new image, clipped to the given region if it is not null.
+   */
+  private BufferedImage paint(Rectangle clip) {
+    BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    paintOver(image, clip);
+    return image;
+  }
+
+  /*
+   * Paints the panel over the given image, clipped to the given region if it is not null.
+   */
+  private void paintOver(BufferedImage image, Rectangle clip) {
+    Graphics2D g2d = image.createGraphics();
+    if (clip != null) {
+      g2d.setClip(clip);
+    }
+    panel.paintComponent(g2d);
+    g2d.dispose();
+  }
+
+  /*
+   * The colour in the middle of the disc drawn in the given square.
+   */
+  private int discPixel(BufferedImage image, int q, int r) {
+    return image.getRGB(GRID_X + q * SQUARE + SQUARE / 2 - 5, GRID_Y + r * SQUARE + SQUARE / 2);
+  }
+}